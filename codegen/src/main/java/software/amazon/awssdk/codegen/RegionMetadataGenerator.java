@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import software.amazon.awssdk.codegen.emitters.PoetGeneratorTask;
+import software.amazon.awssdk.codegen.poet.regions.PartitionsClass;
+import software.amazon.awssdk.codegen.utils.ModelLoaderUtils;
+import software.amazon.awssdk.regions.internal.model.Partitions;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Generates the source of the regions module's GeneratedPartitions from an endpoints.json file.
+ *
+ * <p>The regions module cannot run the code generator during its own build, because the code generator depends on it. The
+ * generated class is checked in instead, and is regenerated with this tool whenever the regions module's endpoints.json is
+ * updated:</p>
+ *
+ * <pre>
+ * RegionMetadataGenerator core/regions/src/main/resources/software/amazon/awssdk/regions/internal/region/endpoints.json \
+ *                         core/regions/src/main/java
+ * </pre>
+ */
+public final class RegionMetadataGenerator {
+    private static final String FILE_HEADER = "/software/amazon/awssdk/codegen/DefaultFileHeader.txt";
+
+    private RegionMetadataGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: RegionMetadataGenerator <endpoints.json> <source directory>");
+        }
+
+        Partitions partitions = ModelLoaderUtils.loadModel(Partitions.class, new File(args[0]));
+        PartitionsClass partitionsClass = new PartitionsClass(partitions);
+        String packageDirectory = partitionsClass.className().packageName().replace('.', File.separatorChar);
+
+        new PoetGeneratorTask(new File(args[1], packageDirectory).getPath(), fileHeader(), partitionsClass).execute();
+    }
+
+    private static String fileHeader() throws IOException {
+        try (InputStream inputStream = RegionMetadataGenerator.class.getResourceAsStream(FILE_HEADER)) {
+            int currentYear = ZonedDateTime.now().getYear();
+            return IoUtils.toUtf8String(inputStream)
+                          .replaceFirst("%COPYRIGHT_DATE_RANGE%", String.format("%d-%d", currentYear - 5, currentYear));
+        }
+    }
+}
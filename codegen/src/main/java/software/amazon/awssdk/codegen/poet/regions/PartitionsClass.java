@@ -0,0 +1,224 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.regions;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.regions.internal.model.CredentialScope;
+import software.amazon.awssdk.regions.internal.model.Endpoint;
+import software.amazon.awssdk.regions.internal.model.Partition;
+import software.amazon.awssdk.regions.internal.model.PartitionRegion;
+import software.amazon.awssdk.regions.internal.model.Partitions;
+import software.amazon.awssdk.regions.internal.model.Service;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Generates the class that builds the regions module's {@link Partitions} in code, so that the SDK does not need to parse
+ * endpoints.json when it starts.
+ *
+ * <p>Each partition and each of its services is built by a method of its own, to stay well clear of the size limit on a
+ * single method.</p>
+ */
+public class PartitionsClass implements ClassSpec {
+    private static final ClassName CLASS_NAME = ClassName.get("software.amazon.awssdk.regions.internal", "GeneratedPartitions");
+    private static final TypeName STRING_LIST = ParameterizedTypeName.get(List.class, String.class);
+
+    private final Partitions partitions;
+    private final Set<String> methodNames = new HashSet<>();
+
+    public PartitionsClass(Partitions partitions) {
+        this.partitions = partitions;
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder builder =
+            PoetUtils.createClassBuilder(CLASS_NAME)
+                     .addAnnotation(SdkInternalApi.class)
+                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                     .addJavadoc("The partitions, regions and service endpoints from the endpoints.json bundled with the SDK, "
+                                 + "built in code so\nthat they can be loaded without parsing JSON.\n")
+                     .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build());
+
+        List<String> partitionMethods = partitions.getPartitions().stream()
+                                                  .map(p -> methodName(p.getPartition()))
+                                                  .collect(Collectors.toList());
+
+        builder.addMethod(MethodSpec.methodBuilder("partitions")
+                                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                    .returns(Partitions.class)
+                                    .addStatement("return new $T($S, $T.asList($L))", Partitions.class,
+                                                  partitions.getVersion(), Arrays.class,
+                                                  partitionMethods.stream().map(m -> m + "()")
+                                                                  .collect(Collectors.joining(", ")))
+                                    .build());
+
+        for (int i = 0; i < partitionMethods.size(); i++) {
+            Partition partition = partitions.getPartitions().get(i);
+            Map<String, String> serviceMethods = new LinkedHashMap<>();
+            partition.getServices().keySet()
+                     .forEach(s -> serviceMethods.put(s, methodName(partition.getPartition() + "-" + s)));
+
+            builder.addMethod(partitionMethod(partitionMethods.get(i), partition, serviceMethods));
+            partition.getServices()
+                     .forEach((name, service) -> builder.addMethod(serviceMethod(serviceMethods.get(name), service)));
+        }
+
+        return builder.addMethod(endpointMethod()).build();
+    }
+
+    @Override
+    public ClassName className() {
+        return CLASS_NAME;
+    }
+
+    private MethodSpec partitionMethod(String methodName, Partition partition, Map<String, String> serviceMethods) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+                                              .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                              .returns(Partition.class);
+
+        method.addStatement("$T<$T, $T> regions = new $T<>()", Map.class, String.class, PartitionRegion.class,
+                            LinkedHashMap.class);
+        partition.getRegions().forEach((name, region) -> {
+            method.addStatement("regions.put($S, new $T($S))", name, PartitionRegion.class, region.getDescription());
+        });
+
+        method.addStatement("$T<$T, $T> services = new $T<>()", Map.class, String.class, Service.class, LinkedHashMap.class);
+        serviceMethods.forEach((name, serviceMethod) -> method.addStatement("services.put($S, $L())", name, serviceMethod));
+
+        method.addStatement("$T partition = new $T($S, regions, services)", Partition.class, Partition.class,
+                            partition.getPartition());
+        addSetter(method, "partition", "setPartitionName", partition.getPartitionName());
+        addSetter(method, "partition", "setDnsSuffix", partition.getDnsSuffix());
+        addSetter(method, "partition", "setRegionRegex", partition.getRegionRegex());
+        if (partition.getDefaults() != null) {
+            method.addStatement("partition.setDefaults($L)", endpoint(partition.getDefaults()));
+        }
+        return method.addStatement("return partition").build();
+    }
+
+    private MethodSpec serviceMethod(String methodName, Service service) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+                                              .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                              .returns(Service.class);
+
+        method.addStatement("$T<$T, $T> endpoints = new $T<>()", Map.class, String.class, Endpoint.class, LinkedHashMap.class);
+        service.getEndpoints()
+               .forEach((name, endpoint) -> method.addStatement("endpoints.put($S, $L)", name, endpoint(endpoint)));
+
+        method.addStatement("$T service = new $T(endpoints)", Service.class, Service.class);
+        if (service.getDefaults() != null) {
+            method.addStatement("service.setDefaults($L)", endpoint(service.getDefaults()));
+        }
+        addSetter(method, "service", "setPartitionEndpoint", service.getPartitionEndpoint());
+        if (service.isRegionalized()) {
+            method.addStatement("service.setIsRegionalized(true)");
+        }
+        return method.addStatement("return service").build();
+    }
+
+    private MethodSpec endpointMethod() {
+        return MethodSpec.methodBuilder("endpoint")
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(Endpoint.class)
+                         .addParameter(String.class, "hostname")
+                         .addParameter(String.class, "credentialScopeRegion")
+                         .addParameter(String.class, "credentialScopeService")
+                         .addParameter(STRING_LIST, "protocols")
+                         .addParameter(STRING_LIST, "signatureVersions")
+                         .addParameter(String.class, "sslCommonName")
+                         .addStatement("$T endpoint = new $T()", Endpoint.class, Endpoint.class)
+                         .addStatement("endpoint.setHostname(hostname)")
+                         .beginControlFlow("if (credentialScopeRegion != null || credentialScopeService != null)")
+                         .addStatement("$T credentialScope = new $T()", CredentialScope.class, CredentialScope.class)
+                         .addStatement("credentialScope.setRegion(credentialScopeRegion)")
+                         .addStatement("credentialScope.setService(credentialScopeService)")
+                         .addStatement("endpoint.setCredentialScope(credentialScope)")
+                         .endControlFlow()
+                         .addStatement("endpoint.setProtocols(protocols)")
+                         .addStatement("endpoint.setSignatureVersions(signatureVersions)")
+                         .addStatement("endpoint.setSslCommonName(sslCommonName)")
+                         .addStatement("return endpoint")
+                         .build();
+    }
+
+    /**
+     * The expression that creates the provided endpoint. Most endpoints only list a region the service is available in,
+     * and are created with the no-argument constructor.
+     */
+    private CodeBlock endpoint(Endpoint endpoint) {
+        CredentialScope scope = endpoint.getCredentialScope();
+        if (endpoint.getHostname() == null && scope == null && endpoint.getProtocols() == null
+            && endpoint.getSignatureVersions() == null && endpoint.getSslCommonName() == null) {
+            return CodeBlock.of("new $T()", Endpoint.class);
+        }
+
+        return CodeBlock.of("endpoint($S, $S, $S, $L, $L, $S)",
+                            endpoint.getHostname(),
+                            scope == null ? null : scope.getRegion(),
+                            scope == null ? null : scope.getService(),
+                            stringList(endpoint.getProtocols()),
+                            stringList(endpoint.getSignatureVersions()),
+                            endpoint.getSslCommonName());
+    }
+
+    private CodeBlock stringList(List<String> values) {
+        if (values == null) {
+            return CodeBlock.of("null");
+        }
+        return CodeBlock.of("$T.asList($L)", Arrays.class,
+                            values.stream().map(v -> CodeBlock.of("$S", v)).collect(CodeBlock.joining(", ")));
+    }
+
+    private void addSetter(MethodSpec.Builder method, String target, String setter, String value) {
+        if (value != null) {
+            method.addStatement("$L.$L($S)", target, setter, value);
+        }
+    }
+
+    /**
+     * A unique method name for a partition or service, such as "awsUsGovApiPricing" for "aws-us-gov" and "api.pricing".
+     */
+    private String methodName(String name) {
+        String[] words = name.split("[^A-Za-z0-9]+");
+        StringBuilder methodName = new StringBuilder(StringUtils.lowerCase(words[0]));
+        for (int i = 1; i < words.length; i++) {
+            methodName.append(StringUtils.capitalize(StringUtils.lowerCase(words[i])));
+        }
+
+        String base = methodName.toString();
+        String unique = base;
+        for (int i = 2; !methodNames.add(unique); i++) {
+            unique = base + i;
+        }
+        return unique;
+    }
+}
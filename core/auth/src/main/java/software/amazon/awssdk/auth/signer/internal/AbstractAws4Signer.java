@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -54,10 +55,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE = Arrays.asList("connection", "x-amzn-trace-id");
 
+    /**
+     * Returns the signing key cache shared by all SigV4 signers. Its hit and miss counts show how often signing keys had to
+     * be derived.
+     */
+    public static SigningKeyCache signingKeyCache() {
+        return SIGNER_CACHE;
+    }
+
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
                                                 T signingParams) {
@@ -76,16 +84,21 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        final String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        final List<Map.Entry<String, List<String>>> canonicalHeaders = getCanonicalHeaders(mutableRequest.headers());
 
-        final String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        final String signedHeaders = getSignedHeadersString(canonicalHeaders);
+
+        final byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest, canonicalHeaders, signedHeaders,
+                                                                 contentSha256, signingParams.doubleUrlEncode());
+
+        final SigningBuffer stringToSign = createStringToSign(canonicalRequestHash, requestParams);
 
         final byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
         final byte[] signature = computeSignature(stringToSign, signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
-                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, mutableRequest));
+                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, signedHeaders));
 
         processRequestPayload(mutableRequest, signature, signingKey, requestParams, signingParams);
 
@@ -113,13 +126,19 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         // Add the important parameters for v4 signing
         final String timeStamp = requestParams.getFormattedSigningDateTime();
 
-        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, timeStamp, expirationInSeconds);
+        final List<Map.Entry<String, List<String>>> canonicalHeaders = getCanonicalHeaders(mutableRequest.headers());
+
+        final String signedHeaders = getSignedHeadersString(canonicalHeaders);
+
+        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, timeStamp, expirationInSeconds,
+                                       signedHeaders);
 
         final String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        final String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        final byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest, canonicalHeaders, signedHeaders,
+                                                                 contentSha256, signingParams.doubleUrlEncode());
 
-        final String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        final SigningBuffer stringToSign = createStringToSign(canonicalRequestHash, requestParams);
 
         final byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
@@ -170,27 +189,33 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * Step 1 of the AWS Signature version 4 calculation. Refer to
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
-     * generate the canonical request.
+     * generate the canonical request. The canonical request is built in this
+     * thread's {@link SigningBuffer} and only its hash is returned.
      */
-    private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
-                                          String contentSha256,
-                                          boolean doubleUrlEncode) {
-
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getSignedHeadersString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
+    private byte[] hashCanonicalRequest(SdkHttpFullRequest.Builder request,
+                                        List<Map.Entry<String, List<String>>> canonicalHeaders,
+                                        String signedHeaders,
+                                        String contentSha256,
+                                        boolean doubleUrlEncode) {
+
+        SigningBuffer buffer = SigningBuffer.get();
+        StringBuilder canonicalRequest = buffer.text();
+        canonicalRequest.append(request.method().toString())
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        // This would optionally double url-encode the resource path
+                        .append(getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode))
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(getCanonicalizedQueryString(request.rawQueryParameters()))
+                        .append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaders(canonicalRequest, canonicalHeaders);
+        canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
+                        .append(signedHeaders)
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(contentSha256);
 
         LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
-        return canonicalRequest;
+        int length = buffer.encode();
+        return hash(buffer.bytes(), 0, length);
     }
 
     /**
@@ -198,19 +223,21 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
      */
-    private String createStringToSign(String canonicalRequest,
-                                      Aws4SignerRequestParams requestParams) {
-
-        final String stringToSign = requestParams.getSigningAlgorithm() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getFormattedSigningDateTime() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getScope() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
+    private SigningBuffer createStringToSign(byte[] canonicalRequestHash,
+                                             Aws4SignerRequestParams requestParams) {
+
+        SigningBuffer buffer = SigningBuffer.get();
+        StringBuilder stringToSign = buffer.text();
+        stringToSign.append(requestParams.getSigningAlgorithm())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getFormattedSigningDateTime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getScope())
+                    .append(SignerConstant.LINE_SEPARATOR);
+        SigningBuffer.appendHex(stringToSign, canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
-        return stringToSign;
+        return buffer;
     }
 
     /**
@@ -222,43 +249,39 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private byte[] deriveSigningKey(AwsCredentials credentials,
                                     Aws4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials, signerRequestParams);
         final long daysSinceEpochSigningDate = numberOfDaysSinceEpoch(signerRequestParams.getSigningDateTimeMilli());
 
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && daysSinceEpochSigningDate == signerKey.getNumberOfDaysSinceEpoch()) {
-            return signerKey.getSigningKey();
+        byte[] signingKey = SIGNER_CACHE.get(credentials,
+                                             signerRequestParams.getRegionName(),
+                                             signerRequestParams.getServiceSigningName(),
+                                             daysSinceEpochSigningDate);
+        if (signingKey != null) {
+            return signingKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
                         TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
-        byte[] signingKey = newSigningKey(credentials,
-                                          signerRequestParams.getFormattedSigningDate(),
-                                          signerRequestParams.getRegionName(),
-                                          signerRequestParams.getServiceSigningName());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(daysSinceEpochSigningDate, signingKey));
+        signingKey = newSigningKey(credentials,
+                                   signerRequestParams.getFormattedSigningDate(),
+                                   signerRequestParams.getRegionName(),
+                                   signerRequestParams.getServiceSigningName());
+        SIGNER_CACHE.put(credentials,
+                         signerRequestParams.getRegionName(),
+                         signerRequestParams.getServiceSigningName(),
+                         daysSinceEpochSigningDate,
+                         signingKey);
         return signingKey;
     }
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private String computeSigningCacheKeyName(AwsCredentials credentials,
-                                              Aws4SignerRequestParams signerRequestParams) {
-        return credentials.secretAccessKey() + "-" + signerRequestParams.getRegionName() + "-" +
-               signerRequestParams.getServiceSigningName();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
      * http://docs.aws.amazon
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
-    private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
-                    SigningAlgorithm.HmacSHA256);
+    private byte[] computeSignature(SigningBuffer stringToSign, byte[] signingKey) {
+        int length = stringToSign.encode();
+        return sign(stringToSign.bytes(), 0, length, signingKey, SigningAlgorithm.HmacSHA256);
     }
 
     /**
@@ -267,15 +290,15 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String buildAuthorizationHeader(byte[] signature,
                                             AwsCredentials credentials,
                                             Aws4SignerRequestParams signerParams,
-                                            SdkHttpFullRequest.Builder mutableRequest) {
-
-        String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
-        String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" +
-                               getSignedHeadersString(mutableRequest.headers());
-        String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
-
-        return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
+                                            String signedHeaders) {
+
+        StringBuilder header = SigningBuffer.get().text();
+        header.append(SignerConstant.AWS4_SIGNING_ALGORITHM)
+              .append(" Credential=").append(credentials.accessKeyId()).append('/').append(signerParams.getScope())
+              .append(", SignedHeaders=").append(signedHeaders)
+              .append(", Signature=");
+        SigningBuffer.appendHex(header, signature);
+        return header.toString();
     }
 
     /**
@@ -285,33 +308,40 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                 AwsCredentials sanitizedCredentials,
                                                 Aws4SignerRequestParams signerParams,
                                                 String timeStamp,
-                                                long expirationInSeconds) {
+                                                long expirationInSeconds,
+                                                String signedHeaders) {
 
         String signingCredentials = sanitizedCredentials.accessKeyId() + "/" + signerParams.getScope();
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, SignerConstant.AWS4_SIGNING_ALGORITHM);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, timeStamp);
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER,
-                                            getSignedHeadersString(mutableRequest.headers()));
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER, signedHeaders);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
                                             Long.toString(expirationInSeconds));
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
     }
 
 
-    private String getCanonicalizedHeaderString(Map<String, List<String>> headers) {
-        final List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
+    /**
+     * Returns the headers to sign, keyed by their lower case names and sorted, so that the canonical headers and the signed
+     * headers can both be produced from a single pass over the request headers.
+     */
+    private List<Map.Entry<String, List<String>>> getCanonicalHeaders(Map<String, List<String>> headers) {
+        final List<Map.Entry<String, List<String>>> canonicalHeaders = new ArrayList<>(headers.size());
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            String key = lowerCase(header.getKey());
+            if (!LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(key)) {
+                canonicalHeaders.add(new AbstractMap.SimpleImmutableEntry<>(key, header.getValue()));
             }
-            String key = lowerCase(header);
+        }
+        canonicalHeaders.sort(Map.Entry.comparingByKey());
+        return canonicalHeaders;
+    }
 
-            for (String headerValue : headers.get(header)) {
-                appendCompactedString(buffer, key);
+    private void appendCanonicalizedHeaders(StringBuilder buffer, List<Map.Entry<String, List<String>>> canonicalHeaders) {
+        for (Map.Entry<String, List<String>> header : canonicalHeaders) {
+            for (String headerValue : header.getValue()) {
+                appendCompactedString(buffer, header.getKey());
                 buffer.append(":");
                 if (headerValue != null) {
                     appendCompactedString(buffer, headerValue);
@@ -319,8 +349,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 buffer.append("\n");
             }
         }
-
-        return buffer.toString();
     }
 
     /**
@@ -364,28 +392,18 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
     }
 
-    private String getSignedHeadersString(Map<String, List<String>> headers) {
-        final List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
+    private String getSignedHeadersString(List<Map.Entry<String, List<String>>> canonicalHeaders) {
         StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
+        for (Map.Entry<String, List<String>> header : canonicalHeaders) {
             if (buffer.length() > 0) {
                 buffer.append(";");
             }
-            buffer.append(lowerCase(header));
+            buffer.append(header.getKey());
         }
 
         return buffer.toString();
     }
 
-    private boolean shouldExcludeHeaderFromSigning(String header) {
-        return LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCase(header));
-    }
-
     private void addHostHeader(SdkHttpFullRequest.Builder mutableRequest) {
         // AWS4 requires that we sign the Host header so we
         // have to have it in the request by the time we sign.
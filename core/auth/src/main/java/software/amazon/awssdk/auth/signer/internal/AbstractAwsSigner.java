@@ -141,10 +141,19 @@ public abstract class AbstractAwsSigner implements Signer {
     }
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) throws SdkClientException {
+        return sign(data, 0, data.length, key, algorithm);
+    }
+
+    /**
+     * Computes an RFC 2104-compliant HMAC signature over {@code length} bytes of {@code data}, starting at {@code offset}.
+     */
+    protected byte[] sign(byte[] data, int offset, int length, byte[] key,
+                          SigningAlgorithm algorithm) throws SdkClientException {
         try {
             Mac mac = algorithm.getMac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
-            return mac.doFinal(data);
+            mac.update(data, offset, length);
+            return mac.doFinal();
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to calculate a request signature: " + e.getMessage())
@@ -192,9 +201,22 @@ public abstract class AbstractAwsSigner implements Signer {
      * @throws SdkClientException If the hash cannot be computed.
      */
     public byte[] hash(byte[] data) throws SdkClientException {
+        return hash(data, 0, data.length);
+    }
+
+    /**
+     * Hashes {@code length} bytes of the binary data, starting at {@code offset}, using the SHA-256 algorithm.
+     *
+     * @param data The binary data to hash.
+     * @param offset The position of the first byte to hash.
+     * @param length The number of bytes to hash.
+     * @return The hashed bytes from the specified range of data.
+     * @throws SdkClientException If the hash cannot be computed.
+     */
+    protected byte[] hash(byte[] data, int offset, int length) throws SdkClientException {
         try {
             MessageDigest md = getMessageDigestInstance();
-            md.update(data);
+            md.update(data, offset, length);
             return md.digest();
         } catch (Exception e) {
             throw SdkClientException.builder()
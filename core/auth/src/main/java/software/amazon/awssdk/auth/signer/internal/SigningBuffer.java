@@ -0,0 +1,134 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Per-thread scratch space used by {@link AbstractAws4Signer} to build the canonical request, the string to sign and the
+ * authorization header. Text is accumulated in a reusable {@link StringBuilder} and UTF-8 encoded into a reusable byte array,
+ * so it can be fed to a digest or MAC without creating intermediate Strings or byte arrays.
+ *
+ * <p>A buffer must not be used again by the same thread until the caller is done with the previous contents.</p>
+ */
+@SdkInternalApi
+final class SigningBuffer {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Buffers that grew beyond this size to sign an unusually large request are not kept around.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 32 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<SigningBuffer> BUFFERS = ThreadLocal.withInitial(SigningBuffer::new);
+
+    private StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+    private SigningBuffer() {
+    }
+
+    /**
+     * @return This thread's buffer, emptied.
+     */
+    static SigningBuffer get() {
+        SigningBuffer buffer = BUFFERS.get();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * @return The builder to write text into.
+     */
+    StringBuilder text() {
+        return text;
+    }
+
+    /**
+     * Discards the text written so far.
+     */
+    void clear() {
+        if (text.capacity() > MAX_RETAINED_CAPACITY) {
+            text = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * UTF-8 encodes the current text into {@link #bytes()}. Unpaired surrogates are replaced with '?', like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     *
+     * @return The number of bytes written.
+     */
+    int encode() {
+        int length = text.length();
+        ensureByteCapacity(length * 3);
+        byte[] out = bytes;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out[position++] = (byte) c;
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out[position++] = (byte) '?';
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * @return The array the last {@link #encode()} wrote into. Only the number of bytes it returned are valid.
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * Appends the lower case hex representation of the given bytes to the builder.
+     */
+    static void appendHex(StringBuilder destination, byte[] data) {
+        for (byte b : data) {
+            destination.append(HEX_DIGITS[(b >> 4) & 0xF]);
+            destination.append(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
+    private void ensureByteCapacity(int capacity) {
+        if (bytes.length < capacity) {
+            bytes = new byte[capacity];
+        } else if (bytes.length > MAX_RETAINED_CAPACITY && capacity <= INITIAL_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+
+/**
+ * A bounded, lock-free cache of SigV4 signing keys, keyed by credentials, region, service and signing day.
+ *
+ * <p>Entries are stored in a fixed-size table of slots addressed by a hash of the access key id, region, service and day, so
+ * a lookup neither takes a lock nor allocates a key. An entry may live in one of two adjacent slots; when both are taken, a
+ * new entry replaces the older of the two: the one for the earlier signing day, or the one cached first if both are for the
+ * same day. The table never grows, which bounds the number of cached keys to {@link #capacity()}.</p>
+ *
+ * <p>The secret access key is never copied into a cache key: it is only compared for equality with the secret the cached
+ * signing key was derived from.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final AtomicLong puts = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize The number of signing keys the cache should be able to hold. Rounded up to a power of two.
+     */
+    public SigningKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, maxSize) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the signing key derived for the given credentials, region, service and day, or null if it is not cached. The
+     * returned array is shared and must not be modified.
+     */
+    public byte[] get(AwsCredentials credentials, String regionName, String serviceName, long daysSinceEpoch) {
+        int index = indexFor(credentials, regionName, serviceName, daysSinceEpoch);
+        Entry entry = slots.get(index);
+        if (entry == null || !entry.matches(credentials, regionName, serviceName, daysSinceEpoch)) {
+            entry = slots.get((index + 1) & mask);
+            if (entry == null || !entry.matches(credentials, regionName, serviceName, daysSinceEpoch)) {
+                misses.increment();
+                return null;
+            }
+        }
+        hits.increment();
+        return entry.signingKey;
+    }
+
+    /**
+     * Caches the signing key derived for the given credentials, region, service and day, evicting the older of the entries in
+     * its two slots if both are taken.
+     */
+    public void put(AwsCredentials credentials, String regionName, String serviceName, long daysSinceEpoch,
+                    byte[] signingKey) {
+        Entry entry = new Entry(credentials, regionName, serviceName, daysSinceEpoch, signingKey, puts.getAndIncrement());
+        int first = indexFor(credentials, regionName, serviceName, daysSinceEpoch);
+        int second = (first + 1) & mask;
+        slots.set(slotFor(entry, first, second), entry);
+    }
+
+    /**
+     * Picks the slot to store an entry in: the slot already holding the same key if there is one, then an empty slot, and
+     * otherwise the slot holding the older entry.
+     */
+    private int slotFor(Entry entry, int first, int second) {
+        Entry inFirst = slots.get(first);
+        Entry inSecond = slots.get(second);
+        if (inFirst == null || inFirst.sameKeyAs(entry)) {
+            return first;
+        }
+        if (inSecond == null || inSecond.sameKeyAs(entry)) {
+            return second;
+        }
+        return inSecond.isOlderThan(inFirst) ? second : first;
+    }
+
+    /**
+     * Returns the number of lookups that found a signing key.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a signing key, each of which led to a new key being derived.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the current number of cached signing keys.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of signing keys the cache can hold.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private int indexFor(AwsCredentials credentials, String regionName, String serviceName, long daysSinceEpoch) {
+        int hash = credentials.accessKeyId().hashCode();
+        hash = 31 * hash + regionName.hashCode();
+        hash = 31 * hash + serviceName.hashCode();
+        hash = 31 * hash + Long.hashCode(daysSinceEpoch);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Entry {
+        private final String accessKeyId;
+        private final String secretAccessKey;
+        private final String regionName;
+        private final String serviceName;
+        private final long daysSinceEpoch;
+        private final byte[] signingKey;
+        private final long sequence;
+
+        private Entry(AwsCredentials credentials, String regionName, String serviceName, long daysSinceEpoch,
+                      byte[] signingKey, long sequence) {
+            this.accessKeyId = credentials.accessKeyId();
+            this.secretAccessKey = credentials.secretAccessKey();
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.signingKey = signingKey.clone();
+            this.sequence = sequence;
+        }
+
+        private boolean matches(AwsCredentials credentials, String regionName, String serviceName, long daysSinceEpoch) {
+            return this.daysSinceEpoch == daysSinceEpoch
+                   && this.accessKeyId.equals(credentials.accessKeyId())
+                   && this.regionName.equals(regionName)
+                   && this.serviceName.equals(serviceName)
+                   && this.secretAccessKey.equals(credentials.secretAccessKey());
+        }
+
+        private boolean sameKeyAs(Entry other) {
+            return this.daysSinceEpoch == other.daysSinceEpoch
+                   && this.accessKeyId.equals(other.accessKeyId)
+                   && this.regionName.equals(other.regionName)
+                   && this.serviceName.equals(other.serviceName)
+                   && this.secretAccessKey.equals(other.secretAccessKey);
+        }
+
+        private boolean isOlderThan(Entry other) {
+            if (this.daysSinceEpoch != other.daysSinceEpoch) {
+                return this.daysSinceEpoch < other.daysSinceEpoch;
+            }
+            return this.sequence < other.sequence;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class SigningBufferTest {
+
+    @Test
+    public void encodeMatchesStringGetBytes() {
+        assertEncodedAsUtf8("GET\n/\n\nhost:example.com\n");
+        assertEncodedAsUtf8("x-amz-meta-name:café 日本");
+        assertEncodedAsUtf8("emoji:😀");
+        assertEncodedAsUtf8("unpaired:\ud83d and \ude00");
+    }
+
+    @Test
+    public void encodeGrowsPastInitialCapacity() {
+        char[] chars = new char[5000];
+        Arrays.fill(chars, '€');
+        assertEncodedAsUtf8(new String(chars));
+        assertEncodedAsUtf8("short");
+    }
+
+    @Test
+    public void getReturnsAnEmptyBuffer() {
+        SigningBuffer.get().text().append("leftover");
+        assertThat(SigningBuffer.get().text().length()).isZero();
+    }
+
+    @Test
+    public void appendHexMatchesBinaryUtils() {
+        byte[] data = {0, 1, 0x7f, (byte) 0x80, (byte) 0xab, (byte) 0xff};
+        StringBuilder hex = new StringBuilder();
+        SigningBuffer.appendHex(hex, data);
+        assertThat(hex.toString()).isEqualTo(BinaryUtils.toHex(data));
+    }
+
+    private void assertEncodedAsUtf8(String text) {
+        SigningBuffer buffer = SigningBuffer.get();
+        buffer.text().append(text);
+        int length = buffer.encode();
+        assertThat(Arrays.copyOf(buffer.bytes(), length)).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+
+public class SigningKeyCacheTest {
+
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("akid", "skid");
+    private static final byte[] KEY = {1, 2, 3};
+
+    @Test
+    public void returnsCachedKeyAndCountsHitsAndMisses() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "s3", 17000)).isNull();
+
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17000, KEY);
+
+        assertThat(cache.get(AwsBasicCredentials.create("akid", "skid"), "us-east-1", "s3", 17000)).isEqualTo(KEY);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void keyIsScopedToCredentialsRegionServiceAndDay() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17000, KEY);
+
+        assertThat(cache.get(AwsBasicCredentials.create("akid", "other"), "us-east-1", "s3", 17000)).isNull();
+        assertThat(cache.get(AwsBasicCredentials.create("other", "skid"), "us-east-1", "s3", 17000)).isNull();
+        assertThat(cache.get(CREDENTIALS, "us-west-2", "s3", 17000)).isNull();
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "sqs", 17000)).isNull();
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "s3", 17001)).isNull();
+        assertThat(cache.missCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void cachedKeyIsACopy() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        byte[] key = KEY.clone();
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17000, key);
+        key[0] = 42;
+
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "s3", 17000)).isEqualTo(KEY);
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        assertThat(cache.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(CREDENTIALS, "us-east-1", "service" + i, 17000, KEY);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(cache.capacity());
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "service99", 17000)).isEqualTo(KEY);
+    }
+
+    @Test
+    public void fullSlots_evictEntryForEarlierDay() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17001, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "sqs", 17000, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "sns", 17001, KEY);
+
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "s3", 17001)).isEqualTo(KEY);
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "sqs", 17000)).isNull();
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "sns", 17001)).isEqualTo(KEY);
+    }
+
+    @Test
+    public void fullSlots_evictEntryCachedFirstForSameDay() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17000, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "sqs", 17000, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "sns", 17000, KEY);
+
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "s3", 17000)).isNull();
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "sqs", 17000)).isEqualTo(KEY);
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "sns", 17000)).isEqualTo(KEY);
+    }
+
+    @Test
+    public void puttingCachedKeyAgain_doesNotEvictOtherEntry() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17000, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "sqs", 17000, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "s3", 17000, KEY);
+        cache.put(CREDENTIALS, "us-east-1", "sqs", 17000, KEY);
+
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "s3", 17000)).isEqualTo(KEY);
+        assertThat(cache.get(CREDENTIALS, "us-east-1", "sqs", 17000)).isEqualTo(KEY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxSizeMustBePositive() {
+        new SigningKeyCache(0);
+    }
+}
@@ -102,11 +102,22 @@ public abstract class AwsDefaultClientBuilder<BuilderT extends AwsClientBuilder<
         SdkClientConfiguration config = mergeServiceDefaults(configuration);
         return config.merge(c -> c.option(AwsClientOption.AWS_REGION, resolveRegion(config))
                                   .option(AwsAdvancedClientOption.ENABLE_DEFAULT_REGION_DETECTION, true)
-                                  .option(AwsClientOption.CREDENTIALS_PROVIDER, DefaultCredentialsProvider.create())
+                                  .option(AwsClientOption.CREDENTIALS_PROVIDER, defaultCredentialsProvider())
                                   .option(SdkClientOption.RETRY_POLICY, AwsRetryPolicy.defaultRetryPolicy())
                                   .option(AwsClientOption.SERVICE_SIGNING_NAME, signingName()));
     }
 
+    /**
+     * Resolve the credentials provider used when none is configured. Clients built with the same shared resources share one
+     * provider and its cached credentials. It is wrapped so that it is closed with the shared resources instead of with the
+     * first client to be closed.
+     */
+    private AwsCredentialsProvider defaultCredentialsProvider() {
+        return sharedResources().map(r -> r.resource(DefaultCredentialsProvider.class, DefaultCredentialsProvider::create))
+                                .<AwsCredentialsProvider>map(provider -> provider::resolveCredentials)
+                                .orElseGet(DefaultCredentialsProvider::create);
+    }
+
     /**
      * Optionally overridden by child classes to define service-specific default configuration.
      */
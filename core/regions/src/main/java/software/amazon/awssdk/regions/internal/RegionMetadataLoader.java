@@ -27,19 +27,17 @@ import software.amazon.awssdk.regions.internal.model.Partitions;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
- * Loads all the partition files into memory.
+ * Loads all the partition metadata into memory.
+ *
+ * <p>The partition metadata bundled with the SDK is compiled into {@link GeneratedPartitions}, so that it can be loaded
+ * without parsing JSON. A partitions file on the class path at {@link #PARTITIONS_OVERRIDE_RESOURCE_PATH} is parsed and
+ * used instead, if present.</p>
  */
 @SdkInternalApi
 public final class RegionMetadataLoader {
 
     private static volatile PartitionMetadataProvider provider;
 
-    /**
-     * class path from where all partition files are loaded.
-     */
-    private static final String PARTITIONS_RESOURCE_PATH =
-            "software/amazon/awssdk/regions/internal/region/endpoints.json";
-
     /**
      * override class path from where all partition files are loaded.
      */
@@ -56,7 +54,7 @@ public final class RegionMetadataLoader {
 
     /**
      * Loads the partition files from the {@link #PARTITIONS_OVERRIDE_RESOURCE_PATH}. If no files are present, then
-     * loads the partition files from the {@link #PARTITIONS_RESOURCE_PATH}
+     * loads the partitions bundled with the SDK from {@link GeneratedPartitions}
      * <p>
      * Builds the {@link RegionMetadata} from the partition files.
      */
@@ -85,13 +83,7 @@ public final class RegionMetadataLoader {
             provider = new PartitionMetadataProvider(
                     loadPartitionFromStream(stream, PARTITIONS_OVERRIDE_RESOURCE_PATH).getPartitions());
         } else {
-            stream = CLASS_LOADER.getResourceAsStream(PARTITIONS_RESOURCE_PATH);
-            if (stream == null) {
-                throw SdkClientException.builder()
-                                        .message("Unable to load partition metadata from " + PARTITIONS_RESOURCE_PATH)
-                                        .build();
-            }
-            provider = new PartitionMetadataProvider(loadPartitionFromStream(stream, PARTITIONS_RESOURCE_PATH).getPartitions());
+            provider = new PartitionMetadataProvider(GeneratedPartitions.partitions().getPartitions());
         }
     }
 
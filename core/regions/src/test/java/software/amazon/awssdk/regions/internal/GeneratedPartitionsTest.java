@@ -0,0 +1,41 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import java.io.InputStream;
+import org.junit.Test;
+import software.amazon.awssdk.regions.internal.model.Partitions;
+
+/**
+ * Verifies that {@link GeneratedPartitions} was regenerated after the last change to the bundled endpoints.json.
+ */
+public class GeneratedPartitionsTest {
+    private static final String PARTITIONS_RESOURCE_PATH = "software/amazon/awssdk/regions/internal/region/endpoints.json";
+
+    @Test
+    public void generatedPartitionsMatchBundledEndpointsFile() throws Exception {
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(PARTITIONS_RESOURCE_PATH)) {
+            Partitions expected = JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                                          .with(JSON.Feature.USE_IS_GETTERS)
+                                          .beanFrom(Partitions.class, stream);
+
+            assertThat(GeneratedPartitions.partitions()).isEqualToComparingFieldByFieldRecursively(expected);
+        }
+    }
+}
@@ -17,7 +17,6 @@ package software.amazon.awssdk.core;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
@@ -25,6 +24,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ByteArrayBackedInputStream;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.Validate;
 
@@ -79,7 +79,7 @@ abstract class BytesWrapper {
      * @return The output as an input stream. This stream will not need to be closed.
      */
     public final InputStream asInputStream() {
-        return new ByteArrayInputStream(bytes);
+        return new ByteArrayBackedInputStream(bytes);
     }
 
     @Override
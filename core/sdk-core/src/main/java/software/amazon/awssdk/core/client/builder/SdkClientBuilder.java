@@ -19,6 +19,7 @@ import java.net.URI;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkSharedResources;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
 /**
@@ -50,4 +51,13 @@ public interface SdkClientBuilder<B extends SdkClientBuilder<B, C>, C> extends S
      * Configure the endpoint with which the SDK should communicate.
      */
     B endpointOverride(URI endpointOverride);
+
+    /**
+     * Configure the resources this client should share with every other client built with them, such as HTTP clients and
+     * executors, instead of creating its own. Anything configured directly on this builder takes precedence over the shared
+     * resources.
+     *
+     * <p>The client holds a reference to the shared resources until it is closed, so they are not closed before it is.</p>
+     */
+    B sharedResources(SdkSharedResources sharedResources);
 }
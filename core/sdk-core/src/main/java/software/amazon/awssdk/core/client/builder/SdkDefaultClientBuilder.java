@@ -16,15 +16,24 @@
 package software.amazon.awssdk.core.client.builder;
 
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_RETRY_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CIRCUIT_BREAKER_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CLIENT_EXECUTION_TIMER;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CONCURRENCY_LIMIT_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.REQUEST_COALESCING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.SHARED_RESOURCES_REFERENCE;
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
@@ -34,22 +43,22 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
-import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.FutureCompletionExecutors;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.client.config.SdkSharedResources;
+import software.amazon.awssdk.core.client.config.SharedClientResourcesBridge;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.client.config.SharedClientResources;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
+import software.amazon.awssdk.core.internal.util.HashedWheelScheduler;
 import software.amazon.awssdk.core.internal.util.UserAgentUtils;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.AbortableCallable;
@@ -65,7 +74,8 @@ import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
 import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
-import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.utils.OptionalUtils;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -97,6 +107,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     private SdkHttpClient.Builder httpClientBuilder;
     private SdkAsyncHttpClient.Builder asyncHttpClientBuilder;
+    private SdkSharedResources sharedResources;
 
     protected SdkDefaultClientBuilder() {
         this(DEFAULT_HTTP_CLIENT_BUILDER, DEFAULT_ASYNC_HTTP_CLIENT_BUILDER);
@@ -216,7 +227,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private SdkClientConfiguration finalizeAsyncConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
                      .option(FUTURE_COMPLETION_EXECUTOR, resolveAsyncFutureCompletionExecutor(config))
-                     .option(ASYNC_RETRY_EXECUTOR_SERVICE, resolveAsyncRetryExecutorService())
+                     .option(ASYNC_RETRY_EXECUTOR_SERVICE, resolveAsyncRetryExecutorService(config))
                      .option(ASYNC_HTTP_CLIENT, resolveAsyncHttpClient(config))
                      .build();
     }
@@ -225,9 +236,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize global configuration from the default-applied configuration.
      */
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
-        return config.toBuilder()
-                     .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
-                     .build();
+        SdkClientConfiguration.Builder builder = config.toBuilder()
+                                                       .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config));
+        sharedResources().ifPresent(r -> builder.option(CLIENT_EXECUTION_TIMER, r.clientExecutionTimer())
+                                                .option(SHARED_RESOURCES_REFERENCE, r.acquire()));
+        return builder.build();
     }
 
     /**
@@ -239,7 +252,10 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
         return Either.fromNullable(config.option(SdkClientOption.SYNC_HTTP_CLIENT), httpClientBuilder)
                      .map(e -> e.map(NonManagedSdkHttpClient::new, b -> b.buildWithDefaults(childHttpConfig())))
-                     .orElseGet(() -> defaultHttpClientBuilder.buildWithDefaults(childHttpConfig()));
+                     .orElseGet(() -> sharedResources().flatMap(SharedClientResources::httpClient)
+                                                       .<SdkHttpClient>map(NonManagedSdkHttpClient::new)
+                                                       .orElseGet(() -> defaultHttpClientBuilder.buildWithDefaults(
+                                                           childHttpConfig())));
     }
 
     /**
@@ -250,7 +266,10 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                         "The asyncHttpClient and the asyncHttpClientBuilder can't both be configured.");
         return Either.fromNullable(config.option(ASYNC_HTTP_CLIENT), asyncHttpClientBuilder)
                      .map(e -> e.map(NonManagedSdkAsyncHttpClient::new, b -> b.buildWithDefaults(childHttpConfig())))
-                     .orElseGet(() -> defaultAsyncHttpClientBuilder.buildWithDefaults(childHttpConfig()));
+                     .orElseGet(() -> sharedResources().flatMap(SharedClientResources::asyncHttpClient)
+                                                       .<SdkAsyncHttpClient>map(NonManagedSdkAsyncHttpClient::new)
+                                                       .orElseGet(() -> defaultAsyncHttpClientBuilder.buildWithDefaults(
+                                                           childHttpConfig())));
     }
 
     /**
@@ -264,28 +283,30 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize which async executor service will be used for the created client.
      */
     private Executor resolveAsyncFutureCompletionExecutor(SdkClientConfiguration config) {
-        Supplier<Executor> defaultExecutor = () ->
-                new ThreadPoolExecutor(0, 50,
-                                       10, TimeUnit.SECONDS,
-                                       new LinkedBlockingQueue<>(10_000),
-                                       new ThreadFactoryBuilder().threadNamePrefix("sdk-async-response").build());
-
-        return Optional.ofNullable(config.option(FUTURE_COMPLETION_EXECUTOR))
-                       .orElseGet(defaultExecutor);
+        return OptionalUtils.firstPresent(Optional.ofNullable(config.option(FUTURE_COMPLETION_EXECUTOR)),
+                                          () -> sharedResources().flatMap(SharedClientResources::futureCompletionExecutor)
+                                                                 .map(FutureCompletionExecutors::unmanaged))
+                            .orElseGet(FutureCompletionExecutors::shared);
     }
 
     /**
-     * Finalize which async executor service will be used for retries in the created client.
+     * Finalize which async executor service will be used for retries and timeouts in the created client. By default, this is
+     * the scheduler shared by all clients in the process.
      */
-    private ScheduledExecutorService resolveAsyncRetryExecutorService() {
-        return Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder().threadNamePrefix("sdk-retry").build());
+    private ScheduledExecutorService resolveAsyncRetryExecutorService(SdkClientConfiguration config) {
+        return OptionalUtils.firstPresent(Optional.ofNullable(config.option(ASYNC_RETRY_EXECUTOR_SERVICE)),
+                                          () -> sharedResources().flatMap(SharedClientResources::scheduledExecutorService)
+                                                                 .map(ExecutorUtils::unmanagedScheduledExecutor))
+                            .orElseGet(HashedWheelScheduler::shared);
     }
 
     /**
      * Finalize which execution interceptors will be used for the created client.
      */
     private List<ExecutionInterceptor> resolveExecutionInterceptors(SdkClientConfiguration config) {
-        List<ExecutionInterceptor> globalInterceptors = new ClasspathInterceptorChainFactory().getGlobalInterceptors();
+        List<ExecutionInterceptor> globalInterceptors =
+            sharedResources().map(SharedClientResources::globalInterceptors)
+                             .orElseGet(() -> new ClasspathInterceptorChainFactory().getGlobalInterceptors());
         return mergeLists(globalInterceptors, config.option(EXECUTION_INTERCEPTORS));
     }
 
@@ -301,6 +322,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     public final B asyncConfiguration(ClientAsyncConfiguration asyncConfiguration) {
         clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR, asyncConfiguration.advancedOption(FUTURE_COMPLETION_EXECUTOR));
+        clientConfiguration.option(ASYNC_RETRY_EXECUTOR_SERVICE, asyncConfiguration.advancedOption(SCHEDULED_EXECUTOR_SERVICE));
         return thisBuilder();
     }
 
@@ -312,6 +334,12 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     public final B overrideConfiguration(ClientOverrideConfiguration overrideConfig) {
         clientConfiguration.option(EXECUTION_INTERCEPTORS, overrideConfig.executionInterceptors());
         clientConfiguration.option(RETRY_POLICY, overrideConfig.retryPolicy().orElse(null));
+        clientConfiguration.option(HEDGING_POLICY, overrideConfig.hedgingPolicy().orElse(null));
+        clientConfiguration.option(CIRCUIT_BREAKER_POLICY, overrideConfig.circuitBreakerPolicy().orElse(null));
+        clientConfiguration.option(CONCURRENCY_LIMIT_POLICY, overrideConfig.concurrencyLimitPolicy().orElse(null));
+        clientConfiguration.option(REQUEST_COALESCING_POLICY, overrideConfig.requestCoalescingPolicy().orElse(null));
+        clientConfiguration.option(API_CALL_TIMEOUT, overrideConfig.apiCallTimeout().orElse(null));
+        clientConfiguration.option(API_CALL_ATTEMPT_TIMEOUT, overrideConfig.apiCallAttemptTimeout().orElse(null));
         clientConfiguration.option(ADDITIONAL_HTTP_HEADERS, overrideConfig.headers());
         clientConfiguration.option(SIGNER, overrideConfig.advancedOption(SIGNER).orElse(null));
         clientConfiguration.option(USER_AGENT_SUFFIX, overrideConfig.advancedOption(USER_AGENT_SUFFIX).orElse(null));
@@ -343,6 +371,23 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         return thisBuilder();
     }
 
+    @Override
+    public final B sharedResources(SdkSharedResources sharedResources) {
+        this.sharedResources = sharedResources;
+        return thisBuilder();
+    }
+
+    public final void setSharedResources(SdkSharedResources sharedResources) {
+        sharedResources(sharedResources);
+    }
+
+    /**
+     * The resources configured to be shared with other clients, if any.
+     */
+    protected final Optional<SharedClientResources> sharedResources() {
+        return Optional.ofNullable(sharedResources).map(SharedClientResourcesBridge::resourcesOf);
+    }
+
     /**
      * Return "this" for method chaining.
      */
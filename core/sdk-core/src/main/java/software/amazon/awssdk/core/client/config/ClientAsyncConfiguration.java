@@ -16,9 +16,11 @@
 package software.amazon.awssdk.core.client.config;
 
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.SCHEDULED_EXECUTOR_SERVICE;
 
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -89,7 +91,10 @@ public final class ClientAsyncConfiguration
         public <T> Builder advancedOption(SdkAdvancedAsyncClientOption<T> option, T value) {
             if (option == FUTURE_COMPLETION_EXECUTOR) {
                 Executor executor = FUTURE_COMPLETION_EXECUTOR.convertValue(value);
-                this.advancedOptions.put(FUTURE_COMPLETION_EXECUTOR, ExecutorUtils.unmanagedExecutor(executor));
+                this.advancedOptions.put(FUTURE_COMPLETION_EXECUTOR, FutureCompletionExecutors.unmanaged(executor));
+            } else if (option == SCHEDULED_EXECUTOR_SERVICE) {
+                ScheduledExecutorService scheduler = SCHEDULED_EXECUTOR_SERVICE.convertValue(value);
+                this.advancedOptions.put(SCHEDULED_EXECUTOR_SERVICE, ExecutorUtils.unmanagedScheduledExecutor(scheduler));
             } else {
                 this.advancedOptions.put(option, value);
             }
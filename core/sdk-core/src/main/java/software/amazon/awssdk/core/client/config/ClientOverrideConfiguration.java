@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.client.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,7 +26,12 @@ import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ClientExecutionTimeoutException;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.core.retry.ConcurrencyLimitPolicy;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -45,6 +51,12 @@ public final class ClientOverrideConfiguration
     implements ToCopyableBuilder<ClientOverrideConfiguration.Builder, ClientOverrideConfiguration> {
     private final Map<String, List<String>> headers;
     private final RetryPolicy retryPolicy;
+    private final HedgingPolicy hedgingPolicy;
+    private final CircuitBreakerPolicy circuitBreakerPolicy;
+    private final ConcurrencyLimitPolicy concurrencyLimitPolicy;
+    private final RequestCoalescingPolicy requestCoalescingPolicy;
+    private final Duration apiCallTimeout;
+    private final Duration apiCallAttemptTimeout;
     private final List<ExecutionInterceptor> executionInterceptors;
     private final AttributeMap advancedOptions;
 
@@ -54,6 +66,14 @@ public final class ClientOverrideConfiguration
     private ClientOverrideConfiguration(Builder builder) {
         this.headers = CollectionUtils.deepUnmodifiableMap(builder.headers(), () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
         this.retryPolicy = builder.retryPolicy();
+        this.hedgingPolicy = builder.hedgingPolicy();
+        this.circuitBreakerPolicy = builder.circuitBreakerPolicy();
+        this.concurrencyLimitPolicy = builder.concurrencyLimitPolicy();
+        this.requestCoalescingPolicy = builder.requestCoalescingPolicy();
+        this.apiCallTimeout = builder.apiCallTimeout() == null
+                              ? null : Validate.isPositive(builder.apiCallTimeout(), "apiCallTimeout");
+        this.apiCallAttemptTimeout = builder.apiCallAttemptTimeout() == null
+                                     ? null : Validate.isPositive(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
         this.executionInterceptors = Collections.unmodifiableList(new ArrayList<>(builder.executionInterceptors()));
         this.advancedOptions = builder.advancedOptions();
     }
@@ -63,6 +83,12 @@ public final class ClientOverrideConfiguration
         return new DefaultClientOverrideConfigurationBuilder().advancedOptions(advancedOptions.toBuilder())
                                                               .headers(headers)
                                                               .retryPolicy(retryPolicy)
+                                                              .hedgingPolicy(hedgingPolicy)
+                                                              .circuitBreakerPolicy(circuitBreakerPolicy)
+                                                              .concurrencyLimitPolicy(concurrencyLimitPolicy)
+                                                              .requestCoalescingPolicy(requestCoalescingPolicy)
+                                                              .apiCallTimeout(apiCallTimeout)
+                                                              .apiCallAttemptTimeout(apiCallAttemptTimeout)
                                                               .executionInterceptors(executionInterceptors);
     }
 
@@ -94,6 +120,66 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(retryPolicy);
     }
 
+    /**
+     * The optional policy for hedging slow requests made with an async client. Hedging is disabled when this is not set.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(hedgingPolicy);
+    }
+
+    /**
+     * The optional policy for the circuit breaker kept for each endpoint the client sends requests to. Circuit breaking is
+     * disabled when this is not set.
+     *
+     * @see Builder#circuitBreakerPolicy(CircuitBreakerPolicy)
+     */
+    public Optional<CircuitBreakerPolicy> circuitBreakerPolicy() {
+        return Optional.ofNullable(circuitBreakerPolicy);
+    }
+
+    /**
+     * The optional policy for limiting how many API calls an async client has in flight at once. Concurrency is only limited
+     * by the HTTP client when this is not set.
+     *
+     * @see Builder#concurrencyLimitPolicy(ConcurrencyLimitPolicy)
+     */
+    public Optional<ConcurrencyLimitPolicy> concurrencyLimitPolicy() {
+        return Optional.ofNullable(concurrencyLimitPolicy);
+    }
+
+    /**
+     * The optional policy for coalescing identical API calls made while one of them is in flight, and for briefly caching
+     * their responses. Every API call is made when this is not set.
+     *
+     * @see Builder#requestCoalescingPolicy(RequestCoalescingPolicy)
+     */
+    public Optional<RequestCoalescingPolicy> requestCoalescingPolicy() {
+        return Optional.ofNullable(requestCoalescingPolicy);
+    }
+
+    /**
+     * The optional amount of time an async API call, including every retry and the backoff between them, may take before it
+     * fails with a {@link ClientExecutionTimeoutException}. The API call does not time out when this is not set.
+     *
+     * @see Builder#apiCallTimeout(Duration)
+     */
+    public Optional<Duration> apiCallTimeout() {
+        return Optional.ofNullable(apiCallTimeout);
+    }
+
+    /**
+     * The optional amount of time a single HTTP attempt of an async API call may take before it is aborted and fails with an
+     * {@link ApiCallAttemptTimeoutException}, which is retried like any other retryable failure. Attempts do not time out when
+     * this is not set.
+     *
+     * @see Builder#apiCallAttemptTimeout(Duration)
+     */
+    public Optional<Duration> apiCallAttemptTimeout() {
+        return Optional.ofNullable(apiCallAttemptTimeout);
+    }
+
     /**
      * Load the optional requested advanced option that was configured on the client builder.
      *
@@ -117,6 +203,12 @@ public final class ClientOverrideConfiguration
         return ToString.builder("ClientOverrideConfiguration")
                        .add("headers", headers)
                        .add("retryPolicy", retryPolicy)
+                       .add("hedgingPolicy", hedgingPolicy)
+                       .add("circuitBreakerPolicy", circuitBreakerPolicy)
+                       .add("concurrencyLimitPolicy", concurrencyLimitPolicy)
+                       .add("requestCoalescingPolicy", requestCoalescingPolicy)
+                       .add("apiCallTimeout", apiCallTimeout)
+                       .add("apiCallAttemptTimeout", apiCallAttemptTimeout)
                        .add("executionInterceptors", executionInterceptors)
                        .add("advancedOptions", advancedOptions)
                        .build();
@@ -185,6 +277,88 @@ public final class ClientOverrideConfiguration
             return retryPolicy(RetryPolicy.builder().applyMutation(retryPolicy).build());
         }
 
+        /**
+         * Configure the policy for hedging slow requests made with an async client.
+         *
+         * @see ClientOverrideConfiguration#hedgingPolicy()
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        HedgingPolicy hedgingPolicy();
+
+        /**
+         * Configure the policy for hedging slow requests made with an async client.
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        /**
+         * Configure the policy for the circuit breaker kept for each endpoint the client sends requests to.
+         *
+         * @see ClientOverrideConfiguration#circuitBreakerPolicy()
+         */
+        Builder circuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy);
+
+        CircuitBreakerPolicy circuitBreakerPolicy();
+
+        /**
+         * Configure the policy for the circuit breaker kept for each endpoint the client sends requests to.
+         */
+        default Builder circuitBreakerPolicy(Consumer<CircuitBreakerPolicy.Builder> circuitBreakerPolicy) {
+            return circuitBreakerPolicy(CircuitBreakerPolicy.builder().applyMutation(circuitBreakerPolicy).build());
+        }
+
+        /**
+         * Configure the policy for limiting how many API calls an async client has in flight at once.
+         *
+         * @see ClientOverrideConfiguration#concurrencyLimitPolicy()
+         */
+        Builder concurrencyLimitPolicy(ConcurrencyLimitPolicy concurrencyLimitPolicy);
+
+        ConcurrencyLimitPolicy concurrencyLimitPolicy();
+
+        /**
+         * Configure the policy for limiting how many API calls an async client has in flight at once.
+         */
+        default Builder concurrencyLimitPolicy(Consumer<ConcurrencyLimitPolicy.Builder> concurrencyLimitPolicy) {
+            return concurrencyLimitPolicy(ConcurrencyLimitPolicy.builder().applyMutation(concurrencyLimitPolicy).build());
+        }
+
+        /**
+         * Configure the policy for coalescing identical API calls and caching their responses.
+         *
+         * @see ClientOverrideConfiguration#requestCoalescingPolicy()
+         */
+        Builder requestCoalescingPolicy(RequestCoalescingPolicy requestCoalescingPolicy);
+
+        RequestCoalescingPolicy requestCoalescingPolicy();
+
+        /**
+         * Configure the policy for coalescing identical API calls and caching their responses.
+         */
+        default Builder requestCoalescingPolicy(Consumer<RequestCoalescingPolicy.Builder> requestCoalescingPolicy) {
+            return requestCoalescingPolicy(RequestCoalescingPolicy.builder().applyMutation(requestCoalescingPolicy).build());
+        }
+
+        /**
+         * Configure the amount of time an async API call, including every retry, may take.
+         *
+         * @see ClientOverrideConfiguration#apiCallTimeout()
+         */
+        Builder apiCallTimeout(Duration apiCallTimeout);
+
+        Duration apiCallTimeout();
+
+        /**
+         * Configure the amount of time a single HTTP attempt of an async API call may take.
+         *
+         * @see ClientOverrideConfiguration#apiCallAttemptTimeout()
+         */
+        Builder apiCallAttemptTimeout(Duration apiCallAttemptTimeout);
+
+        Duration apiCallAttemptTimeout();
+
         /**
          * Configure a list of execution interceptors that will have access to read and modify the request and response objcets as
          * they are processed by the SDK. These will replace any interceptors configured previously with this method or
@@ -249,6 +423,12 @@ public final class ClientOverrideConfiguration
     private static final class DefaultClientOverrideConfigurationBuilder implements Builder {
         private Map<String, List<String>> headers = new HashMap<>();
         private RetryPolicy retryPolicy;
+        private HedgingPolicy hedgingPolicy;
+        private CircuitBreakerPolicy circuitBreakerPolicy;
+        private ConcurrencyLimitPolicy concurrencyLimitPolicy;
+        private RequestCoalescingPolicy requestCoalescingPolicy;
+        private Duration apiCallTimeout;
+        private Duration apiCallAttemptTimeout;
         private List<ExecutionInterceptor> executionInterceptors = new ArrayList<>();
         private AttributeMap.Builder advancedOptions = AttributeMap.builder();
 
@@ -291,6 +471,96 @@ public final class ClientOverrideConfiguration
             return retryPolicy;
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return hedgingPolicy;
+        }
+
+        @Override
+        public Builder circuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+            this.circuitBreakerPolicy = circuitBreakerPolicy;
+            return this;
+        }
+
+        public void setCircuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+            circuitBreakerPolicy(circuitBreakerPolicy);
+        }
+
+        @Override
+        public CircuitBreakerPolicy circuitBreakerPolicy() {
+            return circuitBreakerPolicy;
+        }
+
+        @Override
+        public Builder concurrencyLimitPolicy(ConcurrencyLimitPolicy concurrencyLimitPolicy) {
+            this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+            return this;
+        }
+
+        public void setConcurrencyLimitPolicy(ConcurrencyLimitPolicy concurrencyLimitPolicy) {
+            concurrencyLimitPolicy(concurrencyLimitPolicy);
+        }
+
+        @Override
+        public ConcurrencyLimitPolicy concurrencyLimitPolicy() {
+            return concurrencyLimitPolicy;
+        }
+
+        @Override
+        public Builder requestCoalescingPolicy(RequestCoalescingPolicy requestCoalescingPolicy) {
+            this.requestCoalescingPolicy = requestCoalescingPolicy;
+            return this;
+        }
+
+        public void setRequestCoalescingPolicy(RequestCoalescingPolicy requestCoalescingPolicy) {
+            requestCoalescingPolicy(requestCoalescingPolicy);
+        }
+
+        @Override
+        public RequestCoalescingPolicy requestCoalescingPolicy() {
+            return requestCoalescingPolicy;
+        }
+
+        @Override
+        public Builder apiCallTimeout(Duration apiCallTimeout) {
+            this.apiCallTimeout = apiCallTimeout;
+            return this;
+        }
+
+        public void setApiCallTimeout(Duration apiCallTimeout) {
+            apiCallTimeout(apiCallTimeout);
+        }
+
+        @Override
+        public Duration apiCallTimeout() {
+            return apiCallTimeout;
+        }
+
+        @Override
+        public Builder apiCallAttemptTimeout(Duration apiCallAttemptTimeout) {
+            this.apiCallAttemptTimeout = apiCallAttemptTimeout;
+            return this;
+        }
+
+        public void setApiCallAttemptTimeout(Duration apiCallAttemptTimeout) {
+            apiCallAttemptTimeout(apiCallAttemptTimeout);
+        }
+
+        @Override
+        public Duration apiCallAttemptTimeout() {
+            return apiCallAttemptTimeout;
+        }
+
         @Override
         public Builder executionInterceptors(List<ExecutionInterceptor> executionInterceptors) {
             Validate.paramNotNull(executionInterceptors, "executionInterceptors");
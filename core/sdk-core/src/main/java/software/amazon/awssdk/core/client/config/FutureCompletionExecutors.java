@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The executors an async client can complete its {@link CompletableFuture}s with, configured with
+ * {@link SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR}.
+ */
+@SdkPublicApi
+public final class FutureCompletionExecutors {
+    private static final Logger log = Logger.loggerFor(FutureCompletionExecutors.class);
+
+    /**
+     * How long a callback may run on the I/O thread before it is reported as blocking, when debug logging is enabled.
+     */
+    private static final Duration BLOCKING_THRESHOLD = Duration.ofMillis(10);
+
+    private FutureCompletionExecutors() {
+    }
+
+    /**
+     * Complete futures directly on the async HTTP client's I/O thread. This avoids a thread handoff for every response, but
+     * the callbacks chained on the returned futures then run on the I/O thread as well, so they must never block. A callback
+     * that blocks stalls every other request served by the same thread.
+     *
+     * <p>When debug logging is enabled for this class, each completion is timed and a warning is logged for any that runs for
+     * longer than 10 milliseconds, to help find blocking callbacks.</p>
+     */
+    public static Executor direct() {
+        return DirectExecutor.INSTANCE;
+    }
+
+    /**
+     * Complete futures on a work-stealing pool with one thread per available processor, shared by every client in the process
+     * that uses it. This is the default. Clients never shut the shared pool down.
+     *
+     * <p>Callbacks that block should be chained with an {@code *Async} method and an executor of their own, so that they do
+     * not hold on to one of the pool's few threads.</p>
+     */
+    public static Executor shared() {
+        return SharedPoolHolder.SHARED_POOL;
+    }
+
+    /**
+     * Wrap an executor configured by the customer so that the client never shuts it down. {@link #direct()} holds no resources,
+     * so it is returned as is, which lets the SDK recognize it.
+     */
+    @SdkInternalApi
+    public static Executor unmanaged(Executor executor) {
+        return executor == DirectExecutor.INSTANCE ? executor : ExecutorUtils.unmanagedExecutor(executor);
+    }
+
+    /**
+     * Whether the given executor runs tasks on the calling thread, as {@link #direct()} does.
+     */
+    @SdkInternalApi
+    public static boolean isDirect(Executor executor) {
+        return executor == DirectExecutor.INSTANCE;
+    }
+
+    private static final class DirectExecutor implements Executor {
+        private static final DirectExecutor INSTANCE = new DirectExecutor();
+
+        @Override
+        public void execute(Runnable command) {
+            if (!log.logger().isDebugEnabled()) {
+                command.run();
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                command.run();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed > BLOCKING_THRESHOLD.toNanos()) {
+                    log.warn(() -> "A future completion callback ran for " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms on "
+                                   + Thread.currentThread().getName() + ". With the direct future completion executor, "
+                                   + "callbacks run on the HTTP client's I/O thread and must not block.");
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "FutureCompletionExecutors.direct()";
+        }
+    }
+
+    private static final class SharedPoolHolder {
+        private static final Executor SHARED_POOL = ExecutorUtils.unmanagedExecutor(createSharedPool());
+
+        private static ForkJoinPool createSharedPool() {
+            ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("sdk-async-response-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), threadFactory, null, true);
+        }
+    }
+}
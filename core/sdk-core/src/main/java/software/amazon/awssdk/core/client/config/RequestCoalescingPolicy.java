@@ -0,0 +1,202 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Opt-in policy for coalescing identical API calls, configured with
+ * {@link ClientOverrideConfiguration.Builder#requestCoalescingPolicy(RequestCoalescingPolicy)}.
+ *
+ * <p>Only requests of the {@link #cacheableRequestTypes()} are coalesced, and these should be read-only operations. When such
+ * a request is made while an equal request is already in flight on the same client, no second call is made: both callers get
+ * the result of the first call, whether it succeeds or fails. Requests are compared with {@link Object#equals(Object)}, which
+ * takes every request field into account, including its override configuration.</p>
+ *
+ * <p>When {@link #responseCacheTtl()} is positive, a successful response is also returned to equal requests made within that
+ * long after it was received. At most {@link #maxCacheSize()} requests are remembered, and the least recently used are
+ * evicted first. Errors are never cached.</p>
+ *
+ * <p>Callers whose request is coalesced share a single execution of the first caller's request, so the execution
+ * interceptors only run for that request. Calls with a streaming request or response are never coalesced.</p>
+ */
+@Immutable
+@SdkPublicApi
+public final class RequestCoalescingPolicy
+    implements ToCopyableBuilder<RequestCoalescingPolicy.Builder, RequestCoalescingPolicy> {
+    private static final int DEFAULT_MAX_CACHE_SIZE = 1000;
+
+    private final Set<Class<? extends SdkRequest>> cacheableRequestTypes;
+    private final Duration responseCacheTtl;
+    private final int maxCacheSize;
+
+    private RequestCoalescingPolicy(BuilderImpl builder) {
+        this.cacheableRequestTypes = Collections.unmodifiableSet(new LinkedHashSet<>(builder.cacheableRequestTypes));
+        this.responseCacheTtl = Validate.isNotNegative(builder.responseCacheTtl, "responseCacheTtl");
+        this.maxCacheSize = Validate.isPositive(builder.maxCacheSize, "maxCacheSize");
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The types of request that may be coalesced.
+     */
+    public Set<Class<? extends SdkRequest>> cacheableRequestTypes() {
+        return cacheableRequestTypes;
+    }
+
+    /**
+     * How long a successful response is returned to equal requests after it was received. Zero when responses are only
+     * shared with requests made while the call was in flight.
+     */
+    public Duration responseCacheTtl() {
+        return responseCacheTtl;
+    }
+
+    /**
+     * The maximum number of in-flight and cached requests remembered for coalescing.
+     */
+    public int maxCacheSize() {
+        return maxCacheSize;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().cacheableRequestTypes(cacheableRequestTypes)
+                        .responseCacheTtl(responseCacheTtl)
+                        .maxCacheSize(maxCacheSize);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("RequestCoalescingPolicy")
+                       .add("cacheableRequestTypes", cacheableRequestTypes)
+                       .add("responseCacheTtl", responseCacheTtl)
+                       .add("maxCacheSize", maxCacheSize)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, RequestCoalescingPolicy> {
+        /**
+         * Configure the types of request that may be coalesced, replacing any configured previously. These should only be
+         * requests for read-only operations.
+         */
+        Builder cacheableRequestTypes(Collection<Class<? extends SdkRequest>> cacheableRequestTypes);
+
+        /**
+         * Add a type of request that may be coalesced. This should only be a request for a read-only operation.
+         */
+        Builder addCacheableRequestType(Class<? extends SdkRequest> cacheableRequestType);
+
+        Set<Class<? extends SdkRequest>> cacheableRequestTypes();
+
+        /**
+         * Configure how long a successful response is returned to equal requests after it was received. Defaults to zero,
+         * which only shares responses with requests made while the call was in flight.
+         */
+        Builder responseCacheTtl(Duration responseCacheTtl);
+
+        Duration responseCacheTtl();
+
+        /**
+         * Configure the maximum number of in-flight and cached requests remembered for coalescing. Defaults to 1000.
+         */
+        Builder maxCacheSize(int maxCacheSize);
+
+        int maxCacheSize();
+
+        RequestCoalescingPolicy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private final Set<Class<? extends SdkRequest>> cacheableRequestTypes = new LinkedHashSet<>();
+        private Duration responseCacheTtl = Duration.ZERO;
+        private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder cacheableRequestTypes(Collection<Class<? extends SdkRequest>> cacheableRequestTypes) {
+            this.cacheableRequestTypes.clear();
+            this.cacheableRequestTypes.addAll(cacheableRequestTypes);
+            return this;
+        }
+
+        public void setCacheableRequestTypes(Collection<Class<? extends SdkRequest>> cacheableRequestTypes) {
+            cacheableRequestTypes(cacheableRequestTypes);
+        }
+
+        @Override
+        public Builder addCacheableRequestType(Class<? extends SdkRequest> cacheableRequestType) {
+            this.cacheableRequestTypes.add(Validate.paramNotNull(cacheableRequestType, "cacheableRequestType"));
+            return this;
+        }
+
+        @Override
+        public Set<Class<? extends SdkRequest>> cacheableRequestTypes() {
+            return Collections.unmodifiableSet(cacheableRequestTypes);
+        }
+
+        @Override
+        public Builder responseCacheTtl(Duration responseCacheTtl) {
+            this.responseCacheTtl = responseCacheTtl;
+            return this;
+        }
+
+        public void setResponseCacheTtl(Duration responseCacheTtl) {
+            responseCacheTtl(responseCacheTtl);
+        }
+
+        @Override
+        public Duration responseCacheTtl() {
+            return responseCacheTtl;
+        }
+
+        @Override
+        public Builder maxCacheSize(int maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        public void setMaxCacheSize(int maxCacheSize) {
+            maxCacheSize(maxCacheSize);
+        }
+
+        @Override
+        public int maxCacheSize() {
+            return maxCacheSize;
+        }
+
+        @Override
+        public RequestCoalescingPolicy build() {
+            return new RequestCoalescingPolicy(this);
+        }
+    }
+}
@@ -17,7 +17,7 @@ package software.amazon.awssdk.core.client.config;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
 /**
@@ -34,13 +34,23 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     /**
      * Configure the executor that should be used to complete the {@link CompletableFuture} that is returned by the service
-     * clients. By default, this is an the {@link ExecutorService} managed by the SDK. {@link Executor#execute(Runnable)} is
-     * invoked by the async HTTP client's thread, so {@code Runnable::run} will complete the future on a non-blocking async
-     * thread.
+     * clients. {@link Executor#execute(Runnable)} is invoked by the async HTTP client's thread.
+     *
+     * <p>By default, futures are completed on {@link FutureCompletionExecutors#shared()}, a work-stealing pool shared by every
+     * client in the process. Use {@link FutureCompletionExecutors#direct()} to complete futures on the HTTP client's I/O thread
+     * without a thread handoff, when none of the callbacks chained on them block.</p>
      */
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Configure the scheduler that should be used to delay async retry attempts and to enforce async timeouts. By default,
+     * every client in the process shares a single timing-wheel scheduler managed by the SDK. Tasks submitted to the scheduler
+     * are short and non-blocking. The client will not shut down a scheduler configured with this option.
+     */
+    public static final SdkAdvancedAsyncClientOption<ScheduledExecutorService> SCHEDULED_EXECUTOR_SERVICE =
+            new SdkAdvancedAsyncClientOption<>(ScheduledExecutorService.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
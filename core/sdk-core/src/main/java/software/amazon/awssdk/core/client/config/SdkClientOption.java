@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.client.config;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
@@ -25,9 +26,14 @@ import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.core.retry.ConcurrencyLimitPolicy;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * A set of internal options required by the SDK via {@link SdkClientConfiguration}.
@@ -45,6 +51,39 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<RetryPolicy> RETRY_POLICY = new SdkClientOption<>(RetryPolicy.class);
 
+    /**
+     * @see ClientOverrideConfiguration#hedgingPolicy()
+     */
+    public static final SdkClientOption<HedgingPolicy> HEDGING_POLICY = new SdkClientOption<>(HedgingPolicy.class);
+
+    /**
+     * @see ClientOverrideConfiguration#circuitBreakerPolicy()
+     */
+    public static final SdkClientOption<CircuitBreakerPolicy> CIRCUIT_BREAKER_POLICY =
+            new SdkClientOption<>(CircuitBreakerPolicy.class);
+
+    /**
+     * @see ClientOverrideConfiguration#concurrencyLimitPolicy()
+     */
+    public static final SdkClientOption<ConcurrencyLimitPolicy> CONCURRENCY_LIMIT_POLICY =
+            new SdkClientOption<>(ConcurrencyLimitPolicy.class);
+
+    /**
+     * @see ClientOverrideConfiguration#requestCoalescingPolicy()
+     */
+    public static final SdkClientOption<RequestCoalescingPolicy> REQUEST_COALESCING_POLICY =
+            new SdkClientOption<>(RequestCoalescingPolicy.class);
+
+    /**
+     * @see ClientOverrideConfiguration#apiCallTimeout()
+     */
+    public static final SdkClientOption<Duration> API_CALL_TIMEOUT = new SdkClientOption<>(Duration.class);
+
+    /**
+     * @see ClientOverrideConfiguration#apiCallAttemptTimeout()
+     */
+    public static final SdkClientOption<Duration> API_CALL_ATTEMPT_TIMEOUT = new SdkClientOption<>(Duration.class);
+
     /**
      * @see ClientOverrideConfiguration#executionInterceptors()
      */
@@ -70,7 +109,9 @@ public final class SdkClientOption<T> extends ClientOption<T> {
         new SdkClientOption<>(Boolean.class);
 
     /**
-     * The executor used for scheduling async retry attempts.
+     * The executor used for scheduling async retry attempts and async timeouts.
+     *
+     * @see SdkAdvancedAsyncClientOption#SCHEDULED_EXECUTOR_SERVICE
      */
     public static final SdkClientOption<ScheduledExecutorService> ASYNC_RETRY_EXECUTOR_SERVICE =
             new SdkClientOption<>(ScheduledExecutorService.class);
@@ -87,6 +128,20 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<SdkHttpClient> SYNC_HTTP_CLIENT =
             new SdkClientOption<>(SdkHttpClient.class);
 
+    /**
+     * The timer used to enforce the client execution timeout. When absent, the client creates a timer of its own.
+     *
+     * @see SdkSharedResources
+     */
+    public static final SdkClientOption<ClientExecutionTimer> CLIENT_EXECUTION_TIMER =
+            new SdkClientOption<>(ClientExecutionTimer.class);
+
+    /**
+     * The client's reference to the {@link SdkSharedResources} it was built with, released when the client is closed.
+     */
+    public static final SdkClientOption<SdkAutoCloseable> SHARED_RESOURCES_REFERENCE =
+            new SdkClientOption<>(SdkAutoCloseable.class);
+
     private SdkClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.internal.client.config.SharedClientResources;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Resources that can be shared by many service clients, configured with {@link SdkClientBuilder#sharedResources}. Clients
+ * built with the same instance share its HTTP clients, executors, timeout timer, global interceptors and, for AWS clients,
+ * the default credentials provider, instead of each creating their own.
+ *
+ * <p>The resources are reference counted. This object holds one reference and every client built with it holds another.
+ * Everything given to the builder is owned by this object, and is closed once {@link #close()} has been called and every
+ * client built with it has been closed, in any order.</p>
+ *
+ * <pre>
+ * try (SdkSharedResources shared = SdkSharedResources.builder().httpClient(ApacheHttpClient.builder().build()).build()) {
+ *     for (Region region : regions) {
+ *         clients.add(DynamoDBClient.builder().region(region).sharedResources(shared).build());
+ *     }
+ * }
+ * // The HTTP client is closed when the last DynamoDB client is closed.
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class SdkSharedResources implements SdkAutoCloseable {
+    private final SharedClientResources resources;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private SdkSharedResources(DefaultBuilder builder) {
+        this.resources = new SharedClientResources(builder.httpClient,
+                                                   builder.asyncHttpClient,
+                                                   builder.futureCompletionExecutor,
+                                                   builder.scheduledExecutorService);
+    }
+
+    /**
+     * Create a {@link Builder}, used to configure the resources that should be shared.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create shared resources with no HTTP clients or executors of their own. Clients built with them still share their
+     * timeout timer, global interceptors and default credentials provider.
+     */
+    public static SdkSharedResources create() {
+        return builder().build();
+    }
+
+    /**
+     * The resources clients built with this object share, reached through {@link SharedClientResourcesBridge}.
+     */
+    SharedClientResources resources() {
+        return resources;
+    }
+
+    /**
+     * Release the reference held by this object. The resources are closed now if no client built with them is still open,
+     * or when the last of them is closed otherwise. Calling this more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            resources.release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return resources.toString();
+    }
+
+    /**
+     * A builder for {@link SdkSharedResources}. Everything configured here becomes owned by the built object.
+     */
+    public interface Builder extends SdkBuilder<Builder, SdkSharedResources> {
+        /**
+         * Configure the sync HTTP client that every sync client built with these resources should use. It is closed with
+         * these resources.
+         */
+        Builder httpClient(SdkHttpClient httpClient);
+
+        /**
+         * Configure the async HTTP client that every async client built with these resources should use. It is closed with
+         * these resources.
+         */
+        Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient);
+
+        /**
+         * Configure the executor that async clients built with these resources complete their futures on. If it is an
+         * {@link ExecutorService}, it is shut down with these resources.
+         *
+         * @see SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR
+         */
+        Builder futureCompletionExecutor(Executor futureCompletionExecutor);
+
+        /**
+         * Configure the executor that async clients built with these resources schedule retries and timeouts on. It is shut
+         * down with these resources.
+         *
+         * @see SdkAdvancedAsyncClientOption#SCHEDULED_EXECUTOR_SERVICE
+         */
+        Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private SdkHttpClient httpClient;
+        private SdkAsyncHttpClient asyncHttpClient;
+        private Executor futureCompletionExecutor;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        @Override
+        public Builder httpClient(SdkHttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public void setHttpClient(SdkHttpClient httpClient) {
+            httpClient(httpClient);
+        }
+
+        @Override
+        public Builder asyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            this.asyncHttpClient = asyncHttpClient;
+            return this;
+        }
+
+        public void setAsyncHttpClient(SdkAsyncHttpClient asyncHttpClient) {
+            asyncHttpClient(asyncHttpClient);
+        }
+
+        @Override
+        public Builder futureCompletionExecutor(Executor futureCompletionExecutor) {
+            this.futureCompletionExecutor = futureCompletionExecutor;
+            return this;
+        }
+
+        public void setFutureCompletionExecutor(Executor futureCompletionExecutor) {
+            futureCompletionExecutor(futureCompletionExecutor);
+        }
+
+        @Override
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public void setScheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            scheduledExecutorService(scheduledExecutorService);
+        }
+
+        @Override
+        public SdkSharedResources build() {
+            return new SdkSharedResources(this);
+        }
+    }
+}
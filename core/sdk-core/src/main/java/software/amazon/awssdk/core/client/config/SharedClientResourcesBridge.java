@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.client.config.SharedClientResources;
+
+/**
+ * Gives the client builders access to the {@link SharedClientResources} behind an {@link SdkSharedResources}, without
+ * exposing them on the public class.
+ */
+@SdkInternalApi
+public final class SharedClientResourcesBridge {
+    private SharedClientResourcesBridge() {
+    }
+
+    /**
+     * The resources shared by the clients built with the given {@link SdkSharedResources}.
+     */
+    public static SharedClientResources resourcesOf(SdkSharedResources sharedResources) {
+        return sharedResources.resources();
+    }
+}
@@ -16,6 +16,8 @@
 package software.amazon.awssdk.core.client.handler;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
@@ -29,15 +31,20 @@ import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.http.JsonResponseHandler;
+import software.amazon.awssdk.core.internal.async.ByteArrayAsyncRequestBody;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.Crc32Validation;
+import software.amazon.awssdk.core.internal.http.async.NonBlockingJsonResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SyncResponseHandlerAdapter;
 import software.amazon.awssdk.core.internal.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
 import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
 import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -59,15 +66,17 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     @Override
     public <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
-        ExecutionContext executionContext = createExecutionContext(executionParams.getInput());
-
-        HttpResponseHandler<OutputT> decoratedResponseHandlers =
-            decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
+        if (isCoalescable(executionParams)) {
+            return coalesce(executionParams.getInput(), () -> doExecute(executionParams));
+        }
+        return doExecute(executionParams);
+    }
 
-        SdkHttpResponseHandler<OutputT> sdkHttpResponseHandler =
-            new SyncResponseHandlerAdapter<>(decoratedResponseHandlers, crc32Validator, executionContext.executionAttributes());
+    private <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> doExecute(
+        ClientExecutionParams<InputT, OutputT> executionParams) {
+        ExecutionContext executionContext = createExecutionContext(executionParams.getInput());
 
-        return execute(executionParams, executionContext, sdkHttpResponseHandler);
+        return execute(executionParams, executionContext, resolveResponseHandler(executionParams, executionContext));
     }
 
     @Override
@@ -120,6 +129,31 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         client.close();
     }
 
+    /**
+     * JSON responses are tokenized as they arrive when the protocol supports it. Other responses are buffered and handed to
+     * the {@link HttpResponseHandler} once complete.
+     *
+     * @return Async handler for successful responses.
+     */
+    @SuppressWarnings("unchecked")
+    private <OutputT extends SdkResponse> SdkHttpResponseHandler<OutputT> resolveResponseHandler(
+        ClientExecutionParams<?, OutputT> executionParams,
+        ExecutionContext executionContext) {
+        HttpResponseHandler<OutputT> responseHandler = executionParams.getResponseHandler();
+
+        if (responseHandler instanceof JsonResponseHandler &&
+            ((JsonResponseHandler<OutputT>) responseHandler).supportsNonBlockingParsing()) {
+            return new NonBlockingJsonResponseHandler<>((JsonResponseHandler<OutputT>) responseHandler,
+                                                        h -> decorateResponseHandlers(h, executionContext),
+                                                        crc32Validator,
+                                                        executionContext.executionAttributes());
+        }
+
+        return new SyncResponseHandlerAdapter<>(decorateResponseHandlers(responseHandler, executionContext),
+                                                crc32Validator,
+                                                executionContext.executionAttributes());
+    }
+
     /**
      * Error responses are never streaming so we always use {@link SyncResponseHandlerAdapter}.
      *
@@ -195,6 +229,11 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             delegate.onStream(publisher);
         }
 
+        @Override
+        public void onSharedStream(Publisher<RefCountedByteBuffer> publisher) {
+            delegate.onSharedStream(publisher);
+        }
+
         @Override
         public void exceptionOccurred(Throwable throwable) {
             delegate.exceptionOccurred(throwable);
@@ -283,5 +322,22 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             asyncRequestBody.subscribe(s);
         }
 
+        @Override
+        public Optional<Path> file() {
+            if (asyncRequestBody instanceof FileAsyncRequestBody) {
+                return Optional.of(((FileAsyncRequestBody) asyncRequestBody).path());
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Bodies created by {@link AsyncRequestBody}'s factory methods publish buffers of their own that are never touched
+         * again. Any other body may reuse its buffers, so they have to be copied.
+         */
+        @Override
+        public boolean publishesImmutableBuffers() {
+            return asyncRequestBody instanceof ByteArrayAsyncRequestBody || asyncRequestBody instanceof FileAsyncRequestBody;
+        }
+
     }
 }
@@ -15,12 +15,16 @@
 
 package software.amazon.awssdk.core.client.handler;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.Request;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.RequestCoalescingPolicy;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.ExecutionContext;
@@ -32,15 +36,20 @@ import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration
 import software.amazon.awssdk.core.internal.http.response.SdkErrorResponseHandler;
 import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.internal.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.internal.util.RequestCoalescer;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
 
 @SdkProtectedApi
 public abstract class BaseClientHandler {
     private SdkClientConfiguration clientConfiguration;
+    private final RequestCoalescer requestCoalescer;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
         this.clientConfiguration = clientConfiguration;
+        this.requestCoalescer = Optional.ofNullable(clientConfiguration.option(SdkClientOption.REQUEST_COALESCING_POLICY))
+                                        .map(RequestCoalescer::new)
+                                        .orElse(null);
     }
 
     static <InputT extends SdkRequest> InputT finalizeSdkRequest(ExecutionContext executionContext) {
@@ -172,6 +181,25 @@ public abstract class BaseClientHandler {
                                .build();
     }
 
+    /**
+     * Whether the API call may be coalesced with equal API calls under the client's {@link RequestCoalescingPolicy}. Calls
+     * with a streaming request or response are never coalesced, and must not be passed here.
+     */
+    boolean isCoalescable(ClientExecutionParams<?, ?> executionParams) {
+        return requestCoalescer != null
+               && executionParams.getAsyncRequestBody() == null
+               && requestCoalescer.isCoalescable(executionParams.getInput());
+    }
+
+    /**
+     * Return the result of an equal API call that is in flight or cached, or make the call with the provided function.
+     *
+     * @see #isCoalescable(ClientExecutionParams)
+     */
+    <OutputT> CompletableFuture<OutputT> coalesce(SdkRequest request, Supplier<CompletableFuture<OutputT>> call) {
+        return requestCoalescer.coalesce(request, call);
+    }
+
     protected boolean isCalculateCrc32FromCompressedData() {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.client.handler;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
@@ -24,6 +26,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.AmazonSyncHttpClient;
+import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -59,6 +62,21 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
     public <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
 
+        if (!isCoalescable(executionParams)) {
+            return doExecute(executionParams);
+        }
+
+        try {
+            return coalesce(executionParams.getInput(), () -> CompletableFuture.completedFuture(doExecute(executionParams)))
+                .join();
+        } catch (CompletionException e) {
+            throw ThrowableUtils.failure(e.getCause());
+        }
+    }
+
+    private <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT doExecute(
+        ClientExecutionParams<InputT, OutputT> executionParams) {
+
         ExecutionContext executionContext = createExecutionContext(executionParams.getInput());
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.exception;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Extension of {@link SdkClientException} that is thrown when a single HTTP attempt of an API call did not complete within the
+ * configured {@link software.amazon.awssdk.core.client.config.ClientOverrideConfiguration#apiCallAttemptTimeout()}.
+ *
+ * This exception is retried by the default retry policy.
+ */
+@SdkPublicApi
+public final class ApiCallAttemptTimeoutException extends SdkClientException {
+
+    protected ApiCallAttemptTimeoutException(Builder b) {
+        super(b);
+    }
+
+    public static ApiCallAttemptTimeoutException create(String message, Throwable cause) {
+        return builder().message(message).cause(cause).build();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    public interface Builder extends SdkClientException.Builder {
+        @Override
+        Builder message(String message);
+
+        @Override
+        Builder cause(Throwable cause);
+
+        @Override
+        ApiCallAttemptTimeoutException build();
+    }
+
+    protected static final class BuilderImpl extends SdkClientException.BuilderImpl implements Builder {
+
+        protected BuilderImpl() {}
+
+        protected BuilderImpl(ApiCallAttemptTimeoutException ex) {
+            super(ex);
+        }
+
+        @Override
+        public Builder message(String message) {
+            this.message = message;
+            return this;
+        }
+
+        @Override
+        public Builder cause(Throwable cause) {
+            this.cause = cause;
+            return this;
+        }
+
+        @Override
+        public ApiCallAttemptTimeoutException build() {
+            return new ApiCallAttemptTimeoutException(this);
+        }
+    }
+}
@@ -92,11 +92,7 @@ public final class JsonResponseHandler<T> implements HttpResponseHandler<T> {
         }
 
         try {
-            JsonUnmarshallerContext unmarshallerContext = new JsonUnmarshallerContextImpl(
-                    jsonParser, simpleTypeUnmarshallers, response);
-            registerAdditionalMetadataExpressions(unmarshallerContext);
-
-            T result = responseUnmarshaller.unmarshall(unmarshallerContext);
+            T result = unmarshall(response, jsonParser);
 
             // Make sure we read all the data to get an accurate CRC32 calculation.
             // See https://github.com/aws/aws-sdk-java/issues/1018
@@ -120,6 +116,52 @@ public final class JsonResponseHandler<T> implements HttpResponseHandler<T> {
         }
     }
 
+    /**
+     * Unmarshalls a response whose payload has already been tokenized, for example by a non-blocking parser as the content
+     * arrived. The content of the given response is ignored.
+     *
+     * @param response The response, without content.
+     * @param jsonParser A parser over the tokens of the response payload.
+     * @see #supportsNonBlockingParsing()
+     */
+    public T handleTokenized(SdkHttpFullResponse response, JsonParser jsonParser) throws Exception {
+        SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling tokenized service response JSON.");
+        SdkStandardLogger.REQUEST_ID_LOGGER.debug(() -> X_AMZN_REQUEST_ID_HEADER + " : " +
+                                                        response.firstMatchingHeader(X_AMZN_REQUEST_ID_HEADER)
+                                                                .orElse("not available"));
+        try {
+            T result = unmarshall(response, jsonParser);
+            SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done parsing service response.");
+            return result;
+        } finally {
+            jsonParser.close();
+        }
+    }
+
+    /**
+     * @return True if the payload is JSON that can be tokenized with a non-blocking parser created by
+     * {@link #createNonBlockingParser()}, false otherwise. Only plain JSON supports this; CBOR and Ion do not.
+     */
+    public boolean supportsNonBlockingParsing() {
+        return shouldParsePayloadAsJson() && jsonFactory.canParseAsync();
+    }
+
+    /**
+     * @return A new non-blocking parser that is fed the payload as it arrives.
+     * @see #supportsNonBlockingParsing()
+     */
+    public JsonParser createNonBlockingParser() throws IOException {
+        return jsonFactory.createNonBlockingByteArrayParser();
+    }
+
+    private T unmarshall(SdkHttpFullResponse response, JsonParser jsonParser) throws Exception {
+        JsonUnmarshallerContext unmarshallerContext = new JsonUnmarshallerContextImpl(
+                jsonParser, simpleTypeUnmarshallers, response);
+        registerAdditionalMetadataExpressions(unmarshallerContext);
+
+        return responseUnmarshaller.unmarshall(unmarshallerContext);
+    }
+
     /**
      * Hook for subclasses to override in order to collect additional metadata from service
      * responses.
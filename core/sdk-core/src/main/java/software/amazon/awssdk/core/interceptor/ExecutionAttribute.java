@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
 /**
@@ -37,12 +38,18 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  * }
  </pre>
  *
+ * Every attribute is assigned a small, unique index when it is created, which {@link ExecutionAttributes} uses to store its
+ * value in an array. Attributes are meant to be created once and reused, not created per execution.
+ *
  * @param <T> The type of data associated with this attribute.
  */
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
 
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
     private final String name;
+    private final int index;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -51,6 +58,21 @@ public final class ExecutionAttribute<T> {
      */
     public ExecutionAttribute(String name) {
         this.name = name;
+        this.index = NEXT_INDEX.getAndIncrement();
+    }
+
+    /**
+     * @return The index of this attribute, unique across all attributes created so far.
+     */
+    int index() {
+        return index;
+    }
+
+    /**
+     * @return The number of attributes created so far, which is one more than the highest index assigned.
+     */
+    static int count() {
+        return NEXT_INDEX.get();
     }
 
     @Override
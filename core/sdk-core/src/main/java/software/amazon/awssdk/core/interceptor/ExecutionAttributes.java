@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -29,7 +30,19 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 @NotThreadSafe
 public final class ExecutionAttributes {
-    private final Map<ExecutionAttribute<?>, Object> attributes = new HashMap<>();
+    /**
+     * Attributes with an index beyond this are kept in {@link #overflow} rather than in {@link #values}. This comfortably fits
+     * the attributes declared by the SDK and its interceptors, which are created first, while keeping the array allocated for
+     * every execution small no matter how many attributes an application creates.
+     */
+    private static final int MAX_INDEXED_ATTRIBUTES = 64;
+
+    /**
+     * Attribute values, indexed by {@link ExecutionAttribute#index()}. Sized to fit every attribute created before this
+     * collection, up to {@link #MAX_INDEXED_ATTRIBUTES}, and grown when an attribute created afterwards is put.
+     */
+    private Object[] values = new Object[Math.min(ExecutionAttribute.count(), MAX_INDEXED_ATTRIBUTES)];
+    private Map<ExecutionAttribute<?>, Object> overflow;
 
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
@@ -37,14 +50,29 @@ public final class ExecutionAttributes {
      */
     @SuppressWarnings("unchecked") // Cast is safe due to implementation of {@link #putAttribute}
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return (U) attributes.get(attribute);
+        int index = attribute.index();
+        if (index < values.length) {
+            return (U) values[index];
+        }
+        return overflow == null ? null : (U) overflow.get(attribute);
     }
 
     /**
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        this.attributes.put(attribute, value);
+        int index = attribute.index();
+        if (index >= MAX_INDEXED_ATTRIBUTES) {
+            if (overflow == null) {
+                overflow = new HashMap<>();
+            }
+            overflow.put(attribute, value);
+            return this;
+        }
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, Math.min(Math.max(index + 1, values.length * 2), MAX_INDEXED_ATTRIBUTES));
+        }
+        values[index] = value;
         return this;
     }
-}
\ No newline at end of file
+}
@@ -15,9 +15,11 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.ServiceConfiguration;
+import software.amazon.awssdk.core.retry.ConcurrencyLimitPolicy;
 import software.amazon.awssdk.core.signer.Signer;
 
 /**
@@ -48,6 +50,20 @@ public class SdkExecutionAttribute {
      */
     public static final ExecutionAttribute<Integer> TIME_OFFSET = new ExecutionAttribute<>("TimeOffset");
 
+    /**
+     * The key under which the number of API calls that were already queued when this call arrived is stored, when the client
+     * has a {@link ConcurrencyLimitPolicy}.
+     */
+    public static final ExecutionAttribute<Integer> CONCURRENCY_LIMIT_QUEUE_DEPTH =
+        new ExecutionAttribute<>("ConcurrencyLimitQueueDepth");
+
+    /**
+     * The key under which the time this API call waited to be admitted is stored, when the client has a
+     * {@link ConcurrencyLimitPolicy}.
+     */
+    public static final ExecutionAttribute<Duration> CONCURRENCY_LIMIT_QUEUE_TIME =
+        new ExecutionAttribute<>("ConcurrencyLimitQueueTime");
+
     protected SdkExecutionAttribute() {
     }
 }
@@ -60,6 +60,13 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
     }
 
+    /**
+     * @return The file this body reads from.
+     */
+    public Path path() {
+        return path;
+    }
+
     @Override
     public long contentLength() {
         try {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.client.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.SdkSharedResources;
+import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The reference counted resources behind an {@link SdkSharedResources}, used by the client builders to share them.
+ *
+ * <p>The {@link SdkSharedResources} holds one reference and every client built with it holds another. Everything owned by
+ * these resources is closed once every reference has been released, in any order.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class SharedClientResources {
+    private static final Logger log = Logger.loggerFor(SdkSharedResources.class);
+
+    private final SdkHttpClient httpClient;
+    private final SdkAsyncHttpClient asyncHttpClient;
+    private final Executor futureCompletionExecutor;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final SharedClientExecutionTimer clientExecutionTimer = new SharedClientExecutionTimer();
+    private final Map<Class<?>, Object> resources = new ConcurrentHashMap<>();
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private volatile List<ExecutionInterceptor> globalInterceptors;
+
+    /**
+     * Create resources that own the given HTTP clients and executors, any of which may be null. The caller holds the initial
+     * reference.
+     */
+    public SharedClientResources(SdkHttpClient httpClient,
+                                 SdkAsyncHttpClient asyncHttpClient,
+                                 Executor futureCompletionExecutor,
+                                 ScheduledExecutorService scheduledExecutorService) {
+        this.httpClient = httpClient;
+        this.asyncHttpClient = asyncHttpClient;
+        this.futureCompletionExecutor = futureCompletionExecutor;
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
+    /**
+     * The sync HTTP client shared by every sync client built with these resources.
+     */
+    public Optional<SdkHttpClient> httpClient() {
+        return Optional.ofNullable(httpClient);
+    }
+
+    /**
+     * The async HTTP client shared by every async client built with these resources.
+     */
+    public Optional<SdkAsyncHttpClient> asyncHttpClient() {
+        return Optional.ofNullable(asyncHttpClient);
+    }
+
+    /**
+     * The executor async clients built with these resources complete their futures on.
+     */
+    public Optional<Executor> futureCompletionExecutor() {
+        return Optional.ofNullable(futureCompletionExecutor);
+    }
+
+    /**
+     * The executor async clients built with these resources schedule retries and timeouts on.
+     */
+    public Optional<ScheduledExecutorService> scheduledExecutorService() {
+        return Optional.ofNullable(scheduledExecutorService);
+    }
+
+    /**
+     * The number of outstanding references to these resources.
+     */
+    public int referenceCount() {
+        return references.get();
+    }
+
+    /**
+     * Take a reference to these resources on behalf of a client, released when the returned object is closed. Closing the
+     * returned object more than once releases the reference only once.
+     *
+     * @throws IllegalStateException If the resources have already been closed.
+     */
+    public SdkAutoCloseable acquire() {
+        int current;
+        do {
+            current = references.get();
+            if (current == 0) {
+                throw new IllegalStateException("The shared resources have been closed and can't be used to build new clients.");
+            }
+        } while (!references.compareAndSet(current, current + 1));
+
+        AtomicBoolean released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        };
+    }
+
+    /**
+     * Release one reference to these resources, closing them if it was the last one.
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            log.debug(() -> "Closing shared resources, because every client using them has been closed.");
+            IoUtils.closeQuietly(httpClient, log.logger());
+            IoUtils.closeQuietly(asyncHttpClient, log.logger());
+            shutdownIfExecutorService(futureCompletionExecutor);
+            shutdownIfExecutorService(scheduledExecutorService);
+            clientExecutionTimer.shutdown();
+            resources.values().forEach(r -> IoUtils.closeIfCloseable(r, log.logger()));
+        }
+    }
+
+    /**
+     * The timer used to enforce the client execution timeout of sync clients built with these resources. Closing it has no
+     * effect; it is stopped when these resources are.
+     */
+    public ClientExecutionTimer clientExecutionTimer() {
+        return clientExecutionTimer;
+    }
+
+    /**
+     * The global interceptors found on the classpath, loaded once for every client built with these resources.
+     */
+    public List<ExecutionInterceptor> globalInterceptors() {
+        if (globalInterceptors == null) {
+            globalInterceptors = new ClasspathInterceptorChainFactory().getGlobalInterceptors();
+        }
+        return globalInterceptors;
+    }
+
+    /**
+     * Retrieve the shared resource of the requested type, creating it with the provided factory if it does not yet exist.
+     * A resource that is {@link AutoCloseable} is closed with these resources, so it should be wrapped before it is handed to
+     * a client that would otherwise close it itself.
+     */
+    public <T> T resource(Class<T> type, Supplier<? extends T> factory) {
+        return type.cast(resources.computeIfAbsent(type, t -> factory.get()));
+    }
+
+    private static void shutdownIfExecutorService(Executor executor) {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("SdkSharedResources")
+                       .add("httpClient", httpClient)
+                       .add("asyncHttpClient", asyncHttpClient)
+                       .add("futureCompletionExecutor", futureCompletionExecutor)
+                       .add("scheduledExecutorService", scheduledExecutorService)
+                       .add("referenceCount", referenceCount())
+                       .build();
+    }
+
+    /**
+     * A {@link ClientExecutionTimer} whose {@link #close()} does nothing, so that the clients sharing it can't stop it.
+     */
+    private static final class SharedClientExecutionTimer extends ClientExecutionTimer {
+        @Override
+        public void close() {
+        }
+
+        private void shutdown() {
+            super.close();
+        }
+    }
+}
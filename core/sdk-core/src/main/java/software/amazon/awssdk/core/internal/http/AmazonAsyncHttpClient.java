@@ -17,19 +17,24 @@ package software.amazon.awssdk.core.internal.http;
 
 import static software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder.async;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.ReviewBeforeRelease;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactionIdStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyUserAgentStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncCircuitBreakerStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncConcurrencyLimitingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncExecutionFailureExceptionReportingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncRetryableStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.BeforeTransmissionExecutionInterceptorsStage;
@@ -42,6 +47,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.MoveParametersT
 import software.amazon.awssdk.core.internal.http.pipeline.stages.SigningStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.UnwrapResponseContainer;
 import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -54,13 +60,51 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 @ReviewBeforeRelease("come up with better name")
 public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
     private final HttpClientDependencies httpClientDependencies;
+    private final RequestPipeline<SdkHttpFullRequest, ? extends CompletableFuture<?>> requestPipeline;
 
     public AmazonAsyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
-                                                            .clientExecutionTimer(new ClientExecutionTimer())
+                                                            .clientExecutionTimer(resolveTimer(clientConfiguration))
                                                             .clientConfiguration(clientConfiguration)
                                                             .capacityManager(createCapacityManager())
+                                                            .sendRateLimiter(new RateLimitingTokenBucket())
                                                             .build();
+        this.requestPipeline = createRequestPipeline();
+    }
+
+    /**
+     * Use the timer shared with other clients when there is one, or a timer owned by this client otherwise.
+     */
+    private static ClientExecutionTimer resolveTimer(SdkClientConfiguration clientConfiguration) {
+        return Optional.ofNullable(clientConfiguration.option(SdkClientOption.CLIENT_EXECUTION_TIMER))
+                       .orElseGet(ClientExecutionTimer::new);
+    }
+
+    /**
+     * The pipeline is stateless and shared by every request made with this client. Anything specific to a single request,
+     * such as its response handlers, is carried by the {@link RequestExecutionContext}.
+     */
+    private RequestPipeline<SdkHttpFullRequest, CompletableFuture<Object>> createRequestPipeline() {
+        return RequestPipelineBuilder
+            .first(RequestPipelineBuilder
+                       .first(MakeRequestMutableStage::new)
+                       .then(ApplyTransactionIdStage::new)
+                       .then(ApplyUserAgentStage::new)
+                       .then(MergeCustomHeadersStage::new)
+                       .then(MergeCustomQueryParamsStage::new)
+                       .then(MoveParametersToBodyStage::new)
+                       .then(MakeRequestImmutableStage::new)
+                       .then(RequestPipelineBuilder
+                                 .first(SigningStage::new)
+                                 .then(BeforeTransmissionExecutionInterceptorsStage::new)
+                                 .then(d -> new MakeAsyncHttpRequestStage<Object>(d))
+                                 .wrappedWith(AsyncCircuitBreakerStage::new)
+                                 .wrappedWith(AsyncRetryableStage::new)::build)
+                       .then(async(() -> new UnwrapResponseContainer<Object>()))
+                       .then(async(() -> new AfterExecutionInterceptorsStage<Object>()))::build)
+            .wrappedWith(AsyncConcurrencyLimitingStage::new)
+            .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
+            .build(httpClientDependencies);
     }
 
     private CapacityManager createCapacityManager() {
@@ -185,29 +229,12 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <OutputT> CompletableFuture<OutputT> execute(SdkHttpResponseHandler<OutputT> responseHandler) {
             try {
-                return RequestPipelineBuilder
-                    .first(RequestPipelineBuilder
-                               .first(MakeRequestMutableStage::new)
-                               .then(ApplyTransactionIdStage::new)
-                               .then(ApplyUserAgentStage::new)
-                               .then(MergeCustomHeadersStage::new)
-                               .then(MergeCustomQueryParamsStage::new)
-                               .then(MoveParametersToBodyStage::new)
-                               .then(MakeRequestImmutableStage::new)
-                               .then(RequestPipelineBuilder
-                                         .first(SigningStage::new)
-                                         .then(BeforeTransmissionExecutionInterceptorsStage::new)
-                                         .then(d -> new MakeAsyncHttpRequestStage<>(responseHandler, errorResponseHandler, d))
-                                         .wrappedWith((deps, wrapped) ->
-                                                          new AsyncRetryableStage<>(responseHandler, deps, wrapped))
-                                         ::build)
-                               .then(async(() -> new UnwrapResponseContainer<>()))
-                               .then(async(() -> new AfterExecutionInterceptorsStage<>()))::build)
-                    .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
-                    .build(httpClientDependencies)
-                    .execute(request, createRequestExecutionDependencies());
+                // The pipeline is shared across response types, the response handler determines the actual result type.
+                return (CompletableFuture<OutputT>) requestPipeline.execute(request,
+                                                                            createRequestExecutionDependencies(responseHandler));
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
@@ -215,11 +242,13 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
             }
         }
 
-        private RequestExecutionContext createRequestExecutionDependencies() {
+        private RequestExecutionContext createRequestExecutionDependencies(SdkHttpResponseHandler<?> responseHandler) {
             return RequestExecutionContext.builder()
                                           .requestProvider(requestProvider)
                                           .originalRequest(originalRequest)
                                           .executionContext(executionContext)
+                                          .asyncResponseHandler(responseHandler)
+                                          .asyncErrorResponseHandler(errorResponseHandler)
                                           .build();
         }
 
@@ -15,12 +15,14 @@
 
 package software.amazon.awssdk.core.internal.http;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.ReviewBeforeRelease;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.Request;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
@@ -28,6 +30,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.http.SdkHttpFullRequestAdapter;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterTransmissionExecutionInterceptorsStage;
@@ -35,6 +38,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactio
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyUserAgentStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.BeforeTransmissionExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.BeforeUnmarshallingExecutionInterceptorsStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.CircuitBreakerStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.Crc32ValidationStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ExecutionFailureExceptionReportingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.HandleResponseStage;
@@ -48,6 +52,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.RetryableStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.SigningStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.UnwrapResponseContainer;
 import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -65,13 +70,57 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
     static UnreliableTestConfig unreliableTestConfig;
 
     private final HttpClientDependencies httpClientDependencies;
+    private final RequestPipeline<SdkHttpFullRequest, ?> requestPipeline;
 
     public AmazonSyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
-                                                            .clientExecutionTimer(new ClientExecutionTimer())
+                                                            .clientExecutionTimer(resolveTimer(clientConfiguration))
                                                             .capacityManager(createCapacityManager())
+                                                            .sendRateLimiter(new RateLimitingTokenBucket())
                                                             .build();
+        this.requestPipeline = createRequestPipeline();
+    }
+
+    /**
+     * Use the timer shared with other clients when there is one, or a timer owned by this client otherwise.
+     */
+    private static ClientExecutionTimer resolveTimer(SdkClientConfiguration clientConfiguration) {
+        return Optional.ofNullable(clientConfiguration.option(SdkClientOption.CLIENT_EXECUTION_TIMER))
+                       .orElseGet(ClientExecutionTimer::new);
+    }
+
+    /**
+     * The pipeline is stateless and shared by every request made with this client. Anything specific to a single request,
+     * such as its response handlers, is carried by the {@link RequestExecutionContext}.
+     */
+    private RequestPipeline<SdkHttpFullRequest, Object> createRequestPipeline() {
+        return RequestPipelineBuilder
+            // Start of mutating request
+            .first(RequestPipelineBuilder
+                       .first(MakeRequestMutableStage::new)
+                       .then(ApplyTransactionIdStage::new)
+                       .then(ApplyUserAgentStage::new)
+                       .then(MergeCustomHeadersStage::new)
+                       .then(MergeCustomQueryParamsStage::new)
+                       .then(MoveParametersToBodyStage::new)
+                       .then(MakeRequestImmutableStage::new)
+                       // End of mutating request
+                       .then(RequestPipelineBuilder
+                                 .first(SigningStage::new)
+                                 .then(BeforeTransmissionExecutionInterceptorsStage::new)
+                                 .then(MakeHttpRequestStage::new)
+                                 .then(AfterTransmissionExecutionInterceptorsStage::new)
+                                 .then(Crc32ValidationStage::new)
+                                 .then(BeforeUnmarshallingExecutionInterceptorsStage::new)
+                                 .then(() -> new HandleResponseStage<Object>())
+                                 .wrappedWith(CircuitBreakerStage::new)
+                                 .wrappedWith(RetryableStage::new)::build)
+                       .wrappedWith(StreamManagingStage::new)::build)
+            .then(() -> new UnwrapResponseContainer<Object>())
+            .then(() -> new AfterExecutionInterceptorsStage<Object>())
+            .wrappedWith(ExecutionFailureExceptionReportingStage::new)
+            .build(httpClientDependencies);
     }
 
     private CapacityManager createCapacityManager() {
@@ -243,6 +292,7 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <OutputT> OutputT execute(HttpResponseHandler<OutputT> responseHandler) {
             // TODO: We currently have two ways of passing messages to the HTTP client: through the request or through the
             // execution interceptor context. We should combine these two methods when we refactor the way request execution
@@ -253,34 +303,8 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             }
 
             try {
-                return RequestPipelineBuilder
-                    // Start of mutating request
-                    .first(RequestPipelineBuilder
-                                   .first(MakeRequestMutableStage::new)
-                                   .then(ApplyTransactionIdStage::new)
-                                   .then(ApplyUserAgentStage::new)
-                                   .then(MergeCustomHeadersStage::new)
-                                   .then(MergeCustomQueryParamsStage::new)
-                                   .then(MoveParametersToBodyStage::new)
-                                   .then(MakeRequestImmutableStage::new)
-                                   // End of mutating request
-                                   .then(RequestPipelineBuilder
-                                             .first(SigningStage::new)
-                                             .then(BeforeTransmissionExecutionInterceptorsStage::new)
-                                             .then(MakeHttpRequestStage::new)
-                                             .then(AfterTransmissionExecutionInterceptorsStage::new)
-                                             .then(Crc32ValidationStage::new)
-                                             .then(BeforeUnmarshallingExecutionInterceptorsStage::new)
-                                             .then(() -> new HandleResponseStage<>(
-                                                 getNonNullResponseHandler(responseHandler),
-                                                 getNonNullResponseHandler(errorResponseHandler)))
-                                             .wrappedWith(RetryableStage::new)::build)
-                                   .wrappedWith(StreamManagingStage::new)::build)
-                    .then(() -> new UnwrapResponseContainer<>())
-                    .then(() -> new AfterExecutionInterceptorsStage<>())
-                    .wrappedWith(ExecutionFailureExceptionReportingStage::new)
-                    .build(httpClientDependencies)
-                    .execute(request, createRequestExecutionDependencies());
+                // The pipeline is shared across response types, the response handler determines the actual result type.
+                return (OutputT) requestPipeline.execute(request, createRequestExecutionDependencies(responseHandler));
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
@@ -293,10 +317,12 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             execute(null);
         }
 
-        private RequestExecutionContext createRequestExecutionDependencies() {
+        private RequestExecutionContext createRequestExecutionDependencies(HttpResponseHandler<?> responseHandler) {
             return RequestExecutionContext.builder()
                                           .originalRequest(originalRequest)
                                           .executionContext(executionContext)
+                                          .responseHandler(getNonNullResponseHandler(responseHandler))
+                                          .errorResponseHandler(getNonNullResponseHandler(errorResponseHandler))
                                           .build();
         }
 
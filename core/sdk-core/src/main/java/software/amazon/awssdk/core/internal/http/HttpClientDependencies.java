@@ -17,12 +17,16 @@ package software.amazon.awssdk.core.internal.http;
 
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkGlobalTime;
+import software.amazon.awssdk.core.client.config.FutureCompletionExecutors;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
@@ -34,7 +38,9 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientConfiguration clientConfiguration;
     private final CapacityManager capacityManager;
+    private final RateLimitingTokenBucket sendRateLimiter;
     private final ClientExecutionTimer clientExecutionTimer;
+    private final Executor asyncWorkExecutor;
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -44,7 +50,18 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private HttpClientDependencies(Builder builder) {
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
         this.capacityManager = paramNotNull(builder.capacityManager, "CapacityManager");
+        this.sendRateLimiter = builder.sendRateLimiter;
         this.clientExecutionTimer = paramNotNull(builder.clientExecutionTimer, "ClientExecutionTimer");
+        this.asyncWorkExecutor = resolveAsyncWorkExecutor(clientConfiguration);
+    }
+
+    private static Executor resolveAsyncWorkExecutor(SdkClientConfiguration clientConfiguration) {
+        Executor futureCompletionExecutor =
+            clientConfiguration.option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
+        if (futureCompletionExecutor == null || FutureCompletionExecutors.isDirect(futureCompletionExecutor)) {
+            return FutureCompletionExecutors.shared();
+        }
+        return futureCompletionExecutor;
     }
 
     public static Builder builder() {
@@ -62,6 +79,24 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return capacityManager;
     }
 
+    /**
+     * @return Token bucket used to limit the send rate when the adaptive retry mode is in use, or null if there is none.
+     */
+    public RateLimitingTokenBucket sendRateLimiter() {
+        return sendRateLimiter;
+    }
+
+    /**
+     * @return The executor that async work is handed to when a task scheduled on the
+     * {@link software.amazon.awssdk.core.client.config.SdkClientOption#ASYNC_RETRY_EXECUTOR_SERVICE} fires. The scheduler's
+     * thread is shared by every client and only keeps time, while an attempt signs its request and may have to resolve
+     * credentials. This is the client's future completion executor, or the shared future completion pool if that executor
+     * completes futures on the calling thread.
+     */
+    public Executor asyncWorkExecutor() {
+        return asyncWorkExecutor;
+    }
+
     /**
      * @return Controller for the ClientExecution timeout feature.
      */
@@ -97,6 +132,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     public static class Builder {
         private SdkClientConfiguration clientConfiguration;
         private CapacityManager capacityManager;
+        private RateLimitingTokenBucket sendRateLimiter;
         private ClientExecutionTimer clientExecutionTimer;
 
         private Builder() {}
@@ -111,6 +147,11 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder sendRateLimiter(RateLimitingTokenBucket sendRateLimiter) {
+            this.sendRateLimiter = sendRateLimiter;
+            return this;
+        }
+
         public Builder clientExecutionTimer(ClientExecutionTimer clientExecutionTimer) {
             this.clientExecutionTimer = clientExecutionTimer;
             return this;
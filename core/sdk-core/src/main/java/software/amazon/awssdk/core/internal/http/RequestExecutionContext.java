@@ -20,7 +20,9 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionAbortTrackerTask;
@@ -28,12 +30,14 @@ import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTi
 import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * Request scoped dependencies and context for an execution of a request by {@link AmazonSyncHttpClient} or
  * {@link AmazonAsyncHttpClient}.
- * Provided to the {@link RequestPipeline#execute(Object, RequestExecutionContext)} method.
+ * Provided to the {@link RequestPipeline#execute(Object, RequestExecutionContext)} method. Pipelines are built once per
+ * client and shared by all of its requests, so anything specific to a single request belongs here rather than in a stage.
  */
 @SdkInternalApi
 public final class RequestExecutionContext {
@@ -41,6 +45,10 @@ public final class RequestExecutionContext {
     private final SdkHttpRequestProvider requestProvider;
     private final SdkRequest originalRequest;
     private final ExecutionContext executionContext;
+    private final HttpResponseHandler<?> responseHandler;
+    private final HttpResponseHandler<? extends SdkException> errorResponseHandler;
+    private final SdkHttpResponseHandler<?> asyncResponseHandler;
+    private final SdkHttpResponseHandler<? extends SdkException> asyncErrorResponseHandler;
 
     private ClientExecutionAbortTrackerTask clientExecutionTrackerTask;
 
@@ -48,6 +56,10 @@ public final class RequestExecutionContext {
         this.requestProvider = builder.requestProvider;
         this.originalRequest = Validate.paramNotNull(builder.originalRequest, "originalRequest");
         this.executionContext = Validate.paramNotNull(builder.executionContext, "executionContext");
+        this.responseHandler = builder.responseHandler;
+        this.errorResponseHandler = builder.errorResponseHandler;
+        this.asyncResponseHandler = builder.asyncResponseHandler;
+        this.asyncErrorResponseHandler = builder.asyncErrorResponseHandler;
     }
 
     /**
@@ -96,6 +108,36 @@ public final class RequestExecutionContext {
         return executionContext.signer();
     }
 
+    /**
+     * @return Handler for successful responses when executed by {@link AmazonSyncHttpClient}.
+     */
+    @SuppressWarnings("unchecked")
+    public <OutputT> HttpResponseHandler<OutputT> responseHandler() {
+        return (HttpResponseHandler<OutputT>) responseHandler;
+    }
+
+    /**
+     * @return Handler for error responses when executed by {@link AmazonSyncHttpClient}.
+     */
+    public HttpResponseHandler<? extends SdkException> errorResponseHandler() {
+        return errorResponseHandler;
+    }
+
+    /**
+     * @return Handler for successful responses when executed by {@link AmazonAsyncHttpClient}.
+     */
+    @SuppressWarnings("unchecked")
+    public <OutputT> SdkHttpResponseHandler<OutputT> asyncResponseHandler() {
+        return (SdkHttpResponseHandler<OutputT>) asyncResponseHandler;
+    }
+
+    /**
+     * @return Handler for error responses when executed by {@link AmazonAsyncHttpClient}.
+     */
+    public SdkHttpResponseHandler<? extends SdkException> asyncErrorResponseHandler() {
+        return asyncErrorResponseHandler;
+    }
+
     /**
      * @return Tracker task for the {@link ClientExecutionTimer}.
      */
@@ -119,6 +161,10 @@ public final class RequestExecutionContext {
         private SdkHttpRequestProvider requestProvider;
         private SdkRequest originalRequest;
         private ExecutionContext executionContext;
+        private HttpResponseHandler<?> responseHandler;
+        private HttpResponseHandler<? extends SdkException> errorResponseHandler;
+        private SdkHttpResponseHandler<?> asyncResponseHandler;
+        private SdkHttpResponseHandler<? extends SdkException> asyncErrorResponseHandler;
 
         public Builder requestProvider(SdkHttpRequestProvider requestProvider) {
             this.requestProvider = requestProvider;
@@ -135,6 +181,26 @@ public final class RequestExecutionContext {
             return this;
         }
 
+        public Builder responseHandler(HttpResponseHandler<?> responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder errorResponseHandler(HttpResponseHandler<? extends SdkException> errorResponseHandler) {
+            this.errorResponseHandler = errorResponseHandler;
+            return this;
+        }
+
+        public Builder asyncResponseHandler(SdkHttpResponseHandler<?> asyncResponseHandler) {
+            this.asyncResponseHandler = asyncResponseHandler;
+            return this;
+        }
+
+        public Builder asyncErrorResponseHandler(SdkHttpResponseHandler<? extends SdkException> asyncErrorResponseHandler) {
+            this.asyncErrorResponseHandler = asyncErrorResponseHandler;
+            return this;
+        }
+
         public RequestExecutionContext build() {
             return new RequestExecutionContext(this);
         }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.Crc32MismatchException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.http.JsonResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.util.ThrowableUtils;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import software.amazon.awssdk.http.async.SimpleRefCountedSubscriber;
+import software.amazon.awssdk.http.async.SimpleSubscriber;
+
+/**
+ * Adapts a {@link JsonResponseHandler} to the asynchronous {@link SdkHttpResponseHandler} without buffering the response
+ * content. Each chunk is fed to Jackson's non-blocking parser as it arrives and the resulting tokens are recorded in a
+ * {@link TokenBuffer}; once the response is complete, the generated unmarshaller reads the recorded tokens. The x-amz-crc32
+ * checksum, if present, is calculated over the chunks as they arrive as well. Chunks shared by the HTTP client are read in
+ * place and released as soon as they have been tokenized.
+ *
+ * <p>Gzip encoded responses cannot be tokenized before they are decompressed, so they are handed to a
+ * {@link SyncResponseHandlerAdapter} instead.</p>
+ *
+ * @param <T> Type that the response handler produces.
+ */
+@SdkInternalApi
+public final class NonBlockingJsonResponseHandler<T> implements SdkHttpResponseHandler<T> {
+
+    private static final int SCRATCH_BUFFER_SIZE = 8 * 1024;
+
+    private final JsonResponseHandler<T> jsonResponseHandler;
+    private final UnaryOperator<HttpResponseHandler<T>> responseHandlerDecorator;
+    private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
+    private final ExecutionAttributes executionAttributes;
+
+    private SdkHttpFullResponse.Builder httpResponse;
+    private SdkHttpResponseHandler<T> bufferingDelegate;
+
+    private JsonParser parser;
+    private TokenBuffer tokens;
+    private CRC32 crc32;
+    private Long expectedCrc32;
+    private byte[] scratch;
+    private Throwable failure;
+
+    /**
+     * @param jsonResponseHandler The handler to unmarshall the response with. Must
+     * {@link JsonResponseHandler#supportsNonBlockingParsing() support non-blocking parsing}.
+     * @param responseHandlerDecorator Decorates the handler that unmarshalls the tokens, e.g. to run interceptors.
+     * @param crc32Validator Validates the checksum of responses that have to be buffered.
+     */
+    public NonBlockingJsonResponseHandler(JsonResponseHandler<T> jsonResponseHandler,
+                                          UnaryOperator<HttpResponseHandler<T>> responseHandlerDecorator,
+                                          Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator,
+                                          ExecutionAttributes executionAttributes) {
+        this.jsonResponseHandler = jsonResponseHandler;
+        this.responseHandlerDecorator = responseHandlerDecorator;
+        this.crc32Validator = crc32Validator;
+        this.executionAttributes = executionAttributes;
+    }
+
+    @Override
+    public void headersReceived(SdkHttpResponse response) {
+        // The handler is reused for every attempt of a call, so nothing read from a previous attempt may carry over.
+        resetAttemptState();
+        if (isGzipEncoded(response)) {
+            bufferingDelegate = new SyncResponseHandlerAdapter<>(responseHandlerDecorator.apply(jsonResponseHandler),
+                                                                 crc32Validator, executionAttributes);
+            bufferingDelegate.headersReceived(response);
+            return;
+        }
+        this.httpResponse = ((SdkHttpFullResponse) response).toBuilder();
+        this.expectedCrc32 = response.firstMatchingHeader("x-amz-crc32").map(Long::valueOf).orElse(null);
+    }
+
+    private void resetAttemptState() {
+        bufferingDelegate = null;
+        httpResponse = null;
+        parser = null;
+        tokens = null;
+        crc32 = null;
+        expectedCrc32 = null;
+        failure = null;
+    }
+
+    @Override
+    public void onStream(Publisher<ByteBuffer> publisher) {
+        if (bufferingDelegate != null) {
+            bufferingDelegate.onStream(publisher);
+            return;
+        }
+        publisher.subscribe(new SimpleSubscriber(this::tokenize));
+    }
+
+    @Override
+    public void onSharedStream(Publisher<RefCountedByteBuffer> publisher) {
+        if (bufferingDelegate != null) {
+            bufferingDelegate.onSharedStream(publisher);
+            return;
+        }
+        publisher.subscribe(new SimpleRefCountedSubscriber(b -> {
+            try {
+                tokenize(b.asReadOnlyByteBuffer());
+            } finally {
+                b.release();
+            }
+        }));
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable throwable) {
+        if (bufferingDelegate != null) {
+            bufferingDelegate.exceptionOccurred(throwable);
+        }
+    }
+
+    @Override
+    public T complete() {
+        if (bufferingDelegate != null) {
+            return bufferingDelegate.complete();
+        }
+        try {
+            JsonParser tokenParser = endOfInput();
+            validateCrc32();
+            HttpResponseHandler<T> tokenHandler = (response, attributes) -> jsonResponseHandler.handleTokenized(response,
+                                                                                                               tokenParser);
+            return responseHandlerDecorator.apply(tokenHandler).handle(httpResponse.build(), executionAttributes);
+        } catch (Exception e) {
+            throw ThrowableUtils.failure(e);
+        }
+    }
+
+    private void tokenize(ByteBuffer chunk) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            ensureParser();
+            if (expectedCrc32 != null) {
+                if (crc32 == null) {
+                    crc32 = new CRC32();
+                }
+                crc32.update(chunk.duplicate());
+            }
+            ByteArrayFeeder feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            if (chunk.hasArray()) {
+                int start = chunk.arrayOffset() + chunk.position();
+                feeder.feedInput(chunk.array(), start, start + chunk.remaining());
+                copyAvailableTokens();
+            } else {
+                while (chunk.hasRemaining()) {
+                    int length = Math.min(chunk.remaining(), SCRATCH_BUFFER_SIZE);
+                    if (scratch == null) {
+                        scratch = new byte[SCRATCH_BUFFER_SIZE];
+                    }
+                    chunk.get(scratch, 0, length);
+                    feeder.feedInput(scratch, 0, length);
+                    copyAvailableTokens();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+        }
+    }
+
+    private void ensureParser() throws IOException {
+        if (parser == null) {
+            parser = jsonResponseHandler.createNonBlockingParser();
+            tokens = new TokenBuffer(parser);
+            // Keep every digit of floating point numbers, which would otherwise be buffered as doubles, so that BigDecimal
+            // members are unmarshalled exactly as they were sent.
+            tokens.forceUseOfBigDecimal(true);
+        }
+    }
+
+    /**
+     * Copies every token the parser can produce from the input fed so far, which consumes all of that input.
+     */
+    private void copyAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+        }
+    }
+
+    private JsonParser endOfInput() throws Exception {
+        if (failure != null) {
+            throw SdkClientException.builder()
+                                    .message("Unable to parse the response content: " + failure.getMessage())
+                                    .cause(failure)
+                                    .build();
+        }
+        ensureParser();
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+        copyAvailableTokens();
+        parser.close();
+        return tokens.asParser();
+    }
+
+    private void validateCrc32() {
+        if (expectedCrc32 == null) {
+            return;
+        }
+        long actualCrc32 = crc32 == null ? new CRC32().getValue() : crc32.getValue();
+        if (expectedCrc32 != actualCrc32) {
+            throw Crc32MismatchException.builder()
+                                        .message(String.format("Expected %d as the Crc32 checksum but the actual " +
+                                                               "calculated checksum was %d", expectedCrc32, actualCrc32))
+                                        .build();
+        }
+    }
+
+    private static boolean isGzipEncoded(SdkHttpResponse response) {
+        return response.firstMatchingHeader("Content-Encoding").filter(e -> e.equals("gzip")).isPresent();
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.core.internal.http.async;
 
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -26,28 +27,39 @@ import software.amazon.awssdk.core.RequestOption;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
+import software.amazon.awssdk.utils.ByteArrayBackedInputStream;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
  * Implementation of {@link SdkHttpRequestProvider} that provides all it's data at once. Useful for
  * non streaming operations that are already marshalled into memory.
+ * <p>
+ * Content produced by the marshallers is a {@link ByteArrayBackedInputStream}, which is published as a view of the
+ * marshalled bytes. Any other content is read into memory first.
  */
 @SdkInternalApi
 public final class SimpleRequestProvider implements SdkHttpRequestProvider {
 
-    private final byte[] content;
+    private final ByteBuffer content;
     private final int length;
 
     public SimpleRequestProvider(SdkHttpFullRequest request, ExecutionAttributes executionAttributes) {
-        this.content = request.content().map(content -> {
-            try {
-                content.mark(getReadLimit(executionAttributes));
-                return invokeSafely(() -> IoUtils.toByteArray(content));
-            } finally {
-                invokeSafely(content::reset);
-            }
-        }).orElseGet(() -> new byte[0]);
-        this.length = content.length;
+        this.content = request.content()
+                              .map(content -> toByteBuffer(content, executionAttributes))
+                              .orElseGet(() -> ByteBuffer.allocate(0));
+        this.length = content.remaining();
+    }
+
+    private ByteBuffer toByteBuffer(InputStream content, ExecutionAttributes executionAttributes) {
+        if (content instanceof ByteArrayBackedInputStream) {
+            return ((ByteArrayBackedInputStream) content).asByteBuffer();
+        }
+        try {
+            content.mark(getReadLimit(executionAttributes));
+            return ByteBuffer.wrap(invokeSafely(() -> IoUtils.toByteArray(content)));
+        } finally {
+            invokeSafely(content::reset);
+        }
     }
 
     @ReviewBeforeRelease("Do we still want to make read limit user-configurable as in V1?")
@@ -65,6 +77,11 @@ public final class SimpleRequestProvider implements SdkHttpRequestProvider {
         s.onSubscribe(new SubscriptionImpl(s));
     }
 
+    @Override
+    public boolean publishesImmutableBuffers() {
+        return true;
+    }
+
     private class SubscriptionImpl implements Subscription {
         private boolean running = true;
         private final Subscriber<? super ByteBuffer> s;
@@ -78,7 +95,7 @@ public final class SimpleRequestProvider implements SdkHttpRequestProvider {
             if (n <= 0) {
                 s.onError(new IllegalArgumentException("Demand must be positive"));
             } else if (running) {
-                s.onNext(ByteBuffer.wrap(content));
+                s.onNext(content.duplicate());
                 s.onComplete();
                 running = false;
             }
@@ -15,28 +15,30 @@
 
 package software.amazon.awssdk.core.internal.http.async;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.util.ByteBufferListInputStream;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
 import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import software.amazon.awssdk.http.async.SimpleRefCountedSubscriber;
 import software.amazon.awssdk.http.async.SimpleSubscriber;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * Adapts an {@link HttpResponseHandler} to the asynchronous {@link SdkHttpResponseHandler}. Buffers
- * all content into a {@link ByteArrayInputStream} then invokes the {@link HttpResponseHandler#handle}
- * method.
+ * all content then invokes the {@link HttpResponseHandler#handle} method. The handler reads the chunks
+ * in place, without concatenating them. Chunks published through {@link #onSharedStream(Publisher)}
+ * aren't copied at all; they're held until the response has been handled and released afterwards.
+ * Chunks published through {@link #onStream(Publisher)} are copied once as they arrive.
  *
  * @param <T> Type that the response handler produces.
  */
@@ -44,7 +46,8 @@ import software.amazon.awssdk.utils.BinaryUtils;
 public final class SyncResponseHandlerAdapter<T> implements SdkHttpResponseHandler<T> {
 
     private final HttpResponseHandler<T> responseHandler;
-    private ByteArrayOutputStream baos;
+    private List<ByteBuffer> chunks;
+    private SharedChunks sharedChunks;
     private final ExecutionAttributes executionAttributes;
     private SdkHttpFullResponse.Builder httpResponse;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
@@ -60,37 +63,86 @@ public final class SyncResponseHandlerAdapter<T> implements SdkHttpResponseHandl
     @Override
     public void headersReceived(SdkHttpResponse response) {
         this.httpResponse = ((SdkHttpFullResponse) response).toBuilder();
+        // The adapter is reused for every attempt of a call, so start from an empty body.
+        releaseSharedChunks();
+        this.chunks = null;
     }
 
     @Override
     public void onStream(Publisher<ByteBuffer> publisher) {
-        baos = new ByteArrayOutputStream();
+        chunks = new ArrayList<>();
         publisher.subscribe(new SimpleSubscriber(b -> {
-            try {
-                baos.write(BinaryUtils.copyBytesFrom(b));
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
+            // The publisher may reuse the buffer once onNext returns, so keep a copy.
+            ByteBuffer chunk = ByteBuffer.allocate(b.remaining());
+            chunk.put(b.duplicate()).flip();
+            chunks.add(chunk);
         }));
     }
 
+    @Override
+    public void onSharedStream(Publisher<RefCountedByteBuffer> publisher) {
+        SharedChunks attemptChunks = new SharedChunks();
+        synchronized (this) {
+            sharedChunks = attemptChunks;
+            chunks = attemptChunks.buffers;
+        }
+        publisher.subscribe(new SimpleRefCountedSubscriber(attemptChunks::retain));
+    }
+
     @Override
     public void exceptionOccurred(Throwable throwable) {
+        releaseSharedChunks();
     }
 
     @Override
     public T complete() {
         try {
             // Once we've buffered all the content we can invoke the response handler
-            if (baos != null) {
+            if (chunks != null) {
                 // Ignore aborts - we already have all of the content.
-                ByteArrayInputStream content = new ByteArrayInputStream(baos.toByteArray());
-                AbortableInputStream abortableContent = AbortableInputStream.create(content);
+                AbortableInputStream abortableContent = AbortableInputStream.create(new ByteBufferListInputStream(chunks));
                 httpResponse.content(abortableContent);
             }
             return responseHandler.handle(crc32Validator.apply(httpResponse.build()), executionAttributes);
         } catch (Exception e) {
             throw ThrowableUtils.failure(e);
+        } finally {
+            releaseSharedChunks();
+        }
+    }
+
+    private synchronized void releaseSharedChunks() {
+        if (sharedChunks != null) {
+            sharedChunks.release();
+            sharedChunks = null;
+            chunks = null;
+        }
+    }
+
+    /**
+     * The shared chunks of one attempt's response, held until the response is handled. A chunk arriving after they have been
+     * released, because the attempt failed, is released straight away rather than mixed into a later attempt's body.
+     */
+    private static final class SharedChunks {
+        private final List<RefCountedByteBuffer> held = new ArrayList<>();
+        private final List<ByteBuffer> buffers = new ArrayList<>();
+        private boolean released;
+
+        private synchronized void retain(RefCountedByteBuffer chunk) {
+            if (released) {
+                chunk.release();
+                return;
+            }
+            held.add(chunk);
+            buffers.add(chunk.asReadOnlyByteBuffer());
+        }
+
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                held.forEach(RefCountedByteBuffer::release);
+                held.clear();
+            }
         }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.retry.EndpointCircuitBreaker;
+import software.amazon.awssdk.core.internal.retry.EndpointCircuitBreakers;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Async version of {@link CircuitBreakerStage}. An attempt rejected by an open breaker completes exceptionally instead of
+ * throwing, so that it is handled like any other failed attempt.
+ */
+@SdkInternalApi
+public final class AsyncCircuitBreakerStage<OutputT>
+    implements RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> {
+
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
+    private final EndpointCircuitBreakers circuitBreakers;
+
+    public AsyncCircuitBreakerStage(HttpClientDependencies dependencies,
+                                    RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline) {
+        CircuitBreakerPolicy policy = dependencies.clientConfiguration().option(SdkClientOption.CIRCUIT_BREAKER_POLICY);
+        this.circuitBreakers = policy == null ? null : new EndpointCircuitBreakers(policy);
+        this.requestPipeline = requestPipeline;
+    }
+
+    @Override
+    public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest request, RequestExecutionContext context)
+        throws Exception {
+        if (circuitBreakers == null) {
+            return requestPipeline.execute(request, context);
+        }
+
+        EndpointCircuitBreaker circuitBreaker = circuitBreakers.forHost(request.host());
+        long permit = circuitBreaker.tryAcquirePermission();
+        if (permit == EndpointCircuitBreaker.REJECTED) {
+            return CompletableFutureUtils.failedFuture(circuitBreaker.openException());
+        }
+
+        long startTime = System.nanoTime();
+        CompletableFuture<Response<OutputT>> responseFuture;
+        try {
+            responseFuture = requestPipeline.execute(request, context);
+        } catch (Exception e) {
+            circuitBreaker.onResult(permit, System.nanoTime() - startTime, EndpointCircuitBreaker.isFailure(e));
+            throw e;
+        }
+
+        responseFuture.whenComplete((r, t) -> {
+            long duration = System.nanoTime() - startTime;
+            if (r != null) {
+                circuitBreaker.onResult(permit, duration, EndpointCircuitBreaker.isFailure(r));
+            } else {
+                Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                circuitBreaker.onResult(permit, duration, EndpointCircuitBreaker.isFailure(cause));
+            }
+        });
+        return responseFuture;
+    }
+}
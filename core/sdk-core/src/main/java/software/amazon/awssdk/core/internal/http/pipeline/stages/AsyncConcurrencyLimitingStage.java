@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ClientExecutionTimeoutException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.util.ConcurrencyLimiter;
+import software.amazon.awssdk.core.retry.ConcurrencyLimitPolicy;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Holds each API call until the client's {@link ConcurrencyLimiter} admits it, before the request is signed or any other work
+ * is done for it, and releases its permit once the call completes. Does nothing unless a {@link ConcurrencyLimitPolicy} is
+ * configured.
+ *
+ * <p>The limiter learns from the latency of the call's last attempt, which {@link AsyncRetryableStage} records in
+ * {@link #LAST_ATTEMPT_LATENCY}, and compares it with earlier calls of the same request type. Queued calls are admitted on
+ * {@link HttpClientDependencies#asyncWorkExecutor()}.</p>
+ */
+@SdkInternalApi
+public final class AsyncConcurrencyLimitingStage<OutputT>
+    implements RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> {
+
+    /**
+     * How long the most recent attempt of the call took, from sending it to its completion.
+     */
+    static final ExecutionAttribute<Duration> LAST_ATTEMPT_LATENCY = new ExecutionAttribute<>("LastAttemptLatency");
+
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> wrapped;
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    public AsyncConcurrencyLimitingStage(HttpClientDependencies dependencies,
+                                         RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> wrapped) {
+        ConcurrencyLimitPolicy policy = dependencies.clientConfiguration().option(SdkClientOption.CONCURRENCY_LIMIT_POLICY);
+        ScheduledExecutorService scheduler =
+            dependencies.clientConfiguration().option(SdkClientOption.ASYNC_RETRY_EXECUTOR_SERVICE);
+        this.concurrencyLimiter = policy == null ? null
+                                                 : new ConcurrencyLimiter(policy, scheduler, dependencies.asyncWorkExecutor());
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public CompletableFuture<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
+        if (concurrencyLimiter == null) {
+            return wrapped.execute(request, context);
+        }
+
+        context.executionAttributes().putAttribute(SdkExecutionAttribute.CONCURRENCY_LIMIT_QUEUE_DEPTH,
+                                                   concurrencyLimiter.queueDepth());
+        long queuedAt = System.nanoTime();
+        CompletableFuture<OutputT> result = new CompletableFuture<>();
+        concurrencyLimiter.acquire().whenComplete((ignored, notAdmitted) -> {
+            if (notAdmitted != null) {
+                result.completeExceptionally(notAdmitted);
+                return;
+            }
+
+            long admittedAt = System.nanoTime();
+            context.executionAttributes().putAttribute(SdkExecutionAttribute.CONCURRENCY_LIMIT_QUEUE_TIME,
+                                                       Duration.ofNanos(admittedAt - queuedAt));
+            CompletableFuture<OutputT> response;
+            try {
+                response = wrapped.execute(request, context);
+            } catch (Throwable t) {
+                concurrencyLimiter.release(false);
+                result.completeExceptionally(t);
+                return;
+            }
+
+            response.whenComplete((r, t) -> {
+                release(context, t != null && isOverloaded(t));
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(r);
+                }
+            });
+        });
+        return result;
+    }
+
+    private void release(RequestExecutionContext context, boolean overloaded) {
+        Duration attemptLatency = context.executionAttributes().getAttribute(LAST_ATTEMPT_LATENCY);
+        if (attemptLatency == null) {
+            concurrencyLimiter.release(overloaded);
+        } else {
+            concurrencyLimiter.release(context.originalRequest().getClass(), attemptLatency.toNanos(), overloaded);
+        }
+    }
+
+    private static boolean isOverloaded(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof ApiCallAttemptTimeoutException ||
+               cause instanceof ClientExecutionTimeoutException ||
+               cause instanceof SdkException && RetryUtils.isThrottlingException((SdkException) cause);
+    }
+}
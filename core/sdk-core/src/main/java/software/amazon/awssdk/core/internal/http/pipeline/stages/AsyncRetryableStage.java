@@ -19,7 +19,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +30,8 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.RequestOption;
 import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ClientExecutionTimeoutException;
 import software.amazon.awssdk.core.exception.ResetException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -41,10 +45,20 @@ import software.amazon.awssdk.core.internal.util.ClockSkewUtil;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
-import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
 
 /**
  * Wrapper around the pipeline for a single request to provide retry functionality.
+ *
+ * <p>This stage also enforces the {@link SdkClientOption#API_CALL_TIMEOUT}, which spans every attempt and the backoff between
+ * them, and the {@link SdkClientOption#API_CALL_ATTEMPT_TIMEOUT} of each attempt. A timed out attempt is completed with an
+ * {@link ApiCallAttemptTimeoutException}, which aborts its in-flight HTTP request and counts against the endpoint like any other
+ * failed attempt. When the API call times out, the attempt in flight is cancelled instead, because its outcome no longer matters.
+ * No retry is scheduled that could not start before the API call's deadline.</p>
+ *
+ * <p>Delays and timeouts are timed by the {@link SdkClientOption#ASYNC_RETRY_EXECUTOR_SERVICE}, whose thread may be shared by
+ * every client in the process. When they fire, the work is handed to {@link HttpClientDependencies#asyncWorkExecutor()}: an
+ * attempt signs its request and may have to resolve credentials, which must never stall the scheduler.</p>
  */
 @SdkInternalApi
 public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
@@ -54,19 +68,22 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
     private final ScheduledExecutorService retrySubmitter;
-    private final SdkHttpResponseHandler<OutputT> responseHandler;
+    private final Executor workExecutor;
     private final HttpClientDependencies dependencies;
     private final CapacityManager retryCapacity;
     private final RetryPolicy retryPolicy;
+    private final Duration apiCallTimeout;
+    private final Duration apiCallAttemptTimeout;
 
-    public AsyncRetryableStage(SdkHttpResponseHandler<OutputT> responseHandler,
-                               HttpClientDependencies dependencies,
+    public AsyncRetryableStage(HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline) {
-        this.responseHandler = responseHandler;
         this.dependencies = dependencies;
         this.retrySubmitter = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_RETRY_EXECUTOR_SERVICE);
+        this.workExecutor = dependencies.asyncWorkExecutor();
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
         this.retryCapacity = dependencies.retryCapacity();
+        this.apiCallTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_TIMEOUT);
+        this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.requestPipeline = requestPipeline;
     }
 
@@ -101,30 +118,128 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private final SdkHttpFullRequest request;
         private final RequestExecutionContext context;
         private final RetryHandler retryHandler;
+        private final long deadlineNanos;
 
         private int requestCount = 0;
+        private volatile CompletableFuture<Response<OutputT>> attemptFuture;
 
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, dependencies.sendRateLimiter());
+            this.deadlineNanos = apiCallTimeout == null ? Long.MAX_VALUE : System.nanoTime() + apiCallTimeout.toNanos();
         }
 
         public CompletableFuture<Response<OutputT>> execute() throws Exception {
             CompletableFuture<Response<OutputT>> future = new CompletableFuture<>();
+            startApiCallTimer(future);
             execute(future);
             return future;
         }
 
         public void execute(CompletableFuture<Response<OutputT>> future) throws Exception {
+            if (future.isDone()) {
+                return;
+            }
             beforeExecute();
-            doExecute().handle((resp, err) -> handle(future, resp, err));
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (sendDelay.isZero()) {
+                executeAttempt(future);
+            } else if (!canStartBeforeDeadline(sendDelay)) {
+                future.completeExceptionally(apiCallTimeoutException(retryHandler.lastRetriedException()));
+            } else {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client send rate exceeded, will send in " + sendDelay.toMillis()
+                                                             + "ms");
+                schedule(future, () -> executeAttempt(future), sendDelay.toNanos());
+            }
+        }
+
+        private void executeAttempt(CompletableFuture<Response<OutputT>> future) throws Exception {
+            long attemptStartNanos = System.nanoTime();
+            CompletableFuture<Response<OutputT>> attempt = doExecute();
+            attemptFuture = attempt;
+            startApiCallAttemptTimer(attempt);
+            attempt.handle((resp, err) -> {
+                context.executionAttributes().putAttribute(AsyncConcurrencyLimitingStage.LAST_ATTEMPT_LATENCY,
+                                                           Duration.ofNanos(System.nanoTime() - attemptStartNanos));
+                return handle(future, resp, err);
+            });
+        }
+
+        /**
+         * Fail the API call once its deadline passes, cancelling the attempt in flight.
+         */
+        private void startApiCallTimer(CompletableFuture<Response<OutputT>> future) {
+            if (apiCallTimeout == null) {
+                return;
+            }
+            ScheduledFuture<?> timer = schedule(future, () -> {
+                if (future.completeExceptionally(apiCallTimeoutException(retryHandler.lastRetriedException()))) {
+                    CompletableFuture<Response<OutputT>> attempt = attemptFuture;
+                    if (attempt != null) {
+                        attempt.cancel(false);
+                    }
+                }
+            }, apiCallTimeout.toNanos());
+            future.whenComplete((r, t) -> timer.cancel(false));
+        }
+
+        /**
+         * Fail the attempt with an {@link ApiCallAttemptTimeoutException} if it does not complete in time.
+         */
+        private void startApiCallAttemptTimer(CompletableFuture<Response<OutputT>> attempt) {
+            if (apiCallAttemptTimeout == null || attempt.isDone()) {
+                return;
+            }
+            ScheduledFuture<?> timer = schedule(attempt, () -> attempt.completeExceptionally(apiCallAttemptTimeoutException()),
+                                                apiCallAttemptTimeout.toNanos());
+            attempt.whenComplete((r, t) -> timer.cancel(false));
+        }
+
+        private ApiCallAttemptTimeoutException apiCallAttemptTimeoutException() {
+            return ApiCallAttemptTimeoutException.builder()
+                                                 .message("HTTP request execution did not complete before the specified "
+                                                          + "timeout configuration: " + apiCallAttemptTimeout.toMillis()
+                                                          + " millis")
+                                                 .build();
+        }
+
+        private ClientExecutionTimeoutException apiCallTimeoutException(SdkException lastException) {
+            return ClientExecutionTimeoutException.builder()
+                                                  .message("Client execution did not complete before the specified timeout "
+                                                           + "configuration: " + apiCallTimeout.toMillis() + " millis")
+                                                  .cause(lastException)
+                                                  .build();
+        }
+
+        private boolean canStartBeforeDeadline(Duration delay) {
+            return deadlineNanos == Long.MAX_VALUE || System.nanoTime() + delay.toNanos() < deadlineNanos;
+        }
+
+        /**
+         * Run an action on the work executor once the delay elapses, failing the given future if the action throws.
+         */
+        private ScheduledFuture<?> schedule(CompletableFuture<?> future, UnsafeRunnable action, long delayNanos) {
+            return retrySubmitter.schedule(() -> workExecutor.execute(() -> {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }), delayNanos, TimeUnit.NANOSECONDS);
         }
 
         private Void handle(CompletableFuture<Response<OutputT>> future,
                             Response<OutputT> resp,
                             Throwable err) {
+            if (future.isDone()) {
+                // The API call timed out while this attempt was in flight.
+                return null;
+            }
             try {
+                if (resp != null) {
+                    retryHandler.updateSendRate(resp.exception());
+                }
                 if (resp != null && resp.isSuccess()) {
                     retryHandler.releaseRetryCapacity();
                     future.complete(resp);
@@ -136,7 +251,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                     // any exceptions that happen before we get to the retryable stage are also delivered to the
                     // response handler
                     deliverExceptionToResponseHandler(retryableException);
-                    executeRetry(future);
+                    executeRetry(future, retryableException);
                 } else {
                     // Don't wrap if we've already got a SdkException
                     SdkException throwable = err instanceof SdkException ?
@@ -149,7 +264,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                     // any exceptions that happen before we get to the retryable stage are also delivered to the
                     // response handler
                     deliverExceptionToResponseHandler(retryableException);
-                    executeRetry(future);
+                    executeRetry(future, retryableException);
                 }
             } catch (Exception e) {
                 future.completeExceptionally(e);
@@ -163,19 +278,22 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
          * delivered to the response handler.
          */
         private void deliverExceptionToResponseHandler(SdkException retryableException) {
-            responseHandler.exceptionOccurred(retryableException);
+            context.asyncResponseHandler().exceptionOccurred(retryableException);
         }
 
-        private void executeRetry(CompletableFuture<Response<OutputT>> future) {
+        private void executeRetry(CompletableFuture<Response<OutputT>> future, SdkException retryableException) {
             final int retriesAttempted = requestCount - 2;
             Duration delay = retryHandler.computeDelayBeforeNextRetry();
+            if (!canStartBeforeDeadline(delay)) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, but the retry could not start before the"
+                                                             + " API call timeout");
+                future.completeExceptionally(apiCallTimeoutException(retryableException));
+                return;
+            }
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + retriesAttempted);
-            retrySubmitter.schedule(() -> {
-                execute(future);
-                return null;
-            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+            schedule(future, () -> execute(future), delay.toNanos());
         }
 
         private void beforeExecute() {
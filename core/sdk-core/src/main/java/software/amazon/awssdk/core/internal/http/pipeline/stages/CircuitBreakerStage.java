@@ -0,0 +1,69 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.retry.EndpointCircuitBreaker;
+import software.amazon.awssdk.core.internal.retry.EndpointCircuitBreakers;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Fails each attempt immediately while the circuit breaker for its endpoint is open, and reports the outcome of the attempts
+ * that are sent to the breaker. Does nothing unless a {@link CircuitBreakerPolicy} is configured.
+ */
+@SdkInternalApi
+public final class CircuitBreakerStage<OutputT> implements RequestToResponsePipeline<OutputT> {
+
+    private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline;
+    private final EndpointCircuitBreakers circuitBreakers;
+
+    public CircuitBreakerStage(HttpClientDependencies dependencies,
+                               RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
+        CircuitBreakerPolicy policy = dependencies.clientConfiguration().option(SdkClientOption.CIRCUIT_BREAKER_POLICY);
+        this.circuitBreakers = policy == null ? null : new EndpointCircuitBreakers(policy);
+        this.requestPipeline = requestPipeline;
+    }
+
+    @Override
+    public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
+        if (circuitBreakers == null) {
+            return requestPipeline.execute(request, context);
+        }
+
+        EndpointCircuitBreaker circuitBreaker = circuitBreakers.forHost(request.host());
+        long permit = circuitBreaker.tryAcquirePermission();
+        if (permit == EndpointCircuitBreaker.REJECTED) {
+            throw circuitBreaker.openException();
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            Response<OutputT> response = requestPipeline.execute(request, context);
+            circuitBreaker.onResult(permit, System.nanoTime() - startTime, EndpointCircuitBreaker.isFailure(response));
+            return response;
+        } catch (Exception e) {
+            circuitBreaker.onResult(permit, System.nanoTime() - startTime, EndpointCircuitBreaker.isFailure(e));
+            throw e;
+        }
+    }
+}
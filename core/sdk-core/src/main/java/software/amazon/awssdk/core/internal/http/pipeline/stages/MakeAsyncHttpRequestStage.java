@@ -15,16 +15,27 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.Response;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
@@ -32,18 +43,25 @@ import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.async.SimpleRequestProvider;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.util.LatencyPercentileTracker;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.http.HttpStatusFamily;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.SdkRequestContext;
+import software.amazon.awssdk.http.async.AbortableRunnable;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
 import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
 
 /**
- * Delegate to the HTTP implementation to make an HTTP request and receive the response.
+ * Delegate to the HTTP implementation to make an HTTP request and receive the response. The response handlers are taken from
+ * the {@link RequestExecutionContext}.
  */
 @SdkInternalApi
 public final class MakeAsyncHttpRequestStage<OutputT>
@@ -51,19 +69,26 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
     private static final Logger log = LoggerFactory.getLogger(MakeAsyncHttpRequestStage.class);
 
+    private static final Object ALL_ATTEMPTS_FAILED = new Object();
+
     private final SdkAsyncHttpClient sdkAsyncHttpClient;
-    private final SdkHttpResponseHandler<OutputT> responseHandler;
-    private final SdkHttpResponseHandler<? extends SdkException> errorResponseHandler;
     private final Executor futureCompletionExecutor;
+    private final HedgingPolicy hedgingPolicy;
+    private final LatencyPercentileTracker hedgeLatencyTracker;
+    private final CapacityManager retryCapacity;
+    private final ScheduledExecutorService scheduler;
+    private final Executor workExecutor;
 
-    public MakeAsyncHttpRequestStage(SdkHttpResponseHandler<OutputT> responseHandler,
-                                     SdkHttpResponseHandler<? extends SdkException> errorResponseHandler,
-                                     HttpClientDependencies dependencies) {
-        this.responseHandler = responseHandler;
-        this.errorResponseHandler = errorResponseHandler;
+    public MakeAsyncHttpRequestStage(HttpClientDependencies dependencies) {
         this.futureCompletionExecutor =
                 dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkClientOption.HEDGING_POLICY);
+        this.hedgeLatencyTracker = hedgingPolicy == null ? null
+                                                         : new LatencyPercentileTracker(hedgingPolicy.latencyPercentile());
+        this.retryCapacity = dependencies.retryCapacity();
+        this.scheduler = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_RETRY_EXECUTOR_SERVICE);
+        this.workExecutor = dependencies.asyncWorkExecutor();
     }
 
     /**
@@ -78,7 +103,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private CompletableFuture<Response<OutputT>> executeHttpRequest(SdkHttpFullRequest request,
                                                                     RequestExecutionContext context) throws Exception {
         Completable completable = new Completable();
-        SdkHttpResponseHandler<Response<OutputT>> handler = new ResponseHandler(completable);
+        SdkHttpResponseHandler<Response<OutputT>> handler = new ResponseHandler(completable,
+                                                                                context.asyncResponseHandler(),
+                                                                                context.asyncErrorResponseHandler());
 
         SdkHttpRequestProvider requestProvider = context.requestProvider() == null
                 ? new SimpleRequestProvider(request, context.executionAttributes())
@@ -86,16 +113,48 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
-        sdkAsyncHttpClient.prepareRequest(requestWithContentLength, SdkRequestContext.builder().build(),
-                                          requestProvider,
-                                          handler)
-                          .run();
+        Runnable abort;
+        if (shouldHedge(context)) {
+            HedgedExecution hedgedExecution = new HedgedExecution(requestWithContentLength, requestProvider, handler);
+            hedgedExecution.start();
+            abort = hedgedExecution::abort;
+        } else {
+            AbortableRunnable runnable = sdkAsyncHttpClient.prepareRequest(requestWithContentLength,
+                                                                           SdkRequestContext.builder().build(),
+                                                                           requestProvider,
+                                                                           handler);
+            runnable.run();
+            abort = runnable::abort;
+        }
 
-        // TODO client execution timer
-        //        context.clientExecutionTrackerTask().setCurrentHttpRequest(requestCallable);
+        abortOnCancellation(completable.completableFuture, abort);
         return completable.completableFuture;
     }
 
+    /**
+     * Abort the in-flight HTTP request when the returned future is cancelled or fails with an
+     * {@link ApiCallAttemptTimeoutException}, which is how the API call and attempt timeouts in {@link AsyncRetryableStage} stop
+     * an attempt. The response handler never completes the future that way itself, so a request that already completed is never
+     * aborted.
+     */
+    private static void abortOnCancellation(CompletableFuture<?> future, Runnable abort) {
+        future.whenComplete((r, t) -> {
+            if (t instanceof CancellationException || t instanceof ApiCallAttemptTimeoutException) {
+                abort.run();
+            }
+        });
+    }
+
+    /**
+     * Only requests with an in-memory body can be sent twice, because the same {@link SimpleRequestProvider} can be subscribed
+     * to more than once.
+     */
+    private boolean shouldHedge(RequestExecutionContext context) {
+        return hedgingPolicy != null
+               && context.requestProvider() == null
+               && hedgingPolicy.hedgeCondition().test(context.originalRequest());
+    }
+
     private SdkHttpFullRequest getRequestWithContentLength(SdkHttpFullRequest request, SdkHttpRequestProvider requestProvider) {
         if (shouldSetContentLength(request, requestProvider)) {
             return request.toBuilder()
@@ -119,15 +178,23 @@ public final class MakeAsyncHttpRequestStage<OutputT>
      */
     private class ResponseHandler implements SdkHttpResponseHandler<Response<OutputT>> {
         private final Completable completable;
+        private final SdkHttpResponseHandler<OutputT> responseHandler;
+        private final SdkHttpResponseHandler<? extends SdkException> errorResponseHandler;
 
         private volatile SdkHttpResponse response;
         private volatile boolean isSuccess = false;
 
         /**
          * @param completable   Future to notify when response has been handled.
+         * @param responseHandler Handler for successful responses.
+         * @param errorResponseHandler Handler for error responses.
          */
-        private ResponseHandler(Completable completable) {
+        private ResponseHandler(Completable completable,
+                                SdkHttpResponseHandler<OutputT> responseHandler,
+                                SdkHttpResponseHandler<? extends SdkException> errorResponseHandler) {
             this.completable = completable;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
         }
 
         @Override
@@ -151,6 +218,15 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             }
         }
 
+        @Override
+        public void onSharedStream(Publisher<RefCountedByteBuffer> publisher) {
+            if (isSuccess) {
+                responseHandler.onSharedStream(publisher);
+            } else {
+                errorResponseHandler.onSharedStream(publisher);
+            }
+        }
+
         @Override
         public void exceptionOccurred(Throwable throwable) {
             // Note that we don't notify the response handler here, we do that in AsyncRetryableStage where we
@@ -182,6 +258,216 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
     }
 
+    /**
+     * A request that is sent a second time if it has not received headers within the hedge delay. The first attempt to receive
+     * headers is delivered to the response handler and the other is aborted. A failure is only delivered once every attempt
+     * that was sent has failed before receiving headers.
+     */
+    private final class HedgedExecution {
+        private final SdkHttpFullRequest request;
+        private final SdkHttpRequestProvider requestProvider;
+        private final SdkHttpResponseHandler<Response<OutputT>> responseHandler;
+        private final long startNanos = System.nanoTime();
+
+        /**
+         * The attempt that received headers first, or {@link #ALL_ATTEMPTS_FAILED}.
+         */
+        private final AtomicReference<Object> winner = new AtomicReference<>();
+        private final AtomicInteger attemptsInFlight = new AtomicInteger(1);
+        private final Attempt primary = new Attempt(false);
+
+        private volatile Attempt hedge;
+        private volatile ScheduledFuture<?> hedgeTimer;
+
+        private HedgedExecution(SdkHttpFullRequest request,
+                                SdkHttpRequestProvider requestProvider,
+                                SdkHttpResponseHandler<Response<OutputT>> responseHandler) {
+            this.request = request;
+            this.requestProvider = requestProvider;
+            this.responseHandler = responseHandler;
+        }
+
+        private void start() {
+            long hedgeDelayNanos = hedgeLatencyTracker.percentileNanos();
+            if (hedgeDelayNanos < 0) {
+                hedgeDelayNanos = hedgingPolicy.initialDelay().toNanos();
+            }
+            // The scheduler's thread only keeps time, so the hedge is sent from the work executor.
+            hedgeTimer = scheduler.schedule(() -> workExecutor.execute(this::sendHedge), hedgeDelayNanos, NANOSECONDS);
+            primary.send();
+        }
+
+        private void sendHedge() {
+            if (winner.get() != null || !retryCapacity.acquire(SdkDefaultRetrySetting.RETRY_THROTTLING_COST)) {
+                return;
+            }
+            // The primary attempt may have failed in the meantime, in which case its failure has already been delivered.
+            if (attemptsInFlight.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+                retryCapacity.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+                return;
+            }
+            log.debug("Request has not received headers within the hedge delay, sending a hedge");
+            // Published before it is sent, so that a winning primary attempt or an abort can always find the hedge.
+            Attempt newHedge = new Attempt(true);
+            hedge = newHedge;
+            newHedge.send();
+        }
+
+        /**
+         * Abort every attempt that was sent, and prevent a hedge from being sent.
+         */
+        private void abort() {
+            winner.compareAndSet(null, ALL_ATTEMPTS_FAILED);
+            cancelHedgeTimer();
+            primary.abort();
+            Attempt sentHedge = hedge;
+            if (sentHedge != null) {
+                sentHedge.abort();
+            }
+        }
+
+        private void cancelHedgeTimer() {
+            ScheduledFuture<?> timer = hedgeTimer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+
+        private final class Attempt implements SdkHttpResponseHandler<Response<OutputT>> {
+            private final boolean isHedge;
+            private final AtomicBoolean capacitySettled = new AtomicBoolean();
+            private volatile AbortableRunnable runnable;
+            private volatile boolean won;
+
+            private Attempt(boolean isHedge) {
+                this.isHedge = isHedge;
+            }
+
+            private void send() {
+                if (lost()) {
+                    settleCapacity(false);
+                    return;
+                }
+                runnable = sdkAsyncHttpClient.prepareRequest(request, SdkRequestContext.builder().build(), requestProvider, this);
+                runnable.run();
+                // Another attempt may have won, or the execution may have been aborted, before this attempt's runnable
+                // could be seen and aborted.
+                if (lost()) {
+                    abort();
+                    settleCapacity(false);
+                }
+            }
+
+            private boolean lost() {
+                Object currentWinner = winner.get();
+                return currentWinner != null && currentWinner != this;
+            }
+
+            private void abort() {
+                AbortableRunnable toAbort = runnable;
+                if (toAbort != null) {
+                    toAbort.abort();
+                }
+            }
+
+            /**
+             * Return the retry capacity consumed by a hedge, unless the hedge itself failed.
+             */
+            private void settleCapacity(boolean hedgeFailed) {
+                if (isHedge && capacitySettled.compareAndSet(false, true) && !hedgeFailed) {
+                    retryCapacity.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+                }
+            }
+
+            @Override
+            public void headersReceived(SdkHttpResponse response) {
+                if (!winner.compareAndSet(null, this)) {
+                    abort();
+                    settleCapacity(false);
+                    return;
+                }
+                won = true;
+                cancelHedgeTimer();
+                hedgeLatencyTracker.record(System.nanoTime() - startNanos);
+
+                if (isHedge) {
+                    primary.abort();
+                    settleCapacity(HttpStatusFamily.of(response.statusCode()) != HttpStatusFamily.SUCCESSFUL);
+                } else {
+                    Attempt lostHedge = hedge;
+                    if (lostHedge != null) {
+                        lostHedge.abort();
+                        lostHedge.settleCapacity(false);
+                    }
+                }
+                responseHandler.headersReceived(response);
+            }
+
+            @Override
+            public void onStream(Publisher<ByteBuffer> publisher) {
+                if (won) {
+                    responseHandler.onStream(publisher);
+                } else {
+                    publisher.subscribe(new DiscardingSubscriber<>());
+                }
+            }
+
+            @Override
+            public void onSharedStream(Publisher<RefCountedByteBuffer> publisher) {
+                if (won) {
+                    responseHandler.onSharedStream(publisher);
+                } else {
+                    publisher.subscribe(new DiscardingSubscriber<>());
+                }
+            }
+
+            @Override
+            public void exceptionOccurred(Throwable throwable) {
+                if (won) {
+                    responseHandler.exceptionOccurred(throwable);
+                    return;
+                }
+                settleCapacity(winner.get() == null);
+                if (winner.get() == null
+                    && attemptsInFlight.decrementAndGet() == 0
+                    && winner.compareAndSet(null, ALL_ATTEMPTS_FAILED)) {
+                    cancelHedgeTimer();
+                    responseHandler.exceptionOccurred(throwable);
+                }
+            }
+
+            @Override
+            public Response<OutputT> complete() {
+                return won ? responseHandler.complete() : null;
+            }
+        }
+    }
+
+    /**
+     * Cancels the response stream of an attempt that lost a hedge.
+     */
+    private static final class DiscardingSubscriber<T> implements Subscriber<T> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (item instanceof RefCountedByteBuffer) {
+                ((RefCountedByteBuffer) item).release();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
     /**
      * An interface similar to {@link CompletableFuture} that may or may not dispatch completion of the future to an executor
      * service, depending on the client's configuration.
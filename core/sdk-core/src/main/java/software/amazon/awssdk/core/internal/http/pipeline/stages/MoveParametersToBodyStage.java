@@ -18,7 +18,6 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 import static java.util.Collections.singletonList;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import software.amazon.awssdk.annotations.ReviewBeforeRelease;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -28,6 +27,7 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.ByteArrayBackedInputStream;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
@@ -67,7 +67,7 @@ public final class MoveParametersToBodyStage implements MutableRequestToRequestP
                                     .getBytes(StandardCharsets.UTF_8);
 
         return input.clearQueryParameters()
-                    .content(new ByteArrayInputStream(params))
+                    .content(new ByteArrayBackedInputStream(params))
                     .putHeader("Content-Length", singletonList(String.valueOf(params.length)))
                     .putHeader("Content-Type", singletonList("application/x-www-form-urlencoded; charset=" +
                                                              lowerCase(StandardCharsets.UTF_8.toString())));
@@ -100,7 +100,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, dependencies.sendRateLimiter());
         }
 
         public Response<OutputT> execute() throws Exception {
@@ -108,6 +108,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                 try {
                     beforeExecute();
                     Response<OutputT> response = doExecute();
+                    retryHandler.updateSendRate(response.exception());
                     if (response.isSuccess()) {
                         retryHandler.releaseRetryCapacity();
                         return response;
@@ -136,6 +137,8 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                 doPauseBeforeRetry();
             }
 
+            doPauseForSendToken();
+
             request.content().ifPresent(this::markInputStream);
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") + "Request: " +
@@ -196,6 +199,18 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
             return RequestOption.DEFAULT_STREAM_BUFFER_SIZE;
         }
 
+        /**
+         * Sleep until the client's send rate allows another attempt to be sent.
+         */
+        private void doPauseForSendToken() throws InterruptedException {
+            Duration delay = retryHandler.acquireSendToken();
+            if (!delay.isZero()) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client send rate exceeded, will send in " + delay.toMillis()
+                                                             + "ms");
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            }
+        }
+
         /**
          * Sleep for a period of time on failed request to avoid flooding a service with retries.
          */
@@ -18,7 +18,6 @@ package software.amazon.awssdk.core.internal.interceptor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
@@ -42,96 +41,138 @@ import software.amazon.awssdk.utils.Validate;
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
-    private final List<ExecutionInterceptor> interceptors;
+    /**
+     * For each {@link InterceptorHook}, the interceptors that implement it in the order they were configured. Most interceptors
+     * implement only one or two hooks, so this keeps the others from being called for nothing on every request.
+     */
+    private final ExecutionInterceptor[][] interceptorsByHook;
 
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
-        this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        List<ExecutionInterceptor> interceptorList = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.interceptorsByHook = new ExecutionInterceptor[InterceptorHook.values().length][];
+        for (InterceptorHook hook : InterceptorHook.values()) {
+            interceptorsByHook[hook.ordinal()] = interceptorList.stream()
+                                                                .filter(hook::isImplementedBy)
+                                                                .toArray(ExecutionInterceptor[]::new);
+        }
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.BEFORE_EXECUTION)) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.MODIFY_REQUEST)) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
             validateInterceptorResult(result.request(), interceptorResult, interceptor, "modifyRequest");
 
-            result = result.copy(b -> b.request(interceptorResult));
+            if (interceptorResult != result.request()) {
+                result = result.copy(b -> b.request(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.BEFORE_MARSHALLING)) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.AFTER_MARSHALLING)) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequest(InterceptorContext context,
                                                 ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.MODIFY_HTTP_REQUEST)) {
             SdkHttpFullRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
             validateInterceptorResult(result.httpRequest(), interceptorResult, interceptor, "modifyHttpRequest");
 
-            result = result.copy(b -> b.httpRequest(interceptorResult));
+            if (interceptorResult != result.httpRequest()) {
+                result = result.copy(b -> b.httpRequest(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.BEFORE_TRANSMISSION)) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        ExecutionInterceptor[] interceptors = interceptors(InterceptorHook.AFTER_TRANSMISSION);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].afterTransmission(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkHttpFullResponse interceptorResult = interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
-
-            result = result.copy(b -> b.httpResponse(interceptorResult));
+        ExecutionInterceptor[] interceptors = interceptors(InterceptorHook.MODIFY_HTTP_RESPONSE);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            SdkHttpFullResponse interceptorResult = interceptors[i].modifyHttpResponse(result, executionAttributes);
+            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors[i], "modifyHttpResponse");
+
+            if (interceptorResult != result.httpResponse()) {
+                result = result.copy(b -> b.httpResponse(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        ExecutionInterceptor[] interceptors = interceptors(InterceptorHook.BEFORE_UNMARSHALLING);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].beforeUnmarshalling(context, executionAttributes);
+        }
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        ExecutionInterceptor[] interceptors = interceptors(InterceptorHook.AFTER_UNMARSHALLING);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].afterUnmarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
-            validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
-
-            result = result.copy(b -> b.response(interceptorResult));
+        ExecutionInterceptor[] interceptors = interceptors(InterceptorHook.MODIFY_RESPONSE);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            SdkResponse interceptorResult = interceptors[i].modifyResponse(result, executionAttributes);
+            validateInterceptorResult(result.response(), interceptorResult, interceptors[i], "modifyResponse");
+
+            if (interceptorResult != result.response()) {
+                result = result.copy(b -> b.response(interceptorResult));
+            }
         }
         return result;
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        ExecutionInterceptor[] interceptors = interceptors(InterceptorHook.AFTER_EXECUTION);
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].afterExecution(context, executionAttributes);
+        }
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(InterceptorHook.ON_EXECUTION_FAILURE)) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
     }
 
     /**
@@ -153,11 +194,9 @@ public class ExecutionInterceptorChain {
     }
 
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * @return The interceptors that implement the provided hook, in the order they are configured.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
-        }
+    private ExecutionInterceptor[] interceptors(InterceptorHook hook) {
+        return interceptorsByHook[hook.ordinal()];
     }
 }
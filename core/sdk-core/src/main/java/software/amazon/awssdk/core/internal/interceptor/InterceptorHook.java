@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.interceptor;
+
+import java.lang.reflect.Method;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * The hooks of {@link ExecutionInterceptor}, used by {@link ExecutionInterceptorChain} to determine which of them an
+ * interceptor actually implements.
+ */
+@SdkInternalApi
+enum InterceptorHook {
+    BEFORE_EXECUTION("beforeExecution", Context.BeforeExecution.class),
+    MODIFY_REQUEST("modifyRequest", Context.ModifyRequest.class),
+    BEFORE_MARSHALLING("beforeMarshalling", Context.BeforeMarshalling.class),
+    AFTER_MARSHALLING("afterMarshalling", Context.AfterMarshalling.class),
+    MODIFY_HTTP_REQUEST("modifyHttpRequest", Context.ModifyHttpRequest.class),
+    BEFORE_TRANSMISSION("beforeTransmission", Context.BeforeTransmission.class),
+    AFTER_TRANSMISSION("afterTransmission", Context.AfterTransmission.class),
+    MODIFY_HTTP_RESPONSE("modifyHttpResponse", Context.ModifyHttpResponse.class),
+    BEFORE_UNMARSHALLING("beforeUnmarshalling", Context.BeforeUnmarshalling.class),
+    AFTER_UNMARSHALLING("afterUnmarshalling", Context.AfterUnmarshalling.class),
+    MODIFY_RESPONSE("modifyResponse", Context.ModifyResponse.class),
+    AFTER_EXECUTION("afterExecution", Context.AfterExecution.class),
+    ON_EXECUTION_FAILURE("onExecutionFailure", Context.FailedExecution.class);
+
+    private final String methodName;
+    private final Class<?> contextType;
+
+    InterceptorHook(String methodName, Class<?> contextType) {
+        this.methodName = methodName;
+        this.contextType = contextType;
+    }
+
+    /**
+     * Determine whether the interceptor overrides the default, no-op, implementation of this hook. When in doubt the hook is
+     * assumed to be implemented.
+     */
+    boolean isImplementedBy(ExecutionInterceptor interceptor) {
+        try {
+            Method method = interceptor.getClass().getMethod(methodName, contextType, ExecutionAttributes.class);
+            return method.getDeclaringClass() != ExecutionInterceptor.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return true;
+        }
+    }
+}
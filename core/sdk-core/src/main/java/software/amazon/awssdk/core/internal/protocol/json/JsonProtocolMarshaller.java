@@ -18,7 +18,6 @@ package software.amazon.awssdk.core.internal.protocol.json;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 import static software.amazon.awssdk.http.Header.CONTENT_TYPE;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.DefaultRequest;
@@ -31,6 +30,7 @@ import software.amazon.awssdk.core.protocol.OperationInfo;
 import software.amazon.awssdk.core.protocol.ProtocolRequestMarshaller;
 import software.amazon.awssdk.core.protocol.json.StructuredJsonGenerator;
 import software.amazon.awssdk.core.util.UriResourcePathUtils;
+import software.amazon.awssdk.utils.ByteArrayBackedInputStream;
 
 /**
  * Implementation of {@link ProtocolRequestMarshaller} for JSON based services. This includes JSON-RPC and REST-JSON.
@@ -179,7 +179,7 @@ public class JsonProtocolMarshaller<OrigRequestT extends SdkRequest> implements
             }
 
             byte[] content = jsonGenerator.getBytes();
-            request.setContent(new ByteArrayInputStream(content));
+            request.setContent(new ByteArrayBackedInputStream(content));
             if (content.length > 0) {
                 request.addHeader(CONTENT_LENGTH, Integer.toString(content.length));
             }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.CircuitBreakerOpenException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.retry.CircuitBreakerListener;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.core.retry.CircuitBreakerState;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The circuit breaker guarding a single endpoint host, as described by {@link CircuitBreakerPolicy}.
+ *
+ * <p>Every attempt must first call {@link #tryAcquirePermission()}, and must report its outcome with
+ * {@link #onResult(long, long, boolean)} using the permit it was given. A permit is only valid for the state it was issued
+ * in, so outcomes of attempts that were admitted before the last transition are ignored instead of being mistaken for
+ * half-open probes.</p>
+ *
+ * <p>The failure rate is tracked over a ring of {@link #WINDOW_BUCKETS} time buckets covering the policy's sliding window, so
+ * recording an outcome never allocates and old outcomes expire a bucket at a time.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EndpointCircuitBreaker {
+    /**
+     * Returned by {@link #tryAcquirePermission()} when the attempt must not be sent.
+     */
+    public static final long REJECTED = -1;
+
+    private static final Logger log = Logger.loggerFor(EndpointCircuitBreaker.class);
+    private static final int WINDOW_BUCKETS = 10;
+
+    private final String host;
+    private final LongSupplier nanoClock;
+    private final CircuitBreakerListener listener;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long bucketNanos;
+    private final int minimumNumberOfCalls;
+    private final long openNanos;
+    private final int halfOpenPermits;
+
+    private final long[] bucketIds = new long[WINDOW_BUCKETS];
+    private final int[] bucketCalls = new int[WINDOW_BUCKETS];
+    private final int[] bucketFailures = new int[WINDOW_BUCKETS];
+
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public EndpointCircuitBreaker(String host, CircuitBreakerPolicy policy) {
+        this(host, policy, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    EndpointCircuitBreaker(String host, CircuitBreakerPolicy policy, LongSupplier nanoClock) {
+        this.host = host;
+        this.nanoClock = nanoClock;
+        this.listener = policy.stateListener();
+        this.failureRateThreshold = policy.failureRateThreshold();
+        this.slowCallNanos = policy.slowCallDuration() == null ? Long.MAX_VALUE : policy.slowCallDuration().toNanos();
+        this.bucketNanos = Math.max(1, policy.slidingWindow().toNanos() / WINDOW_BUCKETS);
+        this.minimumNumberOfCalls = policy.minimumNumberOfCalls();
+        this.openNanos = policy.openDuration().toNanos();
+        this.halfOpenPermits = policy.halfOpenPermits();
+        clearWindow();
+    }
+
+    /**
+     * Whether the outcome of an attempt that completed with the given response counts against the endpoint. Only server
+     * errors do: client errors say nothing about the endpoint's health, and throttling is handled by the retry policy.
+     */
+    public static boolean isFailure(Response<?> response) {
+        if (response.isSuccess()) {
+            return false;
+        }
+        SdkException exception = response.exception();
+        if (exception != null && RetryUtils.isThrottlingException(exception)) {
+            return false;
+        }
+        return response.httpResponse() == null || response.httpResponse().statusCode() >= 500;
+    }
+
+    /**
+     * Whether an attempt that failed with the given exception counts against the endpoint. Attempts that were aborted or
+     * cancelled by the caller do not. Attempts that hit the API call attempt timeout fail with an
+     * {@link software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException} rather than being cancelled, so they do.
+     */
+    public static boolean isFailure(Throwable error) {
+        return !(error instanceof AbortedException ||
+                 error instanceof InterruptedException ||
+                 error instanceof CancellationException);
+    }
+
+    /**
+     * Ask whether an attempt may be sent to this endpoint.
+     *
+     * @return The permit to report the attempt's outcome with, or {@link #REJECTED} if the attempt must not be sent.
+     */
+    public long tryAcquirePermission() {
+        CircuitBreakerState previous;
+        CircuitBreakerState current;
+        long permit;
+        synchronized (this) {
+            previous = state;
+            if (state == CircuitBreakerState.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+                transitionTo(CircuitBreakerState.HALF_OPEN);
+            }
+
+            if (state == CircuitBreakerState.CLOSED) {
+                permit = generation;
+            } else if (state == CircuitBreakerState.HALF_OPEN && halfOpenInFlight < halfOpenPermits) {
+                ++halfOpenInFlight;
+                permit = generation;
+            } else {
+                permit = REJECTED;
+            }
+            current = state;
+        }
+        notifyIfChanged(previous, current);
+        return permit;
+    }
+
+    /**
+     * Report the outcome of an attempt that was sent with the given permit.
+     *
+     * @param permit The permit returned by {@link #tryAcquirePermission()} for the attempt.
+     * @param durationNanos How long the attempt took.
+     * @param failed Whether the attempt failed, as decided by {@link #isFailure(Response)} or {@link #isFailure(Throwable)}.
+     */
+    public void onResult(long permit, long durationNanos, boolean failed) {
+        boolean countedAsFailure = failed || durationNanos > slowCallNanos;
+        CircuitBreakerState previous;
+        CircuitBreakerState current;
+        synchronized (this) {
+            if (permit != generation) {
+                return;
+            }
+            previous = state;
+            if (state == CircuitBreakerState.CLOSED) {
+                recordInWindow(countedAsFailure);
+            } else if (state == CircuitBreakerState.HALF_OPEN) {
+                --halfOpenInFlight;
+                if (countedAsFailure) {
+                    transitionTo(CircuitBreakerState.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenPermits) {
+                    transitionTo(CircuitBreakerState.CLOSED);
+                }
+            }
+            current = state;
+        }
+        notifyIfChanged(previous, current);
+    }
+
+    /**
+     * Create the exception an attempt fails with when it was not given a permit.
+     */
+    public CircuitBreakerOpenException openException() {
+        return CircuitBreakerOpenException.builder()
+                                          .message("Circuit breaker for endpoint " + host + " is open; the request was not "
+                                                   + "sent.")
+                                          .build();
+    }
+
+    public synchronized CircuitBreakerState state() {
+        return state;
+    }
+
+    private void recordInWindow(boolean failed) {
+        long now = nanoClock.getAsLong();
+        long bucketId = Math.floorDiv(now, bucketNanos);
+        int slot = (int) Math.floorMod(bucketId, (long) WINDOW_BUCKETS);
+        if (bucketIds[slot] != bucketId) {
+            bucketIds[slot] = bucketId;
+            bucketCalls[slot] = 0;
+            bucketFailures[slot] = 0;
+        }
+        ++bucketCalls[slot];
+        if (failed) {
+            ++bucketFailures[slot];
+        }
+
+        int calls = 0;
+        int failures = 0;
+        for (int i = 0; i < WINDOW_BUCKETS; i++) {
+            if (bucketIds[i] > bucketId - WINDOW_BUCKETS) {
+                calls += bucketCalls[i];
+                failures += bucketFailures[i];
+            }
+        }
+        if (calls >= minimumNumberOfCalls && failures >= failureRateThreshold * calls) {
+            transitionTo(CircuitBreakerState.OPEN);
+        }
+    }
+
+    private void transitionTo(CircuitBreakerState newState) {
+        state = newState;
+        ++generation;
+        switch (newState) {
+            case OPEN:
+                openedAt = nanoClock.getAsLong();
+                break;
+            case HALF_OPEN:
+                halfOpenInFlight = 0;
+                halfOpenSuccesses = 0;
+                break;
+            case CLOSED:
+                clearWindow();
+                break;
+            default:
+                throw new IllegalStateException("Unknown circuit breaker state: " + newState);
+        }
+    }
+
+    private void clearWindow() {
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+        Arrays.fill(bucketCalls, 0);
+        Arrays.fill(bucketFailures, 0);
+    }
+
+    private void notifyIfChanged(CircuitBreakerState previous, CircuitBreakerState current) {
+        if (previous == current) {
+            return;
+        }
+        log.debug(() -> "Circuit breaker for endpoint " + host + " moved from " + previous + " to " + current);
+        if (listener != null) {
+            listener.stateChanged(host, previous, current);
+        }
+    }
+}
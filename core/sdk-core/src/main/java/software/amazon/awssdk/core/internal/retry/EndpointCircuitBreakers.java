@@ -0,0 +1,51 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.core.retry.CircuitBreakerState;
+
+/**
+ * The {@link EndpointCircuitBreaker}s of a single client, one for every endpoint host it has sent requests to.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EndpointCircuitBreakers {
+    private final CircuitBreakerPolicy policy;
+    private final Map<String, EndpointCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public EndpointCircuitBreakers(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+    }
+
+    public EndpointCircuitBreaker forHost(String host) {
+        EndpointCircuitBreaker breaker = breakers.get(host);
+        return breaker != null ? breaker : breakers.computeIfAbsent(host, h -> new EndpointCircuitBreaker(h, policy));
+    }
+
+    /**
+     * The current state of the circuit breaker for the given host, which is {@link CircuitBreakerState#CLOSED} if no request
+     * has been sent to it yet.
+     */
+    public CircuitBreakerState state(String host) {
+        EndpointCircuitBreaker breaker = breakers.get(host);
+        return breaker == null ? CircuitBreakerState.CLOSED : breaker.state();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+/**
+ * The client-wide send rate limiter behind {@link RetryMode#ADAPTIVE}.
+ *
+ * <p>Sending a request costs one token, and tokens are refilled at {@link #fillRate()} per second. The fill rate follows a
+ * CUBIC-style curve: every throttled response cuts it to {@code BETA} times the measured send rate, after which it ramps back
+ * up slowly around the rate at which throttling last happened and quickly beyond it. The bucket is disabled, and never delays
+ * a request, until the first throttled response is seen.</p>
+ *
+ * <p>A caller that finds the bucket empty reserves its token anyway and is told how long to wait for it, so that concurrent
+ * callers are spaced out in arrival order instead of racing for the next refill.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RateLimitingTokenBucket {
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+    private static final double MEASUREMENT_BUCKETS_PER_SECOND = 2.0;
+
+    private final DoubleSupplier clock;
+
+    private boolean enabled;
+    private double fillRate = MIN_FILL_RATE;
+    private double maxCapacity = MIN_CAPACITY;
+    private double currentCapacity;
+    private double lastRefillTime = -1;
+
+    private double measuredSendRate;
+    private double lastMeasurementBucket;
+    private long requestsInMeasurementBucket;
+
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public RateLimitingTokenBucket() {
+        this(() -> System.nanoTime() / 1_000_000_000.0);
+    }
+
+    /**
+     * @param clock The current time, in seconds.
+     */
+    @SdkTestInternalApi
+    RateLimitingTokenBucket(DoubleSupplier clock) {
+        this.clock = clock;
+        double now = clock.getAsDouble();
+        this.lastMeasurementBucket = measurementBucket(now);
+        this.lastThrottleTime = now;
+    }
+
+    /**
+     * Take a token for sending one request.
+     *
+     * @return How long the caller must wait before sending the request. {@link Duration#ZERO} if it may be sent now.
+     */
+    public synchronized Duration acquire() {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+
+        refill(clock.getAsDouble());
+        currentCapacity -= 1;
+        if (currentCapacity >= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (-currentCapacity / fillRate * 1_000_000_000L));
+    }
+
+    /**
+     * Record the outcome of a request that received a response, adjusting the send rate accordingly.
+     *
+     * @param throttled Whether the service throttled the request.
+     */
+    public synchronized void updateSendRate(boolean throttled) {
+        double now = clock.getAsDouble();
+        updateMeasuredRate(now);
+
+        double calculatedRate;
+        if (throttled) {
+            double rateToUse = enabled ? Math.min(measuredSendRate, fillRate) : measuredSendRate;
+            lastMaxRate = rateToUse;
+            updateTimeWindow();
+            lastThrottleTime = now;
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            updateTimeWindow();
+            calculatedRate = cubicRate(now);
+        }
+
+        updateFillRate(now, Math.min(calculatedRate, 2 * measuredSendRate));
+    }
+
+    @SdkTestInternalApi
+    synchronized double fillRate() {
+        return fillRate;
+    }
+
+    @SdkTestInternalApi
+    synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    private double cubicRate(double now) {
+        double elapsed = now - lastThrottleTime;
+        return SCALE_CONSTANT * Math.pow(elapsed - timeWindow, 3) + lastMaxRate;
+    }
+
+    private void updateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    private void updateMeasuredRate(double now) {
+        double bucket = measurementBucket(now);
+        requestsInMeasurementBucket++;
+        if (bucket > lastMeasurementBucket) {
+            double currentRate = requestsInMeasurementBucket / (bucket - lastMeasurementBucket);
+            measuredSendRate = currentRate * SMOOTH + measuredSendRate * (1 - SMOOTH);
+            requestsInMeasurementBucket = 0;
+            lastMeasurementBucket = bucket;
+        }
+    }
+
+    private void updateFillRate(double now, double newRate) {
+        refill(now);
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void refill(double now) {
+        if (lastRefillTime >= 0) {
+            currentCapacity = Math.min(maxCapacity, currentCapacity + (now - lastRefillTime) * fillRate);
+        }
+        lastRefillTime = now;
+    }
+
+    private static double measurementBucket(double time) {
+        return Math.floor(time * MEASUREMENT_BUCKETS_PER_SECOND) / MEASUREMENT_BUCKETS_PER_SECOND;
+    }
+}
@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicyContext;
 import software.amazon.awssdk.core.retry.RetryUtils;
@@ -35,6 +36,7 @@ public final class RetryHandler {
 
     private final RetryPolicy retryPolicy;
     private final CapacityManager retryCapacity;
+    private final RateLimitingTokenBucket sendRateLimiter;
 
     private Duration lastBackoffDelay = Duration.ZERO;
     private boolean retryCapacityConsumed;
@@ -42,9 +44,32 @@ public final class RetryHandler {
     private SdkException lastRetriedException;
 
     public RetryHandler(RetryPolicy retryPolicy,
-                        CapacityManager retryCapacity) {
+                        CapacityManager retryCapacity,
+                        RateLimitingTokenBucket sendRateLimiter) {
         this.retryPolicy = retryPolicy;
         this.retryCapacity = retryCapacity;
+        this.sendRateLimiter = retryPolicy.retryMode() == RetryMode.ADAPTIVE ? sendRateLimiter : null;
+    }
+
+    /**
+     * Acquire a send token for the next attempt when the {@link RetryMode#ADAPTIVE} retry mode is in use.
+     *
+     * @return How long to wait before sending the attempt.
+     */
+    public Duration acquireSendToken() {
+        return sendRateLimiter == null ? Duration.ZERO : sendRateLimiter.acquire();
+    }
+
+    /**
+     * Feed the outcome of an attempt that received a response into the client's send rate when the
+     * {@link RetryMode#ADAPTIVE} retry mode is in use.
+     *
+     * @param exception The exception the attempt failed with, or null if it succeeded.
+     */
+    public void updateSendRate(SdkException exception) {
+        if (sendRateLimiter != null) {
+            sendRateLimiter.updateSendRate(exception != null && RetryUtils.isThrottlingException(exception));
+        }
     }
 
     public boolean shouldRetry(SdkHttpFullResponse httpResponse,
@@ -142,6 +167,13 @@ public final class RetryHandler {
         this.lastRetriedException = exception;
     }
 
+    /**
+     * The exception of the last attempt that was retried, or null if no attempt has been retried yet.
+     */
+    public SdkException lastRetriedException() {
+        return lastRetriedException;
+    }
+
     /**
      * Whether or not the current request is a retry. True if the original request has been retried at least one time.
      */
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link InputStream} that reads through a list of {@link ByteBuffer}s in order, so that content received in chunks can
+ * be read without first concatenating it into a single array. Reading advances the positions of the buffers.
+ */
+@SdkInternalApi
+public final class ByteBufferListInputStream extends InputStream {
+
+    private final List<ByteBuffer> buffers;
+    private int index;
+
+    public ByteBufferListInputStream(List<ByteBuffer> buffers) {
+        this.buffers = buffers;
+    }
+
+    @Override
+    public int read() {
+        ByteBuffer buffer = currentBuffer();
+        return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = currentBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        int read = 0;
+        while (buffer != null && read < len) {
+            int length = Math.min(buffer.remaining(), len - read);
+            buffer.get(b, off + read, length);
+            read += length;
+            buffer = currentBuffer();
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = 0;
+        ByteBuffer buffer = currentBuffer();
+        while (buffer != null && skipped < n) {
+            int length = (int) Math.min(buffer.remaining(), n - skipped);
+            buffer.position(buffer.position() + length);
+            skipped += length;
+            buffer = currentBuffer();
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long available = 0;
+        for (int i = index; i < buffers.size(); i++) {
+            available += buffers.get(i).remaining();
+        }
+        return (int) Math.min(available, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The first buffer with remaining content, or null if all of them have been read.
+     */
+    private ByteBuffer currentBuffer() {
+        while (index < buffers.size()) {
+            ByteBuffer buffer = buffers.get(index);
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.ConcurrencyLimitExceededException;
+import software.amazon.awssdk.core.retry.ConcurrencyLimitPolicy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Limits the number of API calls a client has in flight, as described by {@link ConcurrencyLimitPolicy}.
+ *
+ * <p>Callers {@link #acquire()} a permit before doing any work for a call and release it once the call completes. Callers that
+ * cannot be admitted right away wait in a FIFO queue, and are admitted by whichever release makes room for them. Queued callers
+ * are admitted, or fail, on the admission executor, so that the next call never runs on the thread that completed the previous
+ * one or on the scheduler's thread.</p>
+ *
+ * <p>In adaptive mode, the limit is cut by {@link #BACKOFF_RATIO} whenever a call is overloaded, or when its last attempt takes
+ * more than {@link #LATENCY_TOLERANCE} times the fastest attempt of the same operation seen in the last
+ * {@link #MIN_LATENCY_WINDOW} calls to it. Otherwise it grows by one for every limit's worth of calls that complete while the
+ * limit is in use. Only attempt latencies are compared, so that retries and their backoff don't read as congestion, and each
+ * operation has its own baseline, so that a slow operation isn't compared with a fast one.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiter {
+    private static final double MIN_LIMIT = 1.0;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final int MIN_LATENCY_WINDOW = 1000;
+
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final long maxQueueWaitNanos;
+    private final boolean adaptive;
+    private final ScheduledExecutorService scheduler;
+    private final Executor admissionExecutor;
+
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private final Map<Object, LatencyBaseline> baselines = new HashMap<>();
+    private int inFlight;
+    private double limit;
+
+    /**
+     * @param policy The policy to enforce.
+     * @param scheduler The scheduler used to time out calls that wait in the queue for too long.
+     * @param admissionExecutor The executor queued calls are admitted or failed on.
+     */
+    public ConcurrencyLimiter(ConcurrencyLimitPolicy policy, ScheduledExecutorService scheduler, Executor admissionExecutor) {
+        this.maxConcurrency = policy.maxConcurrency();
+        this.maxQueueSize = policy.maxQueueSize();
+        this.maxQueueWaitNanos = policy.maxQueueWait().toNanos();
+        this.adaptive = policy.adaptive();
+        this.scheduler = scheduler;
+        this.admissionExecutor = admissionExecutor;
+        this.limit = maxConcurrency;
+    }
+
+    /**
+     * Acquire a permit for a call.
+     *
+     * @return A future that completes once the call is admitted, or completes exceptionally with a
+     * {@link ConcurrencyLimitExceededException} if it cannot be.
+     */
+    public CompletableFuture<Void> acquire() {
+        Waiter waiter;
+        synchronized (this) {
+            if (queue.isEmpty() && inFlight < (int) limit) {
+                ++inFlight;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (queue.size() >= maxQueueSize || maxQueueWaitNanos == 0) {
+                return CompletableFutureUtils.failedFuture(
+                    exception("The client's concurrency limit was reached and its queue of " + maxQueueSize
+                              + " calls is full"));
+            }
+            waiter = new Waiter();
+            queue.addLast(waiter);
+        }
+        waiter.timer = scheduler.schedule(() -> expireOnAdmissionExecutor(waiter), maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+        return waiter.future;
+    }
+
+    /**
+     * Release the permit of a call that was admitted and sent at least one attempt.
+     *
+     * @param operation Identifies the operation the call was for, such as its request type. Attempt latencies are only compared
+     * with those of the same operation.
+     * @param attemptLatencyNanos How long the call's last attempt took.
+     * @param overloaded Whether the call failed in a way that shows the service is overloaded, such as throttling or a timeout.
+     */
+    public void release(Object operation, long attemptLatencyNanos, boolean overloaded) {
+        List<Waiter> admitted;
+        synchronized (this) {
+            --inFlight;
+            if (adaptive) {
+                LatencyBaseline baseline = baselines.computeIfAbsent(operation, o -> new LatencyBaseline());
+                adjustLimit(baseline.exceededBy(attemptLatencyNanos) || overloaded);
+            }
+            admitted = admitWaiters();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * Release the permit of a call that was admitted but did not complete an attempt, so that there is no latency to learn
+     * from.
+     *
+     * @param overloaded Whether the call failed in a way that shows the service is overloaded, such as a timeout.
+     */
+    public void release(boolean overloaded) {
+        List<Waiter> admitted;
+        synchronized (this) {
+            --inFlight;
+            if (adaptive && overloaded) {
+                adjustLimit(true);
+            }
+            admitted = admitWaiters();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * The number of calls currently waiting to be admitted.
+     */
+    public synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * The current limit, which only changes in adaptive mode.
+     */
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    private void adjustLimit(boolean congested) {
+        if (congested) {
+            limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        } else if ((inFlight + 1) * 2 >= limit) {
+            limit = Math.min(maxConcurrency, limit + 1.0 / limit);
+        }
+    }
+
+    private List<Waiter> admitWaiters() {
+        if (queue.isEmpty() || inFlight >= (int) limit) {
+            return Collections.emptyList();
+        }
+        List<Waiter> admitted = new ArrayList<>();
+        while (!queue.isEmpty() && inFlight < (int) limit) {
+            admitted.add(queue.pollFirst());
+            ++inFlight;
+        }
+        return admitted;
+    }
+
+    /**
+     * Admit the given waiters on the admission executor. If it rejects them, they are failed instead and their permits are
+     * given back.
+     */
+    private void admit(List<Waiter> admitted) {
+        if (admitted.isEmpty()) {
+            return;
+        }
+        try {
+            admissionExecutor.execute(() -> admitted.forEach(Waiter::admit));
+        } catch (RejectedExecutionException e) {
+            ConcurrencyLimitExceededException failure = rejection(e);
+            admitted.forEach(waiter -> {
+                waiter.fail(failure);
+                release(false);
+            });
+        }
+    }
+
+    private void expireOnAdmissionExecutor(Waiter waiter) {
+        try {
+            admissionExecutor.execute(() -> expire(waiter));
+        } catch (RejectedExecutionException e) {
+            // Failing the call is still better than leaving it queued forever.
+            expire(waiter);
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+        }
+        waiter.future.completeExceptionally(
+            exception("The client's concurrency limit was reached and the call was not admitted within "
+                      + TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos) + " millis"));
+    }
+
+    private static ConcurrencyLimitExceededException exception(String message) {
+        return ConcurrencyLimitExceededException.builder().message(message).build();
+    }
+
+    private static ConcurrencyLimitExceededException rejection(RejectedExecutionException cause) {
+        return ConcurrencyLimitExceededException.builder()
+                                                .message("The client's concurrency limit admitted the call, but the executor "
+                                                         + "it is admitted on rejected it")
+                                                .cause(cause)
+                                                .build();
+    }
+
+    /**
+     * The fastest attempt of one operation seen in the last {@link #MIN_LATENCY_WINDOW} calls to it.
+     */
+    private static final class LatencyBaseline {
+        private long minLatencyNanos = Long.MAX_VALUE;
+        private int samples;
+
+        /**
+         * Add the latency of an attempt to the baseline.
+         *
+         * @return Whether the attempt took more than {@link #LATENCY_TOLERANCE} times the baseline.
+         */
+        private boolean exceededBy(long latencyNanos) {
+            if (++samples >= MIN_LATENCY_WINDOW) {
+                samples = 0;
+                minLatencyNanos = latencyNanos;
+            } else {
+                minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+            }
+            return latencyNanos > minLatencyNanos * LATENCY_TOLERANCE;
+        }
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timer;
+
+        private void admit() {
+            ScheduledFuture<?> queueTimer = timer;
+            if (queueTimer != null) {
+                queueTimer.cancel(false);
+            }
+            future.complete(null);
+        }
+
+        private void fail(Throwable cause) {
+            ScheduledFuture<?> queueTimer = timer;
+            if (queueTimer != null) {
+                queueTimer.cancel(false);
+            }
+            future.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hashed timing wheel and a single daemon thread.
+ *
+ * <p>Scheduling and cancelling a task are constant-time operations that never take a lock, which makes this cheaper than a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} for the SDK's workload: a large number of short delays (retry
+ * backoffs, timeouts) that are usually cancelled before they fire. The price is precision, tasks run up to one tick after
+ * their deadline and never before it.</p>
+ *
+ * <p>Tasks are run on the wheel's thread, so they should be short and must not block. When no tasks are scheduled, the
+ * thread parks until the next task is scheduled instead of ticking.</p>
+ *
+ * <p>Once shut down, tasks that have not run yet are cancelled rather than executed.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final Logger log = Logger.loggerFor(HashedWheelScheduler.class);
+
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int STATE_CREATED = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread worker;
+
+    private final AtomicInteger runState = new AtomicInteger(STATE_CREATED);
+    private final AtomicInteger scheduledTasks = new AtomicInteger();
+    private final Queue<WheelTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final List<Runnable> unprocessedTasks = Collections.synchronizedList(new ArrayList<>());
+
+    // Only accessed by the worker thread.
+    private long startNanos;
+    private long tick;
+
+    public HashedWheelScheduler() {
+        this(DEFAULT_TICK_MILLIS, MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param tickDuration The granularity of the wheel. Tasks will run at most this long after their deadline.
+     * @param unit The unit of {@code tickDuration}.
+     * @param wheelSize The number of buckets in the wheel, rounded up to the next power of two.
+     */
+    public HashedWheelScheduler(long tickDuration, TimeUnit unit, int wheelSize) {
+        Validate.isTrue(tickDuration > 0, "tickDuration must be positive.");
+        Validate.isPositive(wheelSize, "wheelSize");
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[normalizeWheelSize(wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.worker = new ThreadFactoryBuilder().daemonThreads(true)
+                                                .threadNamePrefix("sdk-scheduler")
+                                                .build()
+                                                .newThread(this::runWorker);
+    }
+
+    /**
+     * The scheduler shared by every client in this process. It is created on first use and cannot be shut down.
+     */
+    public static ScheduledExecutorService shared() {
+        return SharedSchedulerHolder.INSTANCE;
+    }
+
+    private static int normalizeWheelSize(int wheelSize) {
+        int normalized = 1;
+        while (normalized < wheelSize) {
+            normalized <<= 1;
+        }
+        return normalized;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        return schedule(new WheelTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Validate.paramNotNull(callable, "callable");
+        return schedule(new WheelTask<>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        Validate.isTrue(period > 0, "period must be positive.");
+        return schedule(new WheelTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                                            unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        Validate.isTrue(delay > 0, "delay must be positive.");
+        return schedule(new WheelTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                                            -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        if (runState.getAndSet(STATE_SHUTDOWN) == STATE_CREATED) {
+            terminated.countDown();
+        } else {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        if (Thread.currentThread() == worker) {
+            return Collections.emptyList();
+        }
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                terminated.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (unprocessedTasks) {
+            return new ArrayList<>(unprocessedTasks);
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return runState.get() == STATE_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private static long deadline(long delay, TimeUnit unit) {
+        return System.nanoTime() + Math.max(0, unit.toNanos(delay));
+    }
+
+    private <V> WheelTask<V> schedule(WheelTask<V> task) {
+        start();
+        if (runState.get() != STATE_STARTED) {
+            throw new RejectedExecutionException("The scheduler has been shut down.");
+        }
+
+        newTasks.add(task);
+        if (runState.get() != STATE_STARTED && newTasks.remove(task)) {
+            // Lost a race with shutdown, after the worker stopped draining the queue.
+            throw new RejectedExecutionException("The scheduler has been shut down.");
+        }
+
+        // Only the transition from "nothing scheduled" can find the worker parked indefinitely.
+        if (scheduledTasks.getAndIncrement() == 0) {
+            LockSupport.unpark(worker);
+        }
+        return task;
+    }
+
+    private void start() {
+        if (runState.get() == STATE_CREATED && runState.compareAndSet(STATE_CREATED, STATE_STARTED)) {
+            worker.start();
+        }
+    }
+
+    private void runWorker() {
+        startNanos = System.nanoTime();
+        tick = 0;
+
+        while (runState.get() == STATE_STARTED) {
+            if (scheduledTasks.get() == 0) {
+                LockSupport.park(this);
+                // Nothing is in the wheel, so it is safe to skip the ticks that elapsed while parked.
+                tick = (System.nanoTime() - startNanos) / tickNanos;
+                continue;
+            }
+
+            if (!waitForNextTick()) {
+                break;
+            }
+
+            processCancelledTasks();
+            transferNewTasks();
+            wheel[(int) (tick & mask)].expireTasks();
+            tick++;
+        }
+
+        cancelRemainingTasks();
+        terminated.countDown();
+    }
+
+    /**
+     * Sleep until the end of the current tick. Returns false if the scheduler was shut down while waiting.
+     */
+    private boolean waitForNextTick() {
+        long tickEndNanos = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = tickEndNanos - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+            if (runState.get() != STATE_STARTED) {
+                return false;
+            }
+        }
+    }
+
+    private void processCancelledTasks() {
+        WheelTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            task.remove();
+        }
+    }
+
+    private void transferNewTasks() {
+        WheelTask<?> task;
+        while ((task = newTasks.poll()) != null) {
+            if (task.isCancelled()) {
+                task.remove();
+            } else {
+                place(task, tick);
+            }
+        }
+    }
+
+    /**
+     * Put a task into the bucket for its deadline, never earlier than the bucket for {@code minimumTick}.
+     */
+    private void place(WheelTask<?> task, long minimumTick) {
+        long taskTick = (task.deadlineNanos - startNanos) / tickNanos;
+        task.remainingRounds = Math.max(0, (taskTick - minimumTick) / wheel.length);
+        wheel[(int) (Math.max(taskTick, minimumTick) & mask)].add(task);
+    }
+
+    private void cancelRemainingTasks() {
+        List<WheelTask<?>> remaining = new ArrayList<>();
+        for (Bucket bucket : wheel) {
+            bucket.drainTo(remaining);
+        }
+        WheelTask<?> task;
+        while ((task = newTasks.poll()) != null) {
+            remaining.add(task);
+        }
+
+        for (WheelTask<?> remainingTask : remaining) {
+            if (remainingTask.cancel(false)) {
+                unprocessedTasks.add(remainingTask);
+            }
+        }
+        cancelledTasks.clear();
+    }
+
+    private static final class SharedSchedulerHolder {
+        private static final ScheduledExecutorService INSTANCE =
+                ExecutorUtils.unmanagedScheduledExecutor(new HashedWheelScheduler());
+    }
+
+    /**
+     * A doubly-linked list of the tasks hashed to one slot of the wheel. Only accessed by the worker thread.
+     */
+    private final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        private void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = task;
+                tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        private void remove(WheelTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            if (task == head) {
+                head = task.next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        private void expireTasks() {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.remainingRounds <= 0) {
+                    remove(task);
+                    task.expire();
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        private void drainTo(List<WheelTask<?>> tasks) {
+            while (head != null) {
+                WheelTask<?> task = head;
+                remove(task);
+                tasks.add(task);
+            }
+        }
+    }
+
+    private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        /**
+         * Positive for fixed-rate tasks, negative for fixed-delay tasks and zero for one-shot tasks.
+         */
+        private final long periodNanos;
+        private volatile long deadlineNanos;
+
+        // Only accessed by the worker thread.
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> prev;
+        private WheelTask<?> next;
+        private boolean removed;
+
+        private WheelTask(Callable<V> callable, long deadlineNanos, long periodNanos) {
+            super(callable);
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return periodNanos != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(NANOSECONDS), other.getDelay(NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && runState.get() == STATE_STARTED) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        /**
+         * Run the task once its deadline has passed, re-placing it in the wheel if it is periodic.
+         */
+        private void expire() {
+            try {
+                if (!isPeriodic()) {
+                    run();
+                } else if (runAndReset() && runState.get() == STATE_STARTED) {
+                    deadlineNanos = periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos;
+                    place(this, tick + 1);
+                    return;
+                }
+            } catch (Throwable t) {
+                log.warn(() -> "A scheduled task failed unexpectedly.", t);
+            }
+            remove();
+        }
+
+        /**
+         * Take this task out of the wheel for good. Safe to call more than once.
+         */
+        private void remove() {
+            if (removed) {
+                return;
+            }
+            removed = true;
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+            scheduledTasks.decrementAndGet();
+        }
+    }
+}
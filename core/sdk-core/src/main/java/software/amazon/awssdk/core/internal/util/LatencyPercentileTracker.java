@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Tracks a percentile of the most recent latency samples. The percentile is recomputed after every
+ * {@value #RECOMPUTE_INTERVAL} samples rather than on every read, so reading it is cheap.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LatencyPercentileTracker {
+    private static final int WINDOW_SIZE = 512;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final double percentile;
+    private final long[] samples = new long[WINDOW_SIZE];
+
+    private int count;
+    private int next;
+    private int samplesSinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param percentile The percentile to track, between 0 and 100.
+     */
+    public LatencyPercentileTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % WINDOW_SIZE;
+        count = Math.min(count + 1, WINDOW_SIZE);
+
+        if (++samplesSinceRecompute >= RECOMPUTE_INTERVAL && count >= MIN_SAMPLES) {
+            samplesSinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * count) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+
+    /**
+     * @return The tracked percentile in nanoseconds, or -1 if not enough samples have been recorded yet.
+     */
+    public long percentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.RequestCoalescingPolicy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Coalesces equal requests made while one of them is in flight into a single call, and optionally caches successful
+ * responses for a short time, as configured by a {@link RequestCoalescingPolicy}. One instance is shared by every request
+ * made with a client.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RequestCoalescer {
+    private final RequestCoalescingPolicy policy;
+    private final long responseCacheTtlNanos;
+    private final LongSupplier clock;
+
+    /**
+     * The in-flight and cached calls, least recently used first. Evicting an in-flight call only means that equal requests
+     * made after it was evicted start a call of their own.
+     */
+    private final Map<SdkRequest, Call> calls;
+
+    public RequestCoalescer(RequestCoalescingPolicy policy) {
+        this(policy, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    RequestCoalescer(RequestCoalescingPolicy policy, LongSupplier clock) {
+        this.policy = policy;
+        this.responseCacheTtlNanos = policy.responseCacheTtl().toNanos();
+        this.clock = clock;
+        this.calls = new LinkedHashMap<SdkRequest, Call>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SdkRequest, Call> eldest) {
+                return size() > policy.maxCacheSize();
+            }
+        };
+    }
+
+    /**
+     * Whether requests like the provided one may be coalesced.
+     */
+    public boolean isCoalescable(SdkRequest request) {
+        return policy.cacheableRequestTypes().contains(request.getClass());
+    }
+
+    /**
+     * Return the result of the in-flight or cached call for an equal request when there is one, or start a call with the
+     * provided function otherwise. The function is invoked on the calling thread. Cancelling the returned future does not
+     * cancel the call, since other callers may be waiting for it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> coalesce(SdkRequest request, Supplier<CompletableFuture<T>> call) {
+        Call existing;
+        Call started = new Call();
+        synchronized (calls) {
+            existing = calls.get(request);
+            if (existing == null || existing.isExpired(clock.getAsLong())) {
+                calls.put(request, started);
+                existing = null;
+            }
+        }
+
+        if (existing != null) {
+            return (CompletableFuture<T>) existing.result.thenApply(r -> r);
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            result = CompletableFutureUtils.failedFuture(e);
+        }
+
+        result.whenComplete((r, t) -> {
+            if (t == null && responseCacheTtlNanos > 0) {
+                started.expiresAt = clock.getAsLong() + responseCacheTtlNanos;
+            } else {
+                remove(request, started);
+            }
+
+            if (t != null) {
+                started.result.completeExceptionally(t);
+            } else {
+                started.result.complete(r);
+            }
+        });
+
+        return (CompletableFuture<T>) started.result.thenApply(r -> r);
+    }
+
+    /**
+     * The number of in-flight and cached calls currently remembered.
+     */
+    public int size() {
+        synchronized (calls) {
+            return calls.size();
+        }
+    }
+
+    private void remove(SdkRequest request, Call call) {
+        synchronized (calls) {
+            calls.remove(request, call);
+        }
+    }
+
+    private static final class Call {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Notified whenever the circuit breaker for an endpoint changes state, for example to publish the state as a metric or to
+ * log it.
+ *
+ * <p>Listeners are invoked on the thread that completed the request causing the transition, so they should return
+ * quickly.</p>
+ *
+ * @see CircuitBreakerPolicy.Builder#stateListener(CircuitBreakerListener)
+ */
+@FunctionalInterface
+@SdkPublicApi
+public interface CircuitBreakerListener {
+    /**
+     * Invoked after the circuit breaker for an endpoint moved from one state to another.
+     *
+     * @param endpointHost The host of the endpoint the circuit breaker guards.
+     * @param previousState The state before the transition.
+     * @param newState The state after the transition.
+     */
+    void stateChanged(String endpointHost, CircuitBreakerState previousState, CircuitBreakerState newState);
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.CircuitBreakerOpenException;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Opt-in policy for a per-endpoint circuit breaker, configured with
+ * {@link ClientOverrideConfiguration.Builder#circuitBreakerPolicy(CircuitBreakerPolicy)}.
+ *
+ * <p>The client keeps one circuit breaker for every endpoint host it sends requests to. Each breaker tracks the outcome of
+ * every attempt sent to its host over the last {@link #slidingWindow()}. An attempt fails when it could not be sent or
+ * completed, when the service returns a 5xx error that is not throttling, or when it takes longer than
+ * {@link #slowCallDuration()}. Once at least {@link #minimumNumberOfCalls()} attempts were made in the window and the fraction
+ * that failed reaches the {@link #failureRateThreshold()}, the breaker opens.</p>
+ *
+ * <p>While open, attempts to the endpoint fail immediately with a {@link CircuitBreakerOpenException} instead of waiting out
+ * their timeouts. After {@link #openDuration()}, the breaker lets {@link #halfOpenPermits()} attempts through. If all of them
+ * succeed the breaker closes again, and if any fails it re-opens.</p>
+ */
+@Immutable
+@SdkPublicApi
+public final class CircuitBreakerPolicy implements ToCopyableBuilder<CircuitBreakerPolicy.Builder, CircuitBreakerPolicy> {
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    private static final Duration DEFAULT_SLIDING_WINDOW = Duration.ofSeconds(10);
+    private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 20;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    private static final int DEFAULT_HALF_OPEN_PERMITS = 3;
+
+    private final double failureRateThreshold;
+    private final Duration slowCallDuration;
+    private final Duration slidingWindow;
+    private final int minimumNumberOfCalls;
+    private final Duration openDuration;
+    private final int halfOpenPermits;
+    private final CircuitBreakerListener stateListener;
+
+    private CircuitBreakerPolicy(BuilderImpl builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration == null
+                                ? null : Validate.isPositive(builder.slowCallDuration, "slowCallDuration");
+        this.slidingWindow = Validate.isPositive(builder.slidingWindow, "slidingWindow");
+        this.minimumNumberOfCalls = Validate.isPositive(builder.minimumNumberOfCalls, "minimumNumberOfCalls");
+        this.openDuration = Validate.isPositive(builder.openDuration, "openDuration");
+        this.halfOpenPermits = Validate.isPositive(builder.halfOpenPermits, "halfOpenPermits");
+        this.stateListener = builder.stateListener;
+        Validate.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+                        "failureRateThreshold must be greater than 0 and at most 1: %s", failureRateThreshold);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The fraction of failed attempts in the sliding window, between 0 (exclusive) and 1 (inclusive), at which the breaker
+     * opens.
+     */
+    public double failureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * How long an attempt may take before it is counted as a failure, or null when latency is not tracked.
+     */
+    public Duration slowCallDuration() {
+        return slowCallDuration;
+    }
+
+    /**
+     * How far back attempts are considered when computing the failure rate.
+     */
+    public Duration slidingWindow() {
+        return slidingWindow;
+    }
+
+    /**
+     * How many attempts must be made in the sliding window before the breaker may open.
+     */
+    public int minimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    /**
+     * How long the breaker stays open before probing the endpoint.
+     */
+    public Duration openDuration() {
+        return openDuration;
+    }
+
+    /**
+     * How many probe attempts are allowed while the breaker is half-open.
+     */
+    public int halfOpenPermits() {
+        return halfOpenPermits;
+    }
+
+    /**
+     * The listener notified of state transitions, or null when none is configured.
+     */
+    public CircuitBreakerListener stateListener() {
+        return stateListener;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().failureRateThreshold(failureRateThreshold)
+                        .slowCallDuration(slowCallDuration)
+                        .slidingWindow(slidingWindow)
+                        .minimumNumberOfCalls(minimumNumberOfCalls)
+                        .openDuration(openDuration)
+                        .halfOpenPermits(halfOpenPermits)
+                        .stateListener(stateListener);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("CircuitBreakerPolicy")
+                       .add("failureRateThreshold", failureRateThreshold)
+                       .add("slowCallDuration", slowCallDuration)
+                       .add("slidingWindow", slidingWindow)
+                       .add("minimumNumberOfCalls", minimumNumberOfCalls)
+                       .add("openDuration", openDuration)
+                       .add("halfOpenPermits", halfOpenPermits)
+                       .add("stateListener", stateListener)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, CircuitBreakerPolicy> {
+        /**
+         * Configure the fraction of failed attempts at which the breaker opens. Defaults to 0.5.
+         */
+        Builder failureRateThreshold(double failureRateThreshold);
+
+        double failureRateThreshold();
+
+        /**
+         * Configure how long an attempt may take before it is counted as a failure. Latency is not tracked by default.
+         */
+        Builder slowCallDuration(Duration slowCallDuration);
+
+        Duration slowCallDuration();
+
+        /**
+         * Configure how far back attempts are considered when computing the failure rate. Defaults to 10 seconds.
+         */
+        Builder slidingWindow(Duration slidingWindow);
+
+        Duration slidingWindow();
+
+        /**
+         * Configure how many attempts must be made in the sliding window before the breaker may open. Defaults to 20.
+         */
+        Builder minimumNumberOfCalls(int minimumNumberOfCalls);
+
+        int minimumNumberOfCalls();
+
+        /**
+         * Configure how long the breaker stays open before probing the endpoint. Defaults to 30 seconds.
+         */
+        Builder openDuration(Duration openDuration);
+
+        Duration openDuration();
+
+        /**
+         * Configure how many probe attempts are allowed while the breaker is half-open. Defaults to 3.
+         */
+        Builder halfOpenPermits(int halfOpenPermits);
+
+        int halfOpenPermits();
+
+        /**
+         * Configure a listener to be notified when the breaker for an endpoint changes state.
+         */
+        Builder stateListener(CircuitBreakerListener stateListener);
+
+        CircuitBreakerListener stateListener();
+
+        CircuitBreakerPolicy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private Duration slowCallDuration;
+        private Duration slidingWindow = DEFAULT_SLIDING_WINDOW;
+        private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+        private Duration openDuration = DEFAULT_OPEN_DURATION;
+        private int halfOpenPermits = DEFAULT_HALF_OPEN_PERMITS;
+        private CircuitBreakerListener stateListener;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            failureRateThreshold(failureRateThreshold);
+        }
+
+        @Override
+        public double failureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        @Override
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        public void setSlowCallDuration(Duration slowCallDuration) {
+            slowCallDuration(slowCallDuration);
+        }
+
+        @Override
+        public Duration slowCallDuration() {
+            return slowCallDuration;
+        }
+
+        @Override
+        public Builder slidingWindow(Duration slidingWindow) {
+            this.slidingWindow = slidingWindow;
+            return this;
+        }
+
+        public void setSlidingWindow(Duration slidingWindow) {
+            slidingWindow(slidingWindow);
+        }
+
+        @Override
+        public Duration slidingWindow() {
+            return slidingWindow;
+        }
+
+        @Override
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+            minimumNumberOfCalls(minimumNumberOfCalls);
+        }
+
+        @Override
+        public int minimumNumberOfCalls() {
+            return minimumNumberOfCalls;
+        }
+
+        @Override
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            openDuration(openDuration);
+        }
+
+        @Override
+        public Duration openDuration() {
+            return openDuration;
+        }
+
+        @Override
+        public Builder halfOpenPermits(int halfOpenPermits) {
+            this.halfOpenPermits = halfOpenPermits;
+            return this;
+        }
+
+        public void setHalfOpenPermits(int halfOpenPermits) {
+            halfOpenPermits(halfOpenPermits);
+        }
+
+        @Override
+        public int halfOpenPermits() {
+            return halfOpenPermits;
+        }
+
+        @Override
+        public Builder stateListener(CircuitBreakerListener stateListener) {
+            this.stateListener = stateListener;
+            return this;
+        }
+
+        public void setStateListener(CircuitBreakerListener stateListener) {
+            stateListener(stateListener);
+        }
+
+        @Override
+        public CircuitBreakerListener stateListener() {
+            return stateListener;
+        }
+
+        @Override
+        public CircuitBreakerPolicy build() {
+            return new CircuitBreakerPolicy(this);
+        }
+    }
+}
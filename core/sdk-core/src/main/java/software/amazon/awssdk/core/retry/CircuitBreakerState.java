@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The state of the circuit breaker for a single endpoint.
+ *
+ * @see CircuitBreakerPolicy
+ */
+@SdkPublicApi
+public enum CircuitBreakerState {
+    /**
+     * Requests to the endpoint are sent normally while its failure rate is tracked.
+     */
+    CLOSED,
+
+    /**
+     * The endpoint's failure rate exceeded the threshold, and requests to it fail immediately without being sent.
+     */
+    OPEN,
+
+    /**
+     * The open period has elapsed, and a limited number of probe requests are sent to decide whether the endpoint has
+     * recovered.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.ConcurrencyLimitExceededException;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Opt-in policy for limiting how many API calls an async client has in flight at once, configured with
+ * {@link ClientOverrideConfiguration.Builder#concurrencyLimitPolicy(ConcurrencyLimitPolicy)}.
+ *
+ * <p>An API call that arrives while the limit is reached waits in a queue before it is signed or sent, so no per-request work
+ * is done for calls that cannot be sent yet. A call fails with a {@link ConcurrencyLimitExceededException} when the queue
+ * already holds {@link #maxQueueSize()} calls, or when it has waited {@link #maxQueueWait()} without being admitted.</p>
+ *
+ * <p>When {@link #adaptive()} is enabled, the limit follows an additive-increase, multiplicative-decrease curve below
+ * {@link #maxConcurrency()}. It shrinks whenever a call is throttled, times out, or its last attempt takes much longer than the
+ * fastest recent attempt of the same operation, and grows back by one for every limit's worth of calls that complete
+ * normally.</p>
+ *
+ * <p>The queue depth a call found on arrival and the time it spent queued are recorded in the
+ * {@link SdkExecutionAttribute#CONCURRENCY_LIMIT_QUEUE_DEPTH} and {@link SdkExecutionAttribute#CONCURRENCY_LIMIT_QUEUE_TIME}
+ * execution attributes, where execution interceptors can publish them.</p>
+ */
+@Immutable
+@SdkPublicApi
+public final class ConcurrencyLimitPolicy implements ToCopyableBuilder<ConcurrencyLimitPolicy.Builder, ConcurrencyLimitPolicy> {
+    private static final int DEFAULT_MAX_CONCURRENCY = 50;
+    private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    private static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofSeconds(10);
+
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final Duration maxQueueWait;
+    private final boolean adaptive;
+
+    private ConcurrencyLimitPolicy(BuilderImpl builder) {
+        this.maxConcurrency = Validate.isPositive(builder.maxConcurrency, "maxConcurrency");
+        this.maxQueueSize = Validate.isNotNegative(builder.maxQueueSize, "maxQueueSize");
+        this.maxQueueWait = Validate.isNotNegative(builder.maxQueueWait, "maxQueueWait");
+        this.adaptive = builder.adaptive;
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * The maximum number of API calls in flight at once. When the limit is adaptive, this is its upper bound.
+     */
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The maximum number of API calls waiting to be admitted.
+     */
+    public int maxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * How long an API call may wait to be admitted before it fails.
+     */
+    public Duration maxQueueWait() {
+        return maxQueueWait;
+    }
+
+    /**
+     * Whether the limit adapts to the observed latency and throttling of the service.
+     */
+    public boolean adaptive() {
+        return adaptive;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().maxConcurrency(maxConcurrency)
+                        .maxQueueSize(maxQueueSize)
+                        .maxQueueWait(maxQueueWait)
+                        .adaptive(adaptive);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimitPolicy")
+                       .add("maxConcurrency", maxConcurrency)
+                       .add("maxQueueSize", maxQueueSize)
+                       .add("maxQueueWait", maxQueueWait)
+                       .add("adaptive", adaptive)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ConcurrencyLimitPolicy> {
+        /**
+         * Configure the maximum number of API calls in flight at once. Defaults to 50.
+         */
+        Builder maxConcurrency(int maxConcurrency);
+
+        int maxConcurrency();
+
+        /**
+         * Configure the maximum number of API calls waiting to be admitted. Defaults to 1000.
+         */
+        Builder maxQueueSize(int maxQueueSize);
+
+        int maxQueueSize();
+
+        /**
+         * Configure how long an API call may wait to be admitted before it fails. Defaults to 10 seconds.
+         */
+        Builder maxQueueWait(Duration maxQueueWait);
+
+        Duration maxQueueWait();
+
+        /**
+         * Configure whether the limit adapts to the observed latency and throttling of the service. Defaults to false.
+         */
+        Builder adaptive(boolean adaptive);
+
+        boolean adaptive();
+
+        ConcurrencyLimitPolicy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private Duration maxQueueWait = DEFAULT_MAX_QUEUE_WAIT;
+        private boolean adaptive;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public int maxConcurrency() {
+            return maxConcurrency;
+        }
+
+        @Override
+        public Builder maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public void setMaxQueueSize(int maxQueueSize) {
+            maxQueueSize(maxQueueSize);
+        }
+
+        @Override
+        public int maxQueueSize() {
+            return maxQueueSize;
+        }
+
+        @Override
+        public Builder maxQueueWait(Duration maxQueueWait) {
+            this.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        public void setMaxQueueWait(Duration maxQueueWait) {
+            maxQueueWait(maxQueueWait);
+        }
+
+        @Override
+        public Duration maxQueueWait() {
+            return maxQueueWait;
+        }
+
+        @Override
+        public Builder adaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+            return this;
+        }
+
+        public void setAdaptive(boolean adaptive) {
+            adaptive(adaptive);
+        }
+
+        @Override
+        public boolean adaptive() {
+            return adaptive;
+        }
+
+        @Override
+        public ConcurrencyLimitPolicy build() {
+            return new ConcurrencyLimitPolicy(this);
+        }
+    }
+}
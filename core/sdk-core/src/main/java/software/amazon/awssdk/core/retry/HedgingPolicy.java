@@ -0,0 +1,185 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Opt-in policy for hedging requests made with an async client, configured with
+ * {@link ClientOverrideConfiguration.Builder#hedgingPolicy(HedgingPolicy)}.
+ *
+ * <p>When a request that matches the {@link #hedgeCondition()} has not received response headers within the
+ * {@link #latencyPercentile()} of the client's recent header latency, a second, identical attempt is sent. Whichever attempt
+ * receives headers first provides the response, and the other is aborted.</p>
+ *
+ * <p>Hedging sends a request more than once, so the condition must only match operations that are safe to repeat, such as
+ * reads. Requests with a streaming body are never hedged. Each hedge consumes the same retry capacity as a retry, and that
+ * capacity is only returned when the hedge is not the cause of a failure, so hedging stops on its own while a service is
+ * failing.</p>
+ */
+@Immutable
+@SdkPublicApi
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private static final double DEFAULT_LATENCY_PERCENTILE = 95.0;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+    private final Predicate<SdkRequest> hedgeCondition;
+    private final double latencyPercentile;
+    private final Duration initialDelay;
+
+    private HedgingPolicy(BuilderImpl builder) {
+        this.hedgeCondition = Validate.paramNotNull(builder.hedgeCondition, "hedgeCondition");
+        this.latencyPercentile = builder.latencyPercentile;
+        this.initialDelay = Validate.isNotNegative(builder.initialDelay, "initialDelay");
+        Validate.isTrue(latencyPercentile > 0 && latencyPercentile < 100,
+                        "latencyPercentile must be between 0 and 100, exclusive: %s", latencyPercentile);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Which requests may be hedged.
+     */
+    public Predicate<SdkRequest> hedgeCondition() {
+        return hedgeCondition;
+    }
+
+    /**
+     * The percentile of recent time-to-headers latency after which a hedge is sent.
+     */
+    public double latencyPercentile() {
+        return latencyPercentile;
+    }
+
+    /**
+     * How long to wait before hedging while the client has not yet seen enough responses to compute the percentile.
+     */
+    public Duration initialDelay() {
+        return initialDelay;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().hedgeCondition(hedgeCondition)
+                        .latencyPercentile(latencyPercentile)
+                        .initialDelay(initialDelay);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("hedgeCondition", hedgeCondition)
+                       .add("latencyPercentile", latencyPercentile)
+                       .add("initialDelay", initialDelay)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+        /**
+         * Configure which requests may be hedged, for example {@code r -> r instanceof GetItemRequest}. Required.
+         */
+        Builder hedgeCondition(Predicate<SdkRequest> hedgeCondition);
+
+        Predicate<SdkRequest> hedgeCondition();
+
+        /**
+         * Configure the percentile of recent time-to-headers latency after which a hedge is sent. Defaults to 95.
+         */
+        Builder latencyPercentile(double latencyPercentile);
+
+        double latencyPercentile();
+
+        /**
+         * Configure how long to wait before hedging until enough responses have been seen to compute the latency
+         * percentile. Defaults to 100 milliseconds.
+         */
+        Builder initialDelay(Duration initialDelay);
+
+        Duration initialDelay();
+
+        HedgingPolicy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private Predicate<SdkRequest> hedgeCondition;
+        private double latencyPercentile = DEFAULT_LATENCY_PERCENTILE;
+        private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder hedgeCondition(Predicate<SdkRequest> hedgeCondition) {
+            this.hedgeCondition = hedgeCondition;
+            return this;
+        }
+
+        public void setHedgeCondition(Predicate<SdkRequest> hedgeCondition) {
+            hedgeCondition(hedgeCondition);
+        }
+
+        @Override
+        public Predicate<SdkRequest> hedgeCondition() {
+            return hedgeCondition;
+        }
+
+        @Override
+        public Builder latencyPercentile(double latencyPercentile) {
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        public void setLatencyPercentile(double latencyPercentile) {
+            latencyPercentile(latencyPercentile);
+        }
+
+        @Override
+        public double latencyPercentile() {
+            return latencyPercentile;
+        }
+
+        @Override
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        public void setInitialDelay(Duration initialDelay) {
+            initialDelay(initialDelay);
+        }
+
+        @Override
+        public Duration initialDelay() {
+            return initialDelay;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
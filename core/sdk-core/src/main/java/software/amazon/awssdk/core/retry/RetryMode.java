@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The way a client paces the requests it sends when a service starts throttling it.
+ *
+ * @see RetryPolicy.Builder#retryMode(RetryMode)
+ */
+@SdkPublicApi
+public enum RetryMode {
+    /**
+     * Every request is sent as soon as it is made. Throttled requests are retried according to the
+     * {@link RetryPolicy#throttlingBackoffStrategy()}, but other requests are not slowed down.
+     */
+    STANDARD,
+
+    /**
+     * In addition to {@link #STANDARD} retries, the client measures how often it is throttled and limits the rate at which it
+     * sends requests, including first attempts, with a token bucket. The sending rate is cut multiplicatively when a
+     * request is throttled and ramps back up along a cubic curve, so that many clients converge on the throughput the
+     * service allows instead of repeatedly overshooting it.
+     *
+     * <p>The rate limit is not enforced until the client has been throttled at least once. Requests are delayed, not
+     * failed, when no send tokens are available.</p>
+     */
+    ADAPTIVE
+}
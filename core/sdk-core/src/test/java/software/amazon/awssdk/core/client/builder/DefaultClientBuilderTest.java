@@ -41,6 +41,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.client.config.SdkSharedResources;
 import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -131,6 +132,26 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void sharedResourcesProvided_SharedClientIsNotClosedByClient() {
+        SdkHttpClient sharedHttpClient = mock(SdkHttpClient.class);
+        SdkSharedResources sharedResources = SdkSharedResources.builder().httpClient(sharedHttpClient).build();
+
+        TestClient first = testClientBuilder().sharedResources(sharedResources).build();
+        TestClient second = testClientBuilder().sharedResources(sharedResources).build();
+        sharedResources.close();
+
+        assertThat(first.clientConfiguration.option(SdkClientOption.SYNC_HTTP_CLIENT))
+                .isInstanceOf(SdkDefaultClientBuilder.NonManagedSdkHttpClient.class);
+        verify(defaultHttpClientFactory, never()).buildWithDefaults(any());
+
+        first.clientConfiguration.close();
+        verify(sharedHttpClient, never()).close();
+
+        second.clientConfiguration.close();
+        verify(sharedHttpClient).close();
+    }
+
     @Test
     public void explicitClientProvided_ClientIsNotManagedBySdk() {
         TestClient client = testClientBuilder()
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class FutureCompletionExecutorsTest {
+
+    @Test
+    public void direct_runsOnCallingThread() {
+        Thread[] ranOn = new Thread[1];
+
+        FutureCompletionExecutors.direct().execute(() -> ranOn[0] = Thread.currentThread());
+
+        assertThat(ranOn[0]).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void shared_runsOnDaemonPoolThread() throws Exception {
+        CompletableFuture<Thread> ranOn = new CompletableFuture<>();
+
+        FutureCompletionExecutors.shared().execute(() -> ranOn.complete(Thread.currentThread()));
+
+        Thread thread = ranOn.get(5, TimeUnit.SECONDS);
+        assertThat(thread.getName()).startsWith("sdk-async-response-");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    @Test
+    public void shared_cannotBeShutDownByClients() {
+        // Clients shut down every ExecutorService in their configuration when they are closed.
+        assertThat(FutureCompletionExecutors.shared()).isNotInstanceOf(ExecutorService.class);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.Test;
+import software.amazon.awssdk.core.internal.client.config.SharedClientResources;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+public class SdkSharedResourcesTest {
+    private final SdkHttpClient httpClient = mock(SdkHttpClient.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    private final SdkSharedResources resources = SdkSharedResources.builder()
+                                                                   .httpClient(httpClient)
+                                                                   .scheduledExecutorService(scheduler)
+                                                                   .build();
+    private final SharedClientResources shared = resources.resources();
+
+    @Test
+    public void closingResourcesWithNoClients_closesEverything() {
+        resources.close();
+
+        verify(httpClient).close();
+        verify(scheduler).shutdown();
+        assertThat(shared.referenceCount()).isZero();
+    }
+
+    @Test
+    public void resourcesAreClosedByLastClient() {
+        SdkAutoCloseable first = shared.acquire();
+        SdkAutoCloseable second = shared.acquire();
+
+        resources.close();
+        first.close();
+        verify(httpClient, never()).close();
+
+        second.close();
+        verify(httpClient).close();
+        verify(scheduler).shutdown();
+    }
+
+    @Test
+    public void releasingReferenceTwice_onlyReleasesOnce() {
+        SdkAutoCloseable first = shared.acquire();
+        SdkAutoCloseable second = shared.acquire();
+
+        first.close();
+        first.close();
+        resources.close();
+        resources.close();
+
+        assertThat(shared.referenceCount()).isEqualTo(1);
+        verify(httpClient, never()).close();
+
+        second.close();
+        verify(httpClient, times(1)).close();
+    }
+
+    @Test
+    public void acquiringClosedResources_throwsException() {
+        resources.close();
+
+        assertThatThrownBy(shared::acquire).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void resourcesAreCreatedOnceAndClosedWithResources() {
+        SdkAutoCloseable resource = mock(SdkAutoCloseable.class);
+
+        assertThat(shared.resource(SdkAutoCloseable.class, () -> resource)).isSameAs(resource);
+        assertThat(shared.resource(SdkAutoCloseable.class, () -> mock(SdkAutoCloseable.class))).isSameAs(resource);
+
+        resources.close();
+        verify(resource).close();
+    }
+
+    @Test
+    public void clientExecutionTimer_isNotStoppedByClients() {
+        shared.clientExecutionTimer().startTimer(60_000);
+
+        shared.clientExecutionTimer().close();
+        assertThat(shared.clientExecutionTimer().getExecutor().isShutdown()).isFalse();
+
+        resources.close();
+        assertThat(shared.clientExecutionTimer().getExecutor().isShutdown()).isTrue();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ExecutionAttributesTest {
+
+    private static final ExecutionAttribute<String> NAME = new ExecutionAttribute<>("Name");
+    private static final ExecutionAttribute<Integer> COUNT = new ExecutionAttribute<>("Count");
+
+    @Test
+    public void putAttribute_canBeRetrievedAndReplaced() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+
+        attributes.putAttribute(NAME, "first").putAttribute(COUNT, 1);
+        assertThat(attributes.getAttribute(NAME)).isEqualTo("first");
+        assertThat(attributes.getAttribute(COUNT)).isEqualTo(1);
+
+        attributes.putAttribute(NAME, "second");
+        assertThat(attributes.getAttribute(NAME)).isEqualTo("second");
+    }
+
+    @Test
+    public void unsetAttribute_isNull() {
+        assertThat(new ExecutionAttributes().getAttribute(NAME)).isNull();
+    }
+
+    @Test
+    public void attributesCreatedAfterTheCollection_canBeStored() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        ExecutionAttribute<String> lateAttribute = new ExecutionAttribute<>("Late");
+
+        assertThat(attributes.getAttribute(lateAttribute)).isNull();
+        attributes.putAttribute(lateAttribute, "value");
+
+        assertThat(attributes.getAttribute(lateAttribute)).isEqualTo("value");
+        assertThat(attributes.getAttribute(NAME)).isNull();
+    }
+
+    @Test
+    public void manyAttributes_areKeptApart() {
+        List<ExecutionAttribute<Integer>> manyAttributes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            manyAttributes.add(new ExecutionAttribute<>("Attribute" + i));
+        }
+        ExecutionAttributes attributes = new ExecutionAttributes();
+
+        for (int i = 0; i < manyAttributes.size(); i++) {
+            attributes.putAttribute(manyAttributes.get(i), i);
+        }
+
+        for (int i = 0; i < manyAttributes.size(); i++) {
+            assertThat(attributes.getAttribute(manyAttributes.get(i))).isEqualTo(i);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.Crc32MismatchException;
+import software.amazon.awssdk.core.http.JsonResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.runtime.transform.JsonUnmarshallerContext;
+import software.amazon.awssdk.core.runtime.transform.SimpleTypeJsonUnmarshallers.BigDecimalJsonUnmarshaller;
+import software.amazon.awssdk.core.runtime.transform.Unmarshaller;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
+
+public class NonBlockingJsonResponseHandlerTest {
+
+    private static final String JSON = "{\"Items\":[{\"id\":{\"S\":\"1\"},\"n\":{\"N\":\"12345678901234567890\"}}," +
+                                       "{\"id\":{\"S\":\"\\u00e9t\\u00e9 \\ud83d\\ude00\"},\"b\":true,\"f\":1.5e3}]," +
+                                       "\"Count\":2,\"Empty\":null,\"Text\":\"été\"}";
+
+    private static final Unmarshaller<List<String>, JsonUnmarshallerContext> TOKEN_RECORDER = context -> {
+        List<String> events = new ArrayList<>();
+        JsonToken token;
+        while ((token = context.nextToken()) != null) {
+            boolean hasText = token.isScalarValue() || token == JsonToken.FIELD_NAME;
+            events.add(hasText ? token + ":" + text(token, context.readText()) : token.toString());
+        }
+        return events;
+    };
+
+    private static final Unmarshaller<BigDecimal, JsonUnmarshallerContext> FIRST_DECIMAL = context -> {
+        JsonToken token = context.nextToken();
+        while (token != JsonToken.VALUE_NUMBER_FLOAT) {
+            token = context.nextToken();
+        }
+        return BigDecimalJsonUnmarshaller.getInstance().unmarshall(context);
+    };
+
+    private final JsonResponseHandler<List<String>> jsonResponseHandler =
+        new JsonResponseHandler<>(TOKEN_RECORDER, Collections.emptyMap(), new JsonFactory(), false, true);
+
+    @Test
+    public void tokensMatchBlockingParse_singleByteChunks() throws Exception {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (byte b : content) {
+            chunks.add(ByteBuffer.wrap(new byte[] {b}));
+        }
+
+        assertThat(handle(response().build(), chunks)).isEqualTo(blockingParse());
+    }
+
+    @Test
+    public void tokensMatchBlockingParse_directBufferChunks() throws Exception {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < content.length; i += 7) {
+            int length = Math.min(7, content.length - i);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(content, i, length).flip();
+            chunks.add(chunk);
+        }
+
+        assertThat(handle(response().build(), chunks)).isEqualTo(blockingParse());
+    }
+
+    @Test
+    public void sharedChunks_areTokenizedAndReleased() throws Exception {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        List<RefCountedByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < content.length; i += 5) {
+            chunks.add(RefCountedByteBuffer.wrap(ByteBuffer.wrap(content, i, Math.min(5, content.length - i))));
+        }
+
+        NonBlockingJsonResponseHandler<List<String>> handler =
+            new NonBlockingJsonResponseHandler<>(jsonResponseHandler, h -> h, r -> r, new ExecutionAttributes());
+        handler.headersReceived(response().build());
+        handler.onSharedStream(publisherOf(chunks));
+
+        assertThat(chunks).allSatisfy(c -> assertThat(c.refCnt()).isZero());
+        assertThat(handler.complete()).isEqualTo(blockingParse());
+    }
+
+    @Test
+    public void noContent_unmarshallsEmptyDocument() {
+        assertThat(handle(response().build(), Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void matchingCrc32_isAccepted() throws Exception {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        SdkHttpFullResponse response = response().putHeader("x-amz-crc32", String.valueOf(crc32.getValue())).build();
+
+        assertThat(handle(response, Collections.singletonList(ByteBuffer.wrap(content)))).isEqualTo(blockingParse());
+    }
+
+    @Test
+    public void mismatchedCrc32_fails() {
+        SdkHttpFullResponse response = response().putHeader("x-amz-crc32", "1234").build();
+
+        List<ByteBuffer> chunks = Collections.singletonList(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> handle(response, chunks)).isInstanceOf(Crc32MismatchException.class);
+    }
+
+    @Test
+    public void bigDecimalMember_keepsAllSignificantDigits() {
+        String price = "12345.678901234567890123";
+        JsonResponseHandler<BigDecimal> decimalHandler =
+            new JsonResponseHandler<>(FIRST_DECIMAL, Collections.emptyMap(), new JsonFactory(), false, true);
+        List<ByteBuffer> chunks =
+            Collections.singletonList(ByteBuffer.wrap(("{\"Price\":" + price + "}").getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(handle(decimalHandler, response().build(), chunks)).isEqualTo(new BigDecimal(price));
+    }
+
+    @Test
+    public void malformedContent_failsOnComplete() {
+        List<ByteBuffer> chunks = Collections.singletonList(ByteBuffer.wrap("{\"a\":]".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> handle(response().build(), chunks)).hasMessageContaining("Unable to parse");
+    }
+
+    @Test
+    public void retryAfterPartialBody_parsesOnlyRetriedBody() throws Exception {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        NonBlockingJsonResponseHandler<List<String>> handler = newHandler();
+
+        handler.headersReceived(response().build());
+        handler.onStream(publisherOf(Collections.singletonList(ByteBuffer.wrap(content, 0, content.length / 2))));
+        handler.exceptionOccurred(new RuntimeException());
+
+        handler.headersReceived(response().build());
+        handler.onStream(publisherOf(Collections.singletonList(ByteBuffer.wrap(content))));
+
+        assertThat(handler.complete()).isEqualTo(blockingParse());
+    }
+
+    @Test
+    public void retryAfterCrc32Mismatch_isAccepted() throws Exception {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc32 = new CRC32();
+        crc32.update(content);
+        NonBlockingJsonResponseHandler<List<String>> handler = newHandler();
+
+        handler.headersReceived(response().putHeader("x-amz-crc32", "1234").build());
+        handler.onStream(publisherOf(Collections.singletonList(ByteBuffer.wrap(content))));
+        assertThatThrownBy(handler::complete).isInstanceOf(Crc32MismatchException.class);
+
+        handler.headersReceived(response().putHeader("x-amz-crc32", String.valueOf(crc32.getValue())).build());
+        handler.onStream(publisherOf(Collections.singletonList(ByteBuffer.wrap(content))));
+
+        assertThat(handler.complete()).isEqualTo(blockingParse());
+    }
+
+    private NonBlockingJsonResponseHandler<List<String>> newHandler() {
+        return new NonBlockingJsonResponseHandler<>(jsonResponseHandler, h -> h, r -> r, new ExecutionAttributes());
+    }
+
+    private List<String> handle(SdkHttpFullResponse response, List<ByteBuffer> chunks) {
+        return handle(jsonResponseHandler, response, chunks);
+    }
+
+    private <T> T handle(JsonResponseHandler<T> responseHandler, SdkHttpFullResponse response, List<ByteBuffer> chunks) {
+        NonBlockingJsonResponseHandler<T> handler =
+            new NonBlockingJsonResponseHandler<>(responseHandler, h -> h, r -> r, new ExecutionAttributes());
+        handler.headersReceived(response);
+        handler.onStream(publisherOf(chunks));
+        return handler.complete();
+    }
+
+    private List<String> blockingParse() throws Exception {
+        SdkHttpFullResponse response = response().content(AbortableInputStream.create(
+            new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)))).build();
+        return jsonResponseHandler.handle(response, new ExecutionAttributes());
+    }
+
+    /**
+     * Floating point numbers are compared by value, since the blocking parser reads them as doubles while the non-blocking
+     * handler keeps them as decimals, which print differently.
+     */
+    private static String text(JsonToken token, String text) {
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return new BigDecimal(text).stripTrailingZeros().toPlainString();
+        }
+        return text;
+    }
+
+    private static SdkHttpFullResponse.Builder response() {
+        return SdkHttpFullResponse.builder().statusCode(200);
+    }
+
+    private static <T> Publisher<T> publisherOf(List<T> chunks) {
+        return subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            chunks.forEach(subscriber::onNext);
+            subscriber.onComplete();
+        };
+    }
+}
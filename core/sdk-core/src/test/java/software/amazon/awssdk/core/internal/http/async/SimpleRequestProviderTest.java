@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.ByteArrayBackedInputStream;
+
+public class SimpleRequestProviderTest {
+
+    @Test
+    public void marshalledContentIsPublishedWithoutCopy() {
+        byte[] content = {1, 2, 3};
+        SimpleRequestProvider provider = new SimpleRequestProvider(request(new ByteArrayBackedInputStream(content)),
+                                                                   new ExecutionAttributes());
+        content[0] = 42;
+
+        List<ByteBuffer> published = subscribe(provider);
+
+        assertThat(provider.contentLength()).isEqualTo(3);
+        assertThat(published).containsExactly(ByteBuffer.wrap(new byte[] {42, 2, 3}));
+    }
+
+    @Test
+    public void otherContentIsReadAndReset() throws Exception {
+        InputStream content = new ByteArrayInputStream(new byte[] {1, 2, 3});
+        SimpleRequestProvider provider = new SimpleRequestProvider(request(content), new ExecutionAttributes());
+
+        assertThat(provider.contentLength()).isEqualTo(3);
+        assertThat(subscribe(provider)).containsExactly(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+        assertThat(content.read()).isEqualTo(1);
+    }
+
+    @Test
+    public void eachSubscriberReceivesTheWholeContent() {
+        SimpleRequestProvider provider = new SimpleRequestProvider(request(new ByteArrayBackedInputStream(new byte[] {1, 2})),
+                                                                   new ExecutionAttributes());
+
+        subscribe(provider).forEach(b -> b.position(b.limit()));
+
+        assertThat(subscribe(provider)).containsExactly(ByteBuffer.wrap(new byte[] {1, 2}));
+    }
+
+    private static List<ByteBuffer> subscribe(SimpleRequestProvider provider) {
+        List<ByteBuffer> published = new ArrayList<>();
+        provider.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                published.add(byteBuffer);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return published;
+    }
+
+    private static SdkHttpFullRequest request(InputStream content) {
+        return SdkHttpFullRequest.builder()
+                                 .protocol("https")
+                                 .host("aws.amazon.com")
+                                 .method(SdkHttpMethod.POST)
+                                 .content(content)
+                                 .build();
+    }
+}
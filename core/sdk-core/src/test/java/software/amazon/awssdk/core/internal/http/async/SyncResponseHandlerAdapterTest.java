@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class SyncResponseHandlerAdapterTest {
+
+    private static final HttpResponseHandler<String> CONTENT_READER =
+        (response, attributes) -> IoUtils.toUtf8String(response.content().get());
+
+    @Test
+    public void sharedChunks_areReadInPlaceAndReleasedAfterHandling() {
+        List<RefCountedByteBuffer> chunks = Arrays.asList(chunk("hello "), chunk("world"));
+        SyncResponseHandlerAdapter<String> adapter =
+            new SyncResponseHandlerAdapter<>(CONTENT_READER, r -> r, new ExecutionAttributes());
+
+        adapter.headersReceived(SdkHttpFullResponse.builder().statusCode(200).build());
+        adapter.onSharedStream(publisherOf(chunks));
+        assertThat(chunks).allSatisfy(c -> assertThat(c.refCnt()).isEqualTo(1));
+
+        assertThat(adapter.complete()).isEqualTo("hello world");
+        assertThat(chunks).allSatisfy(c -> assertThat(c.refCnt()).isZero());
+    }
+
+    @Test
+    public void sharedChunks_areReleasedOnFailure() {
+        List<RefCountedByteBuffer> chunks = Arrays.asList(chunk("hello "), chunk("world"));
+        SyncResponseHandlerAdapter<String> adapter =
+            new SyncResponseHandlerAdapter<>(CONTENT_READER, r -> r, new ExecutionAttributes());
+
+        adapter.headersReceived(SdkHttpFullResponse.builder().statusCode(200).build());
+        adapter.onSharedStream(publisherOf(chunks));
+        adapter.exceptionOccurred(new RuntimeException());
+
+        assertThat(chunks).allSatisfy(c -> assertThat(c.refCnt()).isZero());
+    }
+
+    @Test
+    public void sharedChunkArrivingAfterFailure_isReleased() {
+        AtomicReference<Subscriber<? super RefCountedByteBuffer>> subscriber = new AtomicReference<>();
+        SyncResponseHandlerAdapter<String> adapter =
+            new SyncResponseHandlerAdapter<>(CONTENT_READER, r -> r, new ExecutionAttributes());
+
+        adapter.headersReceived(SdkHttpFullResponse.builder().statusCode(200).build());
+        adapter.onSharedStream(subscriber::set);
+        adapter.exceptionOccurred(new RuntimeException());
+
+        RefCountedByteBuffer lateChunk = chunk("late");
+        subscriber.get().onNext(lateChunk);
+
+        assertThat(lateChunk.refCnt()).isZero();
+    }
+
+    @Test
+    public void failedAttemptThenSuccessfulAttempt_handlesSecondBody() {
+        AtomicReference<Subscriber<? super RefCountedByteBuffer>> firstSubscriber = new AtomicReference<>();
+        SyncResponseHandlerAdapter<String> adapter =
+            new SyncResponseHandlerAdapter<>(CONTENT_READER, r -> r, new ExecutionAttributes());
+
+        adapter.headersReceived(SdkHttpFullResponse.builder().statusCode(200).build());
+        adapter.onSharedStream(firstSubscriber::set);
+        RefCountedByteBuffer partialChunk = chunk("hel");
+        firstSubscriber.get().onNext(partialChunk);
+        adapter.exceptionOccurred(new RuntimeException());
+
+        List<RefCountedByteBuffer> retriedChunks = Arrays.asList(chunk("hello "), chunk("world"));
+        adapter.headersReceived(SdkHttpFullResponse.builder().statusCode(200).build());
+        adapter.onSharedStream(publisherOf(retriedChunks));
+        RefCountedByteBuffer lateChunk = chunk("lo");
+        firstSubscriber.get().onNext(lateChunk);
+
+        assertThat(adapter.complete()).isEqualTo("hello world");
+        assertThat(partialChunk.refCnt()).isZero();
+        assertThat(lateChunk.refCnt()).isZero();
+        assertThat(retriedChunks).allSatisfy(c -> assertThat(c.refCnt()).isZero());
+    }
+
+    private static RefCountedByteBuffer chunk(String content) {
+        return RefCountedByteBuffer.wrap(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static <T> Publisher<T> publisherOf(List<T> chunks) {
+        return subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            chunks.forEach(subscriber::onNext);
+            subscriber.onComplete();
+        };
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.CircuitBreakerOpenException;
+import software.amazon.awssdk.core.exception.ClientExecutionTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.FixedDelayBackoffStrategy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+/**
+ * Tests for the API call and API call attempt timeouts in {@link AsyncRetryableStage}.
+ */
+public class AsyncRetryableStageTimeoutTest {
+    private final List<CompletableFuture<Response<String>>> attempts = new CopyOnWriteArrayList<>();
+    private final List<String> attemptThreads = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void attemptTimeout_failsEachAttemptAndRetries() throws Exception {
+        CompletableFuture<Response<String>> future = execute(config().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT,
+                                                                             Duration.ofMillis(20)),
+                                                             RetryPolicy.builder()
+                                                                        .numRetries(2)
+                                                                        .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                            Duration.ofMillis(1)))
+                                                                        .build());
+
+        assertThat(failure(future)).isInstanceOf(ApiCallAttemptTimeoutException.class);
+        assertThat(attempts).hasSize(3);
+        for (CompletableFuture<Response<String>> attempt : attempts) {
+            assertThat(attempt.handle((r, t) -> t).get(5, TimeUnit.SECONDS)).isInstanceOf(ApiCallAttemptTimeoutException.class);
+        }
+    }
+
+    @Test
+    public void attemptTimeout_countsAsCircuitBreakerFailure() throws Exception {
+        CircuitBreakerPolicy circuitBreakerPolicy = CircuitBreakerPolicy.builder()
+                                                                        .failureRateThreshold(0.5)
+                                                                        .minimumNumberOfCalls(2)
+                                                                        .slidingWindow(Duration.ofSeconds(10))
+                                                                        .openDuration(Duration.ofSeconds(30))
+                                                                        .build();
+        CompletableFuture<Response<String>> future = execute(config().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT,
+                                                                             Duration.ofMillis(20))
+                                                                     .option(SdkClientOption.CIRCUIT_BREAKER_POLICY,
+                                                                             circuitBreakerPolicy),
+                                                             RetryPolicy.builder()
+                                                                        .numRetries(3)
+                                                                        .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                            Duration.ofMillis(1)))
+                                                                        .build());
+
+        // Without a slow call duration, only counting the timeouts as failures can open the breaker.
+        assertThat(failure(future)).isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(attempts).hasSize(2);
+    }
+
+    @Test
+    public void apiCallTimeout_cancelsAttemptInFlight() throws Exception {
+        CompletableFuture<Response<String>> future = execute(config().option(SdkClientOption.API_CALL_TIMEOUT,
+                                                                             Duration.ofMillis(50)),
+                                                             RetryPolicy.defaultRetryPolicy());
+
+        assertThat(failure(future)).isInstanceOf(ClientExecutionTimeoutException.class);
+        assertThat(attempts).hasSize(1);
+        // The API call fails before the attempt is cancelled, so that the cancellation is not mistaken for a failed attempt.
+        assertThat(attempts.get(0).handle((r, t) -> t).get(5, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    public void retryThatCannotStartBeforeDeadline_isNotScheduled() throws Exception {
+        CompletableFuture<Response<String>> future = execute(config().option(SdkClientOption.API_CALL_TIMEOUT,
+                                                                             Duration.ofSeconds(5)),
+                                                             RetryPolicy.builder()
+                                                                        .backoffStrategy(FixedDelayBackoffStrategy.create(
+                                                                            Duration.ofSeconds(10)))
+                                                                        .build());
+
+        attempts.get(0).completeExceptionally(SdkClientException.builder().cause(new IOException("reset")).build());
+
+        Throwable failure = failure(future);
+        assertThat(failure).isInstanceOf(ClientExecutionTimeoutException.class);
+        assertThat(failure.getCause()).hasRootCauseInstanceOf(IOException.class);
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void retry_isSentFromFutureCompletionExecutor() throws Exception {
+        ExecutorService workExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "work-executor"));
+        try {
+            CompletableFuture<Response<String>> future =
+                execute(config().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, workExecutor),
+                        RetryPolicy.builder()
+                                   .numRetries(1)
+                                   .backoffStrategy(FixedDelayBackoffStrategy.create(Duration.ofMillis(1)))
+                                   .build());
+
+            attempts.get(0).completeExceptionally(SdkClientException.builder().cause(new IOException("reset")).build());
+            awaitAttempts(2);
+            attempts.get(1).completeExceptionally(SdkClientException.builder().cause(new IOException("reset")).build());
+            failure(future);
+
+            assertThat(attemptThreads).hasSize(2);
+            assertThat(attemptThreads.get(1)).isEqualTo("work-executor");
+        } finally {
+            workExecutor.shutdownNow();
+        }
+    }
+
+    private SdkClientConfiguration.Builder config() {
+        return HttpTestUtils.testClientConfiguration().toBuilder();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Response<String>> execute(SdkClientConfiguration.Builder config,
+                                                        RetryPolicy retryPolicy) throws Exception {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(config.option(SdkClientOption.RETRY_POLICY, retryPolicy).build())
+                                  .capacityManager(new CapacityManager(100))
+                                  .clientExecutionTimer(new ClientExecutionTimer())
+                                  .build();
+
+        SdkHttpFullRequest request = ValidSdkObjects.sdkHttpFullRequest().build();
+        RequestExecutionContext context = RequestExecutionContext.builder()
+                                                                 .executionContext(ClientExecutionAndRequestTimerTestUtils
+                                                                                       .executionContext(request))
+                                                                 .originalRequest(NoopTestRequest.builder().build())
+                                                                 .asyncResponseHandler(mock(SdkHttpResponseHandler.class))
+                                                                 .asyncErrorResponseHandler(mock(SdkHttpResponseHandler.class))
+                                                                 .build();
+
+        RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<String>>> attemptPipeline = (r, c) -> {
+            CompletableFuture<Response<String>> attempt = new CompletableFuture<>();
+            attemptThreads.add(Thread.currentThread().getName());
+            attempts.add(attempt);
+            return attempt;
+        };
+        return new AsyncRetryableStage<>(dependencies, new AsyncCircuitBreakerStage<>(dependencies, attemptPipeline))
+            .execute(request, context);
+    }
+
+    private void awaitAttempts(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (attempts.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(attempts).hasSize(count);
+    }
+
+    private Throwable failure(CompletableFuture<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("Expected the API call to fail");
+    }
+}
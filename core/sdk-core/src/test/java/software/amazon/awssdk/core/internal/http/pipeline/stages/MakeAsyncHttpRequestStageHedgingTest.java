@@ -0,0 +1,186 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.http.timers.client.ClientExecutionTimer;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.async.AbortableRunnable;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+/**
+ * Tests for request hedging in {@link MakeAsyncHttpRequestStage}.
+ */
+public class MakeAsyncHttpRequestStageHedgingTest {
+    private final List<SdkHttpResponseHandler<?>> attemptHandlers = new CopyOnWriteArrayList<>();
+    private final List<AbortableRunnable> attempts = new CopyOnWriteArrayList<>();
+
+    /**
+     * Run while the hedge is being sent, if set.
+     */
+    private volatile Runnable whileSendingHedge;
+
+    private SdkAsyncHttpClient httpClient;
+    private SdkHttpResponseHandler<String> responseHandler;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        httpClient = mock(SdkAsyncHttpClient.class);
+        when(httpClient.prepareRequest(any(), any(), any(), any())).thenAnswer(invocation -> {
+            attemptHandlers.add((SdkHttpResponseHandler<?>) invocation.getArguments()[3]);
+            AbortableRunnable attempt = mock(AbortableRunnable.class);
+            attempts.add(attempt);
+            Runnable hook = whileSendingHedge;
+            if (attempts.size() == 2 && hook != null) {
+                doAnswer(i -> {
+                    hook.run();
+                    return null;
+                }).when(attempt).run();
+            }
+            return attempt;
+        });
+        responseHandler = mock(SdkHttpResponseHandler.class);
+        when(responseHandler.complete()).thenReturn("result");
+    }
+
+    @Test
+    public void slowPrimary_hedgeWins_primaryAbortedAndCapacityReturned() throws Exception {
+        CapacityManager capacity = new CapacityManager(100);
+        CompletableFuture<Response<String>> future = execute(capacity, Duration.ofMillis(10));
+
+        awaitAttempts(2);
+        respond(1, 200);
+
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        verify(attempts.get(0)).abort();
+        verify(responseHandler).headersReceived(any());
+        assertThat(capacity.availableCapacity()).isEqualTo(100);
+    }
+
+    @Test
+    public void fastPrimary_noHedgeSent() throws Exception {
+        CompletableFuture<Response<String>> future = execute(new CapacityManager(100), Duration.ofMillis(200));
+
+        respond(0, 200);
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        Thread.sleep(300);
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void noRetryCapacity_noHedgeSent() throws Exception {
+        execute(new CapacityManager(0), Duration.ofMillis(10));
+
+        Thread.sleep(200);
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void primaryFailsWhileHedgeInFlight_hedgeResponseIsUsed() throws Exception {
+        CompletableFuture<Response<String>> future = execute(new CapacityManager(100), Duration.ofMillis(10));
+
+        awaitAttempts(2);
+        attemptHandlers.get(0).exceptionOccurred(new RuntimeException("primary failed"));
+        respond(1, 200);
+
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        verify(responseHandler, never()).exceptionOccurred(any());
+    }
+
+    @Test
+    public void primaryWinsWhileHedgeIsSent_hedgeAbortedAndCapacityReturned() throws Exception {
+        CapacityManager capacity = new CapacityManager(100);
+        whileSendingHedge = () -> respond(0, 200);
+        CompletableFuture<Response<String>> future = execute(capacity, Duration.ofMillis(10));
+
+        assertThat(future.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        awaitAttempts(2);
+        verify(attempts.get(1), atLeastOnce()).abort();
+        verify(attempts.get(0), never()).abort();
+        assertThat(capacity.availableCapacity()).isEqualTo(100);
+    }
+
+    private CompletableFuture<Response<String>> execute(CapacityManager capacity, Duration hedgeDelay) throws Exception {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+                                                   .hedgeCondition(r -> true)
+                                                   .initialDelay(hedgeDelay)
+                                                   .build();
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(HttpTestUtils.testClientConfiguration()
+                                                                    .toBuilder()
+                                                                    .option(SdkClientOption.ASYNC_HTTP_CLIENT, httpClient)
+                                                                    .option(SdkClientOption.HEDGING_POLICY, hedgingPolicy)
+                                                                    .build())
+                                  .capacityManager(capacity)
+                                  .clientExecutionTimer(new ClientExecutionTimer())
+                                  .build();
+
+        SdkHttpFullRequest request = ValidSdkObjects.sdkHttpFullRequest().build();
+        RequestExecutionContext context = RequestExecutionContext.builder()
+                                                                 .executionContext(ClientExecutionAndRequestTimerTestUtils
+                                                                                       .executionContext(request))
+                                                                 .originalRequest(NoopTestRequest.builder().build())
+                                                                 .asyncResponseHandler(responseHandler)
+                                                                 .asyncErrorResponseHandler(mock(SdkHttpResponseHandler.class))
+                                                                 .build();
+
+        return new MakeAsyncHttpRequestStage<String>(dependencies).execute(request, context);
+    }
+
+    private void awaitAttempts(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (attempts.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(attempts).hasSize(count);
+    }
+
+    private void respond(int attempt, int statusCode) {
+        SdkHttpResponseHandler<?> handler = attemptHandlers.get(attempt);
+        handler.headersReceived(SdkHttpFullResponse.builder().statusCode(statusCode).build());
+        handler.complete();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+public class ExecutionInterceptorChainTest {
+
+    @Test
+    public void hookClassification_onlyIncludesOverriddenHooks() {
+        ExecutionInterceptor interceptor = new RecordingInterceptor("a", new ArrayList<>());
+
+        assertThat(InterceptorHook.values())
+            .filteredOn(h -> h.isImplementedBy(interceptor))
+            .containsExactly(InterceptorHook.BEFORE_EXECUTION, InterceptorHook.MODIFY_REQUEST,
+                             InterceptorHook.AFTER_EXECUTION);
+        ExecutionInterceptor noOpInterceptor = new ExecutionInterceptor() { };
+        assertThat(InterceptorHook.values()).filteredOn(h -> h.isImplementedBy(noOpInterceptor)).isEmpty();
+    }
+
+    @Test
+    public void hookClassification_includesHooksOverriddenBySuperclass() {
+        ExecutionInterceptor interceptor = new RecordingInterceptor("a", new ArrayList<>()) { };
+
+        assertThat(InterceptorHook.MODIFY_REQUEST.isImplementedBy(interceptor)).isTrue();
+        assertThat(InterceptorHook.MODIFY_RESPONSE.isImplementedBy(interceptor)).isFalse();
+    }
+
+    @Test
+    public void interceptorsAreCalledInConfiguredOrder() {
+        List<String> calls = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new ExecutionInterceptor() { },
+                                                                                      new RecordingInterceptor("a", calls),
+                                                                                      new RecordingInterceptor("b", calls)));
+        InterceptorContext context = InterceptorContext.builder().request(NoopTestRequest.builder().build()).build();
+
+        chain.beforeExecution(context, new ExecutionAttributes());
+        chain.afterExecution(context, new ExecutionAttributes());
+
+        assertThat(calls).containsExactly("a.beforeExecution", "b.beforeExecution", "b.afterExecution", "a.afterExecution");
+    }
+
+    @Test
+    public void modifyRequest_unchangedRequest_keepsContext() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(
+            Collections.singletonList(new RecordingInterceptor("a", new ArrayList<>())));
+        InterceptorContext context = InterceptorContext.builder().request(NoopTestRequest.builder().build()).build();
+
+        assertThat(chain.modifyRequest(context, new ExecutionAttributes())).isSameAs(context);
+    }
+
+    @Test
+    public void modifyRequest_changedRequest_copiesContext() {
+        SdkRequest replacement = NoopTestRequest.builder().build();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Collections.singletonList(new ExecutionInterceptor() {
+            @Override
+            public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+                return replacement;
+            }
+        }));
+        InterceptorContext context = InterceptorContext.builder().request(NoopTestRequest.builder().build()).build();
+
+        InterceptorContext result = chain.modifyRequest(context, new ExecutionAttributes());
+
+        assertThat(result).isNotSameAs(context);
+        assertThat(result.request()).isSameAs(replacement);
+    }
+
+    private static class RecordingInterceptor implements ExecutionInterceptor {
+        private final String name;
+        private final List<String> calls;
+
+        private RecordingInterceptor(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            calls.add(name + ".beforeExecution");
+        }
+
+        @Override
+        public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+            return context.request();
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            calls.add(name + ".afterExecution");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.retry.CircuitBreakerPolicy;
+import software.amazon.awssdk.core.retry.CircuitBreakerState;
+
+public class EndpointCircuitBreakerTest {
+    private static final long MILLIS = 1_000_000L;
+
+    private long now = 1000 * MILLIS;
+    private final List<CircuitBreakerState> transitions = new ArrayList<>();
+    private final CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder()
+                                                                    .failureRateThreshold(0.5)
+                                                                    .minimumNumberOfCalls(10)
+                                                                    .slidingWindow(Duration.ofSeconds(10))
+                                                                    .openDuration(Duration.ofSeconds(30))
+                                                                    .halfOpenPermits(2)
+                                                                    .slowCallDuration(Duration.ofSeconds(1))
+                                                                    .stateListener((h, from, to) -> transitions.add(to))
+                                                                    .build();
+    private final EndpointCircuitBreaker breaker = new EndpointCircuitBreaker("host", policy, () -> now);
+
+    @Test
+    public void staysClosed_untilMinimumNumberOfCalls() {
+        call(9, true);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.CLOSED);
+        call(1, true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEqualTo(EndpointCircuitBreaker.REJECTED);
+        assertThat(transitions).containsExactly(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    public void slowCalls_countAsFailures() {
+        for (int i = 0; i < 10; i++) {
+            long permit = breaker.tryAcquirePermission();
+            breaker.onResult(permit, 2000 * MILLIS, false);
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    @Test
+    public void failuresOutsideWindow_areForgotten() {
+        call(6, true);
+        now += 11_000 * MILLIS;
+        call(4, false);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void halfOpen_limitsProbesAndClosesAfterSuccesses() {
+        call(10, true);
+        now += 30_000 * MILLIS;
+
+        long first = breaker.tryAcquirePermission();
+        long second = breaker.tryAcquirePermission();
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEqualTo(EndpointCircuitBreaker.REJECTED);
+
+        breaker.onResult(first, 0, false);
+        breaker.onResult(second, 0, false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.CLOSED);
+        assertThat(transitions).containsExactly(CircuitBreakerState.OPEN,
+                                                CircuitBreakerState.HALF_OPEN,
+                                                CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void failedProbe_reopens() {
+        call(10, true);
+        now += 30_000 * MILLIS;
+
+        breaker.onResult(breaker.tryAcquirePermission(), 0, true);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEqualTo(EndpointCircuitBreaker.REJECTED);
+    }
+
+    @Test
+    public void resultsFromBeforeTransition_areIgnored() {
+        long stalePermit = breaker.tryAcquirePermission();
+        call(10, true);
+        now += 30_000 * MILLIS;
+        long probe = breaker.tryAcquirePermission();
+
+        breaker.onResult(stalePermit, 0, false);
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+        breaker.onResult(probe, 0, true);
+        assertThat(breaker.state()).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    private void call(int count, boolean failed) {
+        for (int i = 0; i < count; i++) {
+            breaker.onResult(breaker.tryAcquirePermission(), 0, failed);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class RateLimitingTokenBucketTest {
+    private double now = 1000;
+    private final RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(() -> now);
+
+    @Test
+    public void neverDelaysBeforeFirstThrottle() {
+        sendSuccessfully(10, 5);
+
+        assertThat(bucket.isEnabled()).isFalse();
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.acquire()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void throttle_cutsRateBelowMeasuredRate() {
+        sendSuccessfully(10, 5);
+
+        bucket.updateSendRate(true);
+
+        assertThat(bucket.isEnabled()).isTrue();
+        assertThat(bucket.fillRate()).isLessThan(10).isGreaterThan(5);
+    }
+
+    @Test
+    public void emptyBucket_delaysCallersInArrivalOrder() {
+        sendSuccessfully(10, 5);
+        bucket.updateSendRate(true);
+
+        Duration previous = Duration.ZERO;
+        for (int i = 0; i < 20; i++) {
+            Duration delay = bucket.acquire();
+            assertThat(delay).isGreaterThanOrEqualTo(previous);
+            previous = delay;
+        }
+        assertThat(previous).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void successesAfterThrottle_rampRateBackUp() {
+        sendSuccessfully(10, 5);
+        bucket.updateSendRate(true);
+        double throttledRate = bucket.fillRate();
+
+        sendSuccessfully(10, 10);
+
+        assertThat(bucket.fillRate()).isGreaterThan(throttledRate);
+    }
+
+    private void sendSuccessfully(int requestsPerSecond, int seconds) {
+        for (int i = 0; i < requestsPerSecond * seconds; i++) {
+            now += 1.0 / requestsPerSecond;
+            bucket.acquire();
+            bucket.updateSendRate(false);
+        }
+    }
+}
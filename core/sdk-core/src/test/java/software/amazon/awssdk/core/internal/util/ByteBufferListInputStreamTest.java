@@ -0,0 +1,69 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ByteBufferListInputStreamTest {
+
+    @Test
+    public void readsAllBuffersInOrder() throws Exception {
+        ByteBufferListInputStream stream = new ByteBufferListInputStream(Arrays.asList(buffer("<a>"),
+                                                                                       buffer(""),
+                                                                                       buffer("text"),
+                                                                                       buffer("</a>")));
+
+        assertThat(stream.available()).isEqualTo(11);
+        assertThat(IoUtils.toUtf8String(stream)).isEqualTo("<a>text</a>");
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    public void readSpansBuffers() {
+        ByteBufferListInputStream stream = new ByteBufferListInputStream(Arrays.asList(buffer("ab"), buffer("cd")));
+        byte[] bytes = new byte[5];
+
+        assertThat(stream.read(bytes, 1, 3)).isEqualTo(3);
+        assertThat(new String(bytes, 1, 3, StandardCharsets.UTF_8)).isEqualTo("abc");
+        assertThat(stream.read()).isEqualTo('d');
+        assertThat(stream.read(bytes, 0, 5)).isEqualTo(-1);
+    }
+
+    @Test
+    public void skipSpansBuffers() {
+        ByteBufferListInputStream stream = new ByteBufferListInputStream(Arrays.asList(buffer("ab"), buffer("cd")));
+
+        assertThat(stream.skip(3)).isEqualTo(3);
+        assertThat(stream.read()).isEqualTo('d');
+        assertThat(stream.skip(1)).isEqualTo(0);
+    }
+
+    @Test
+    public void emptyList_isEndOfStream() {
+        assertThat(new ByteBufferListInputStream(Collections.emptyList()).read()).isEqualTo(-1);
+    }
+
+    private static ByteBuffer buffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.ConcurrencyLimitExceededException;
+import software.amazon.awssdk.core.retry.ConcurrencyLimitPolicy;
+
+public class ConcurrencyLimiterTest {
+    private static final long MILLIS = 1_000_000L;
+    private static final Object OPERATION = "FastOperation";
+    private static final Object SLOW_OPERATION = "SlowOperation";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService admissionExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "admission"));
+
+    @After
+    public void teardown() {
+        scheduler.shutdownNow();
+        admissionExecutor.shutdownNow();
+    }
+
+    @Test
+    public void callsOverLimit_areAdmittedInOrderAsPermitsAreReleased() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder().maxConcurrency(2));
+
+        assertThat(limiter.acquire()).isDone();
+        assertThat(limiter.acquire()).isDone();
+        CompletableFuture<Void> third = limiter.acquire();
+        CompletableFuture<Void> fourth = limiter.acquire();
+        assertThat(third).isNotDone();
+        assertThat(limiter.queueDepth()).isEqualTo(2);
+
+        limiter.release(OPERATION, MILLIS, false);
+        assertThat(third).isCompleted();
+        assertThat(fourth).isNotDone();
+    }
+
+    @Test
+    public void fullQueue_rejectsImmediately() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder().maxConcurrency(1).maxQueueSize(1));
+
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(failure(limiter.acquire())).isInstanceOf(ConcurrencyLimitExceededException.class);
+    }
+
+    @Test
+    public void queuedCall_failsAfterMaxQueueWait() throws Exception {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder()
+                                                                   .maxConcurrency(1)
+                                                                   .maxQueueWait(Duration.ofMillis(20)));
+        limiter.acquire();
+
+        CompletableFuture<Void> queued = limiter.acquire();
+
+        assertThat(failure(queued)).isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(limiter.queueDepth()).isZero();
+        limiter.release(OPERATION, MILLIS, false);
+        assertThat(limiter.acquire()).isDone();
+    }
+
+    @Test
+    public void adaptiveLimit_shrinksOnOverloadAndGrowsBack() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder().maxConcurrency(20).adaptive(true));
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(OPERATION, MILLIS, true);
+        }
+        int shrunk = limiter.limit();
+        assertThat(shrunk).isLessThan(20);
+
+        for (int i = 0; i < 200; i++) {
+            int limit = limiter.limit();
+            for (int j = 0; j < limit; j++) {
+                limiter.acquire();
+            }
+            for (int j = 0; j < limit; j++) {
+                limiter.release(OPERATION, MILLIS, false);
+            }
+        }
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    @Test
+    public void adaptiveLimit_shrinksWhenLatencyRises() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder().maxConcurrency(20).adaptive(true));
+
+        limiter.acquire();
+        limiter.release(OPERATION, MILLIS, false);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(OPERATION, 10 * MILLIS, false);
+        }
+
+        assertThat(limiter.limit()).isLessThan(20);
+    }
+
+    @Test
+    public void adaptiveLimit_comparesLatencyPerOperation() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder().maxConcurrency(20).adaptive(true));
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(OPERATION, MILLIS, false);
+            limiter.acquire();
+            limiter.release(SLOW_OPERATION, 10 * MILLIS, false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    @Test
+    public void callWithoutAttempt_doesNotShrinkLimitUnlessOverloaded() {
+        ConcurrencyLimiter limiter = limiter(ConcurrencyLimitPolicy.builder().maxConcurrency(20).adaptive(true));
+
+        limiter.acquire();
+        limiter.release(false);
+        assertThat(limiter.limit()).isEqualTo(20);
+
+        limiter.acquire();
+        limiter.release(true);
+        assertThat(limiter.limit()).isLessThan(20);
+    }
+
+    @Test
+    public void queuedCall_isAdmittedOnAdmissionExecutor() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimitPolicy.builder().maxConcurrency(1).build(),
+                                                            scheduler, admissionExecutor);
+        limiter.acquire();
+        CompletableFuture<String> admittedOn = limiter.acquire().thenApply(v -> Thread.currentThread().getName());
+
+        limiter.release(OPERATION, MILLIS, false);
+
+        assertThat(admittedOn.get(5, TimeUnit.SECONDS)).isEqualTo("admission");
+    }
+
+    @Test
+    public void rejectingAdmissionExecutor_failsQueuedCallAndReturnsPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimitPolicy.builder().maxConcurrency(1).build(),
+                                                            scheduler, r -> {
+                                                                throw new RejectedExecutionException();
+                                                            });
+        limiter.acquire();
+        CompletableFuture<Void> queued = limiter.acquire();
+
+        limiter.release(OPERATION, MILLIS, false);
+
+        assertThat(failure(queued)).isInstanceOf(ConcurrencyLimitExceededException.class)
+                                   .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(limiter.acquire()).isDone();
+    }
+
+    private ConcurrencyLimiter limiter(ConcurrencyLimitPolicy.Builder policy) {
+        return new ConcurrencyLimiter(policy.build(), scheduler, Runnable::run);
+    }
+
+    private static Throwable failure(CompletableFuture<?> future) {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        throw new AssertionError("Expected the call not to be admitted");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class HashedWheelSchedulerTest {
+    private final HashedWheelScheduler scheduler = new HashedWheelScheduler(1, MILLISECONDS, 8);
+
+    @After
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void scheduledTask_runsNoEarlierThanItsDelay() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<Long> future = scheduler.schedule(System::nanoTime, 50, MILLISECONDS);
+
+        assertThat(future.get(5, SECONDS) - start).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void delayLongerThanOneRotation_runsAfterMultipleRounds() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<Long> future = scheduler.schedule(System::nanoTime, 30, MILLISECONDS);
+
+        assertThat(future.get(5, SECONDS) - start).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void cancelledTask_doesNotRun() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        ScheduledFuture<?> future = scheduler.schedule(() -> ran.set(true), 20, MILLISECONDS);
+
+        assertThat(future.cancel(false)).isTrue();
+        scheduler.schedule(() -> { }, 40, MILLISECONDS).get(5, SECONDS);
+
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    public void fixedRateTask_runsRepeatedlyUntilCancelled() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(latch::countDown, 0, 5, MILLISECONDS);
+
+        assertThat(latch.await(5, SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+    }
+
+    @Test
+    public void tasksScheduledAfterIdle_stillRun() throws Exception {
+        scheduler.schedule(() -> { }, 1, MILLISECONDS).get(5, SECONDS);
+        Thread.sleep(50);
+
+        AtomicInteger runs = new AtomicInteger();
+        scheduler.schedule(runs::incrementAndGet, 1, MILLISECONDS).get(5, SECONDS);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    public void shutdownNow_cancelsPendingTasksAndRejectsNewOnes() throws Exception {
+        ScheduledFuture<?> pending = scheduler.schedule(() -> { }, 1, SECONDS);
+
+        List<Runnable> unprocessed = scheduler.shutdownNow();
+
+        assertThat(unprocessed).containsExactly((Runnable) pending);
+        assertThat(pending.isCancelled()).isTrue();
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThatThrownBy(() -> scheduler.schedule(() -> { }, 1, MILLISECONDS))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void sharedScheduler_cannotBeShutDown() throws Exception {
+        HashedWheelScheduler.shared().shutdown();
+
+        assertThat(HashedWheelScheduler.shared().isShutdown()).isFalse();
+        assertThat(HashedWheelScheduler.shared().schedule(() -> "done", 1, MILLISECONDS).get(5, SECONDS)).isEqualTo("done");
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import software.amazon.awssdk.core.RequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.RequestCoalescingPolicy;
+
+public class RequestCoalescerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void onlyConfiguredRequestTypesAreCoalescable() {
+        RequestCoalescer coalescer = coalescer(Duration.ZERO, 10);
+
+        assertThat(coalescer.isCoalescable(new TestRequest("a"))).isTrue();
+        assertThat(coalescer.isCoalescable(new OtherRequest())).isFalse();
+    }
+
+    @Test
+    public void equalRequestsInFlight_shareOneCall() throws Exception {
+        RequestCoalescer coalescer = coalescer(Duration.ZERO, 10);
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesce(new TestRequest("a"), () -> count(call));
+        CompletableFuture<String> second = coalescer.coalesce(new TestRequest("a"), () -> count(call));
+        CompletableFuture<String> other = coalescer.coalesce(new TestRequest("b"), () -> count(new CompletableFuture<>()));
+
+        assertThat(calls.get()).isEqualTo(2);
+        call.complete("result");
+        assertThat(first.get()).isEqualTo("result");
+        assertThat(second.get()).isEqualTo("result");
+        assertThat(other).isNotDone();
+
+        coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("again")));
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void failuresAreSharedButNotCached() {
+        RequestCoalescer coalescer = coalescer(Duration.ofSeconds(10), 10);
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesce(new TestRequest("a"), () -> count(call));
+        CompletableFuture<String> second = coalescer.coalesce(new TestRequest("a"), () -> count(call));
+        call.completeExceptionally(new IllegalStateException("failed"));
+
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+
+        coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("retried")));
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void successfulResponsesAreCachedUntilTtlExpires() throws Exception {
+        RequestCoalescer coalescer = coalescer(Duration.ofSeconds(10), 10);
+
+        coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("first")));
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("second"))).get())
+            .isEqualTo("first");
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("third"))).get())
+            .isEqualTo("third");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void leastRecentlyUsedResponsesAreEvicted() {
+        RequestCoalescer coalescer = coalescer(Duration.ofSeconds(10), 2);
+
+        coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("a")));
+        coalescer.coalesce(new TestRequest("b"), () -> count(CompletableFuture.completedFuture("b")));
+        coalescer.coalesce(new TestRequest("a"), () -> count(CompletableFuture.completedFuture("a")));
+        coalescer.coalesce(new TestRequest("c"), () -> count(CompletableFuture.completedFuture("c")));
+        assertThat(coalescer.size()).isEqualTo(2);
+        assertThat(calls.get()).isEqualTo(3);
+
+        coalescer.coalesce(new TestRequest("b"), () -> count(CompletableFuture.completedFuture("b")));
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void cancellingOneCaller_doesNotCancelTheCall() throws Exception {
+        RequestCoalescer coalescer = coalescer(Duration.ZERO, 10);
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesce(new TestRequest("a"), () -> count(call));
+        CompletableFuture<String> second = coalescer.coalesce(new TestRequest("a"), () -> count(call));
+        first.cancel(true);
+        call.complete("result");
+
+        assertThat(call.isCancelled()).isFalse();
+        assertThat(second.get()).isEqualTo("result");
+    }
+
+    private RequestCoalescer coalescer(Duration ttl, int maxCacheSize) {
+        RequestCoalescingPolicy policy = RequestCoalescingPolicy.builder()
+                                                                .addCacheableRequestType(TestRequest.class)
+                                                                .responseCacheTtl(ttl)
+                                                                .maxCacheSize(maxCacheSize)
+                                                                .build();
+        return new RequestCoalescer(policy, clock::get);
+    }
+
+    private <T> CompletableFuture<T> count(CompletableFuture<T> call) {
+        calls.incrementAndGet();
+        return call;
+    }
+
+    private static class TestRequest extends SdkRequest {
+        private final String name;
+
+        private TestRequest(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Optional<? extends RequestOverrideConfiguration> overrideConfiguration() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Builder toBuilder() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestRequest && Objects.equals(name, ((TestRequest) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+    }
+
+    private static class OtherRequest extends TestRequest {
+        private OtherRequest() {
+            super("other");
+        }
+    }
+}
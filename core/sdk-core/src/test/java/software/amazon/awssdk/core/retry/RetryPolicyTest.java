@@ -80,4 +80,18 @@ public class RetryPolicyTest {
         assertThat(noneRetry.backoffStrategy()).isEqualTo(BackoffStrategy.none());
         assertThat(noneRetry.throttlingBackoffStrategy()).isEqualTo(BackoffStrategy.none());
     }
+
+    @Test
+    public void retryMode_defaultsToStandard() {
+        assertThat(RetryPolicy.builder().build().retryMode()).isEqualTo(RetryMode.STANDARD);
+        assertThat(RetryPolicy.defaultRetryPolicy().retryMode()).isEqualTo(RetryMode.STANDARD);
+    }
+
+    @Test
+    public void retryMode_isPreservedByToBuilder() {
+        RetryPolicy policy = RetryPolicy.builder().retryMode(RetryMode.ADAPTIVE).build();
+
+        assertThat(policy.toBuilder().build().retryMode()).isEqualTo(RetryMode.ADAPTIVE);
+        assertThat(policy).isNotEqualTo(RetryPolicy.builder().build());
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Copies each {@link RefCountedByteBuffer} into a heap {@link ByteBuffer} and releases it before handing the copy to a
+ * subscriber that only understands {@link ByteBuffer}s.
+ */
+@SdkInternalApi
+final class CopyingSubscriber implements Subscriber<RefCountedByteBuffer> {
+
+    private final Subscriber<? super ByteBuffer> delegate;
+
+    CopyingSubscriber(Subscriber<? super ByteBuffer> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        delegate.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(RefCountedByteBuffer buffer) {
+        ByteBuffer copy;
+        try {
+            copy = buffer.copy();
+        } finally {
+            buffer.release();
+        }
+        delegate.onNext(copy);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        delegate.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        delegate.onComplete();
+    }
+}
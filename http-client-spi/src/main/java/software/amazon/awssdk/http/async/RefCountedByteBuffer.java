@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A read-only chunk of response content whose backing memory may be owned by the HTTP client, e.g. a pooled network buffer.
+ * Handing these up to the SDK instead of {@link ByteBuffer}s lets the content be read in place rather than copied out of the
+ * client's buffers as it arrives.
+ *
+ * <p>
+ * The buffer starts out with a reference count of one which is owned by whoever it was handed to. The content may be read
+ * through {@link #asReadOnlyByteBuffer()} for as long as the reference is held, and must not be touched after it has been
+ * {@link #release() released}. Holders that need to keep the content around for longer than the call it was delivered in
+ * simply keep the reference and release it once done.
+ * </p>
+ *
+ * @see SdkHttpResponseHandler#onSharedStream(org.reactivestreams.Publisher)
+ */
+@SdkProtectedApi
+public interface RefCountedByteBuffer {
+
+    /**
+     * @return A new read-only view of the content, positioned at the start of it. The view is only valid until the buffer is
+     * released.
+     */
+    ByteBuffer asReadOnlyByteBuffer();
+
+    /**
+     * @return The number of bytes of content.
+     */
+    int remaining();
+
+    /**
+     * @return The current reference count.
+     */
+    int refCnt();
+
+    /**
+     * Increments the reference count by one.
+     *
+     * @return This buffer.
+     */
+    RefCountedByteBuffer retain();
+
+    /**
+     * Decrements the reference count by one, returning the backing memory to its owner once the count reaches zero.
+     *
+     * @return True if the reference count reached zero and the buffer was deallocated.
+     * @throws IllegalStateException If the buffer has already been deallocated.
+     */
+    boolean release();
+
+    /**
+     * Copies the content into a new heap {@link ByteBuffer} that stays valid after this buffer is released.
+     *
+     * @return A copy of the content, ready to be read.
+     */
+    default ByteBuffer copy() {
+        ByteBuffer copy = ByteBuffer.allocate(remaining());
+        copy.put(asReadOnlyByteBuffer()).flip();
+        return copy;
+    }
+
+    /**
+     * Wraps a {@link ByteBuffer} that isn't owned by anything else. Releasing the result just drops the reference to it.
+     *
+     * @param byteBuffer Content to wrap. The buffer's position and limit are not modified.
+     * @return A buffer with a reference count of one.
+     */
+    static RefCountedByteBuffer wrap(ByteBuffer byteBuffer) {
+        return new UnpooledRefCountedByteBuffer(byteBuffer);
+    }
+}
@@ -16,6 +16,8 @@
 package software.amazon.awssdk.http.async;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 
@@ -30,4 +32,25 @@ public interface SdkHttpRequestProvider extends Publisher<ByteBuffer> {
      */
     long contentLength();
 
+    /**
+     * The file the content is read from, when the content is exactly the contents of a file. HTTP clients may use this to
+     * transmit the file directly from the file system instead of subscribing to this publisher.
+     *
+     * @return The path of the file backing this content, or empty if the content is not backed by a file.
+     */
+    default Optional<Path> file() {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the buffers published by this provider are never modified once published. HTTP clients may then write them to
+     * the connection without copying them first. Providers that reuse or modify a buffer after it has been published must
+     * return false, which is the default, so that clients copy each buffer before it is handed back.
+     *
+     * @return True if published buffers are never modified after being published.
+     */
+    default boolean publishesImmutableBuffers() {
+        return false;
+    }
+
 }
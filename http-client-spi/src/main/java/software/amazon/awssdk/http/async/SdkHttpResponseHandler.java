@@ -48,6 +48,21 @@ public interface SdkHttpResponseHandler<T> {
      */
     void onStream(Publisher<ByteBuffer> publisher);
 
+    /**
+     * Alternative to {@link #onStream(Publisher)} for HTTP clients that can hand their own buffers to the response handler
+     * instead of copying the content out of them. Clients call one or the other, never both.
+     *
+     * <p>
+     * Each {@link RefCountedByteBuffer} delivered to the subscriber is owned by it and must be
+     * {@link RefCountedByteBuffer#release() released} exactly once, either in {@code onNext} or whenever the subscriber is
+     * done reading it. Handlers that can read the content in place should override this method; by default each buffer is
+     * copied, released, and the copy is delivered through {@link #onStream(Publisher)}.
+     * </p>
+     */
+    default void onSharedStream(Publisher<RefCountedByteBuffer> publisher) {
+        onStream(subscriber -> publisher.subscribe(new CopyingSubscriber(subscriber)));
+    }
+
     /**
      * Called when an exception occurs during the request/response.
      *
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.util.function.Consumer;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Counterpart of {@link SimpleSubscriber} for {@link RefCountedByteBuffer}s. Does no backpressure and doesn't care about
+ * errors or completion. The consumer takes ownership of each buffer and is responsible for releasing it.
+ */
+@SdkProtectedApi
+public class SimpleRefCountedSubscriber implements Subscriber<RefCountedByteBuffer> {
+
+    private final SimpleSubscriber subscriptionHandler = new SimpleSubscriber(b -> { });
+    private final Consumer<RefCountedByteBuffer> consumer;
+
+    public SimpleRefCountedSubscriber(Consumer<RefCountedByteBuffer> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscriptionHandler.onSubscribe(s);
+    }
+
+    @Override
+    public void onNext(RefCountedByteBuffer buffer) {
+        // Rule 2.13, null arguments must be failed on eagerly
+        if (buffer == null) {
+            throw new NullPointerException("Element passed to onNext MUST NOT be null.");
+        }
+
+        consumer.accept(buffer);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        subscriptionHandler.onError(t);
+    }
+
+    @Override
+    public void onComplete() {
+        // ignore
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * {@link RefCountedByteBuffer} over a plain {@link ByteBuffer}.
+ */
+@SdkInternalApi
+final class UnpooledRefCountedByteBuffer implements RefCountedByteBuffer {
+
+    private final AtomicInteger refCnt = new AtomicInteger(1);
+    private final ByteBuffer byteBuffer;
+
+    UnpooledRefCountedByteBuffer(ByteBuffer byteBuffer) {
+        this.byteBuffer = byteBuffer.asReadOnlyBuffer();
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        ensureAccessible();
+        return byteBuffer.duplicate();
+    }
+
+    @Override
+    public int remaining() {
+        return byteBuffer.remaining();
+    }
+
+    @Override
+    public int refCnt() {
+        return refCnt.get();
+    }
+
+    @Override
+    public RefCountedByteBuffer retain() {
+        refCnt.updateAndGet(count -> {
+            if (count <= 0) {
+                throw new IllegalStateException("Buffer has already been released.");
+            }
+            return count + 1;
+        });
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        int count = refCnt.decrementAndGet();
+        if (count < 0) {
+            refCnt.incrementAndGet();
+            throw new IllegalStateException("Buffer has already been released.");
+        }
+        return count == 0;
+    }
+
+    private void ensureAccessible() {
+        if (refCnt.get() <= 0) {
+            throw new IllegalStateException("Buffer has already been released.");
+        }
+    }
+}
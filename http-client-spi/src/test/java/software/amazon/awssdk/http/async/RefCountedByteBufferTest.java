@@ -0,0 +1,129 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+public class RefCountedByteBufferTest {
+
+    @Test
+    public void wrappedBufferIsReadOnlyViewOfRemainingContent() {
+        ByteBuffer content = ByteBuffer.wrap("hello world".getBytes(StandardCharsets.UTF_8));
+        content.position(6);
+        RefCountedByteBuffer buffer = RefCountedByteBuffer.wrap(content);
+
+        ByteBuffer view = buffer.asReadOnlyByteBuffer();
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(buffer.remaining()).isEqualTo(5);
+        assertThat(StandardCharsets.UTF_8.decode(view).toString()).isEqualTo("world");
+        // Reading a view doesn't affect the next one
+        assertThat(buffer.asReadOnlyByteBuffer().remaining()).isEqualTo(5);
+        assertThat(content.position()).isEqualTo(6);
+    }
+
+    @Test
+    public void releasedOnceAllReferencesAreReleased() {
+        RefCountedByteBuffer buffer = RefCountedByteBuffer.wrap(ByteBuffer.allocate(4));
+        assertThat(buffer.refCnt()).isEqualTo(1);
+
+        buffer.retain();
+        assertThat(buffer.refCnt()).isEqualTo(2);
+        assertThat(buffer.release()).isFalse();
+        assertThat(buffer.release()).isTrue();
+        assertThat(buffer.refCnt()).isZero();
+
+        assertThatThrownBy(buffer::asReadOnlyByteBuffer).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::retain).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::release).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.refCnt()).isZero();
+    }
+
+    @Test
+    public void copySurvivesRelease() {
+        RefCountedByteBuffer buffer = RefCountedByteBuffer.wrap(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+        ByteBuffer copy = buffer.copy();
+        buffer.release();
+
+        assertThat(copy.isReadOnly()).isFalse();
+        assertThat(copy.array()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void defaultOnSharedStreamCopiesAndReleasesEachBuffer() {
+        List<RefCountedByteBuffer> published = Arrays.asList(RefCountedByteBuffer.wrap(ByteBuffer.wrap(new byte[] {1})),
+                                                             RefCountedByteBuffer.wrap(ByteBuffer.wrap(new byte[] {2, 3})));
+        List<ByteBuffer> received = new ArrayList<>();
+
+        StreamingHandler handler = new StreamingHandler(received);
+        handler.onSharedStream(publisherOf(published));
+
+        assertThat(received).containsExactly(ByteBuffer.wrap(new byte[] {1}), ByteBuffer.wrap(new byte[] {2, 3}));
+        assertThat(published).allSatisfy(b -> assertThat(b.refCnt()).isZero());
+    }
+
+    private static Publisher<RefCountedByteBuffer> publisherOf(List<RefCountedByteBuffer> buffers) {
+        return subscriber -> {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            buffers.forEach(subscriber::onNext);
+            subscriber.onComplete();
+        };
+    }
+
+    private static final class StreamingHandler implements SdkHttpResponseHandler<Void> {
+        private final List<ByteBuffer> received;
+
+        private StreamingHandler(List<ByteBuffer> received) {
+            this.received = received;
+        }
+
+        @Override
+        public void headersReceived(SdkHttpResponse response) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> publisher) {
+            publisher.subscribe(new SimpleSubscriber(received::add));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable throwable) {
+        }
+
+        @Override
+        public Void complete() {
+            return null;
+        }
+    }
+}
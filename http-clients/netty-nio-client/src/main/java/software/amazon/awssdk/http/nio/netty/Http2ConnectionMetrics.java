@@ -0,0 +1,49 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Counts the health checks of the HTTP/2 connections of a {@link NettyNioAsyncHttpClient}, and the connections that were
+ * retired because of them, across all endpoints. This can be retrieved with
+ * {@link NettyNioAsyncHttpClient#http2ConnectionMetrics()}.
+ *
+ * @see NettyNioAsyncHttpClient.Builder#http2HealthCheckPingPeriod(Duration)
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface Http2ConnectionMetrics {
+
+    /**
+     * The number of PING frames sent to check the health of HTTP/2 connections.
+     */
+    long pingsSent();
+
+    /**
+     * The number of HTTP/2 connections that were closed because a PING frame was not acknowledged in time. Streams that were
+     * in flight on those connections were failed.
+     */
+    long pingTimeouts();
+
+    /**
+     * The number of HTTP/2 connections that were retired because the server sent a GOAWAY frame. No new streams were opened
+     * on those connections, and they were closed once the streams in flight on them had finished.
+     */
+    long goAwaysReceived();
+}
@@ -59,6 +59,7 @@ import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
 import software.amazon.awssdk.http.nio.netty.internal.RunnableRequest;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ConnectionMetricsCollector;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
@@ -71,17 +72,26 @@ import software.amazon.awssdk.utils.Validate;
  */
 @SdkPublicApi
 public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final long DEFAULT_MAX_HTTP2_STREAMS = 200;
+    private static final Duration DEFAULT_HTTP2_HEALTH_CHECK_PING_PERIOD = Duration.ofSeconds(5);
+
     private final RequestAdapter requestAdapter = new RequestAdapter();
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final ChannelPoolMap<URI, ChannelPool> pools;
     private final NettyConfiguration configuration;
     private final long maxStreams;
+    private final int maxHttp2Connections;
+    private final Duration http2HealthCheckPingPeriod;
+    private final Http2ConnectionMetricsCollector http2Metrics = new Http2ConnectionMetricsCollector();
     private Protocol protocol;
 
     NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
         this.protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
-        this.maxStreams = 200;
+        this.maxStreams = builder.maxHttp2Streams != null ? builder.maxHttp2Streams : DEFAULT_MAX_HTTP2_STREAMS;
+        this.maxHttp2Connections = builder.maxHttp2Connections != null ? builder.maxHttp2Connections : Integer.MAX_VALUE;
+        this.http2HealthCheckPingPeriod = Optional.ofNullable(builder.http2HealthCheckPingPeriod)
+                                                  .orElse(DEFAULT_HTTP2_HEALTH_CHECK_PING_PERIOD);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
         this.pools = createChannelPoolMap();
     }
@@ -149,11 +159,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                         .remoteAddress(key.getHost(), key.getPort());
                 AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
                 ChannelPipelineInitializer handler =
-                    new ChannelPipelineInitializer(protocol, sslContext, maxStreams, channelPoolRef);
+                    new ChannelPipelineInitializer(protocol, sslContext, maxStreams, http2HealthCheckPingPeriod.toMillis(),
+                                                   http2Metrics, channelPoolRef);
                 channelPoolRef.set(new ReleaseOnceChannelPool(
                     new HandlerRemovingChannelPool(
                         new HttpOrHttp2ChannelPool(bootstrap, handler,
-                                                   configuration.maxConnections(), configuration))));
+                                                   configuration.maxConnections(), maxHttp2Connections, configuration))));
                 return channelPoolRef.get();
             }
         };
@@ -164,6 +175,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                         eventLoopGroup.channelFactory());
     }
 
+    /**
+     * The health checks of this client's HTTP/2 connections, and the connections that were retired because of them.
+     */
+    public Http2ConnectionMetrics http2ConnectionMetrics() {
+        return http2Metrics;
+    }
+
     @Override
     public <T> Optional<T> getConfigurationValue(SdkHttpConfigurationOption<T> key) {
         return Optional.ofNullable(configuration.attribute(key));
@@ -281,6 +299,43 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         @ReviewBeforeRelease("Decide if we want to expose this to customers")
         Builder protocol(Protocol protocol);
+
+        /**
+         * Sets the max number of concurrent streams on each HTTP/2 connection. A lower MAX_CONCURRENT_STREAMS sent by the server
+         * in a SETTINGS frame takes precedence for that connection. Defaults to 200.
+         *
+         * @param maxHttp2Streams Max concurrent HTTP/2 streams per connection.
+         * @return This builder for method chaining.
+         */
+        Builder maxHttp2Streams(Integer maxHttp2Streams);
+
+        /**
+         * Sets the max number of HTTP/2 connections to each endpoint. New streams are opened on the least-loaded connection.
+         * When every connection is at its max streams and this limit is reached, requests wait for a stream to be released
+         * instead of opening another connection. By default the number of HTTP/2 connections is only limited by
+         * {@link #maxConcurrency(Integer)}.
+         *
+         * <p>HTTP/2 streams to an endpoint are spread across a connection pool for each event loop of the
+         * {@link SdkEventLoopGroup}, up to this many pools, and this limit is split between them.</p>
+         *
+         * @param maxHttp2Connections Max HTTP/2 connections per endpoint.
+         * @return This builder for method chaining.
+         */
+        Builder maxHttp2Connections(Integer maxHttp2Connections);
+
+        /**
+         * Sets how often a PING frame is sent on each HTTP/2 connection to check that it is still alive, whether or not
+         * requests are in flight on it. A connection is closed, and the requests in flight on it are failed, if a PING is not
+         * acknowledged before the next one is due. Defaults to 5 seconds.
+         *
+         * <p>Independently of this, a connection is retired when the server sends a GOAWAY frame: no new requests are sent on
+         * it, and it is closed once the requests in flight on it have finished.</p>
+         *
+         * @param http2HealthCheckPingPeriod The period between PING frames. Must be at least one millisecond.
+         * @return This builder for method chaining.
+         * @see NettyNioAsyncHttpClient#http2ConnectionMetrics()
+         */
+        Builder http2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod);
     }
 
     /**
@@ -292,6 +347,9 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private final AttributeMap.Builder standardOptions = AttributeMap.builder();
         private SdkEventLoopGroup eventLoopGroup;
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
+        private Integer maxHttp2Streams;
+        private Integer maxHttp2Connections;
+        private Duration http2HealthCheckPingPeriod;
 
         private DefaultBuilder() {
         }
@@ -425,6 +483,43 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             protocol(protocol);
         }
 
+        @Override
+        public Builder maxHttp2Streams(Integer maxHttp2Streams) {
+            this.maxHttp2Streams = maxHttp2Streams == null ? null : Validate.isPositive(maxHttp2Streams, "maxHttp2Streams");
+            return this;
+        }
+
+        public void setMaxHttp2Streams(Integer maxHttp2Streams) {
+            maxHttp2Streams(maxHttp2Streams);
+        }
+
+        @Override
+        public Builder maxHttp2Connections(Integer maxHttp2Connections) {
+            this.maxHttp2Connections = maxHttp2Connections == null
+                                       ? null : Validate.isPositive(maxHttp2Connections, "maxHttp2Connections");
+            return this;
+        }
+
+        public void setMaxHttp2Connections(Integer maxHttp2Connections) {
+            maxHttp2Connections(maxHttp2Connections);
+        }
+
+        @Override
+        public Builder http2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod) {
+            if (http2HealthCheckPingPeriod != null) {
+                // PINGs are scheduled in whole milliseconds, so a shorter period would round down to zero.
+                Validate.isTrue(http2HealthCheckPingPeriod.toMillis() > 0,
+                                "http2HealthCheckPingPeriod must be at least one millisecond, but was %s",
+                                http2HealthCheckPingPeriod);
+            }
+            this.http2HealthCheckPingPeriod = http2HealthCheckPingPeriod;
+            return this;
+        }
+
+        public void setHttp2HealthCheckPingPeriod(Duration http2HealthCheckPingPeriod) {
+            http2HealthCheckPingPeriod(http2HealthCheckPingPeriod);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
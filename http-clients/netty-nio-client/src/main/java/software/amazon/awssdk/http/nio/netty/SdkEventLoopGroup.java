@@ -18,6 +18,9 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
@@ -42,7 +45,8 @@ import software.amazon.awssdk.utils.Validate;
  * </li>
  *
  * <li>using {@link #builder()} to provide custom configuration of {@link EventLoopGroup}. The {@link EventLoopGroup} created by
- * the builder is managed by the SDK and will be shutdown when the HTTP client is closed.
+ * the builder is managed by the SDK and will be shutdown when the HTTP client is closed. Unless a {@link Transport} is
+ * configured, the builder uses the native epoll transport when it is available, and the NIO transport otherwise.
  * </li>
  * </ul>
  */
@@ -63,8 +67,9 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveChannelFactory();
+        Transport transport = resolveTransport(builder);
+        this.eventLoopGroup = resolveEventLoopGroup(builder, transport);
+        this.channelFactory = resolveChannelFactory(transport);
     }
 
     /**
@@ -111,28 +116,52 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private static Transport resolveTransport(DefaultBuilder builder) {
+        if (builder.transport == null) {
+            return Epoll.isAvailable() ? Transport.EPOLL : Transport.NIO;
+        }
+        if (builder.transport == Transport.EPOLL && !Epoll.isAvailable()) {
+            throw new IllegalStateException("The epoll transport is not available on this platform.",
+                                            Epoll.unavailabilityCause());
+        }
+        return builder.transport;
+    }
+
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, Transport transport) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElse(new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                                                 .build());
+        if (transport == Transport.EPOLL) {
+            return new EpollEventLoopGroup(numThreads, threadFactory);
+        }
         return new NioEventLoopGroup(numThreads, threadFactory);
-        /*
-        Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
-
-        }*/
     }
 
-    private ChannelFactory<? extends Channel> resolveChannelFactory() {
-        // Currently we only support NioEventLoopGroup
+    private ChannelFactory<? extends Channel> resolveChannelFactory(Transport transport) {
+        if (transport == Transport.EPOLL) {
+            return EpollSocketChannel::new;
+        }
         return NioSocketChannel::new;
     }
 
+    /**
+     * The transports an {@link SdkEventLoopGroup} can be built with.
+     */
+    public enum Transport {
+
+        /**
+         * The Java NIO transport, which is available on every platform.
+         */
+        NIO,
+
+        /**
+         * The native epoll transport, which has lower latency and creates less garbage than NIO. It is only available on
+         * Linux, with the netty-transport-native-epoll library for the platform on the classpath.
+         */
+        EPOLL
+    }
+
     /**
      * A builder for {@link SdkEventLoopGroup}.
      *
@@ -159,6 +188,16 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * The {@link Transport} to use for the {@link EventLoopGroup} and its channels. If not set, {@link Transport#EPOLL} is
+         * used when it is available, and {@link Transport#NIO} otherwise. Building fails with an {@link IllegalStateException} if
+         * {@link Transport#EPOLL} is set but not available.
+         *
+         * @param transport Transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transport(Transport transport);
+
         SdkEventLoopGroup build();
     }
 
@@ -166,6 +205,7 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
+        private Transport transport;
 
         private DefaultBuilder() {
         }
@@ -190,6 +230,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder transport(Transport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        public void setTransport(Transport transport) {
+            transport(transport);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.IllegalReferenceCountException;
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
+
+/**
+ * {@link RefCountedByteBuffer} over a Netty {@link ByteBuf}. Takes over the reference held by the caller, so the
+ * {@link ByteBuf} is returned to its allocator once this buffer is released.
+ */
+@SdkInternalApi
+final class ByteBufRefCountedByteBuffer implements RefCountedByteBuffer {
+
+    private final ByteBuf byteBuf;
+
+    ByteBufRefCountedByteBuffer(ByteBuf byteBuf) {
+        this.byteBuf = byteBuf;
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        ensureAccessible();
+        return byteBuf.nioBuffer(byteBuf.readerIndex(), byteBuf.readableBytes()).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int remaining() {
+        return byteBuf.readableBytes();
+    }
+
+    @Override
+    public int refCnt() {
+        return byteBuf.refCnt();
+    }
+
+    @Override
+    public RefCountedByteBuffer retain() {
+        try {
+            byteBuf.retain();
+        } catch (IllegalReferenceCountException e) {
+            throw new IllegalStateException("Buffer has already been released.", e);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        try {
+            return byteBuf.release();
+        } catch (IllegalReferenceCountException e) {
+            throw new IllegalStateException("Buffer has already been released.", e);
+        }
+    }
+
+    private void ensureAccessible() {
+        if (byteBuf.refCnt() <= 0) {
+            throw new IllegalStateException("Buffer has already been released.");
+        }
+    }
+}
@@ -17,11 +17,11 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.Channel;
 import io.netty.util.AttributeKey;
-import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
 import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
 
 /**
@@ -51,10 +51,16 @@ public final class ChannelAttributeKey {
      */
     static final AttributeKey<RequestContext> REQUEST_CONTEXT_KEY = AttributeKey.newInstance("requestContext");
 
-    static final AttributeKey<Subscriber<? super ByteBuffer>> SUBSCRIBER_KEY = AttributeKey.newInstance("subscriber");
+    static final AttributeKey<Subscriber<? super RefCountedByteBuffer>> SUBSCRIBER_KEY = AttributeKey.newInstance("subscriber");
 
     static final AttributeKey<Boolean> RESPONSE_COMPLETE_KEY = AttributeKey.newInstance("responseComplete");
 
+    /**
+     * Whether the last content of the current response has been read from the channel, even if the subscriber hasn't seen it
+     * yet.
+     */
+    static final AttributeKey<Boolean> LAST_HTTP_CONTENT_RECEIVED_KEY = AttributeKey.newInstance("lastHttpContentReceived");
+
     private ChannelAttributeKey() {
     }
 
@@ -37,6 +37,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ConnectionMetricsCollector;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayHandler;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.MultiplexedChannelRecord;
 import software.amazon.awssdk.http.nio.netty.internal.http2.SdkHttp2FrameLogger;
 
@@ -48,15 +51,21 @@ public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
     private final Protocol protocol;
     private final SslContext sslCtx;
     private final long clientMaxStreams;
+    private final long healthCheckPingPeriodMillis;
+    private final Http2ConnectionMetricsCollector http2Metrics;
     private final AtomicReference<ChannelPool> channelPoolRef;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
                                       long clientMaxStreams,
+                                      long healthCheckPingPeriodMillis,
+                                      Http2ConnectionMetricsCollector http2Metrics,
                                       AtomicReference<ChannelPool> channelPoolRef) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.clientMaxStreams = clientMaxStreams;
+        this.healthCheckPingPeriodMillis = healthCheckPingPeriodMillis;
+        this.http2Metrics = http2Metrics;
         this.channelPoolRef = channelPoolRef;
     }
 
@@ -105,6 +114,9 @@ public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
                 channelError(cause, ch);
             }
         });
+
+        pipeline.addLast(new Http2PingHandler(healthCheckPingPeriodMillis, http2Metrics));
+        pipeline.addLast(new Http2GoAwayHandler(http2Metrics));
     }
 
     private void channelError(Throwable cause, Channel ch) {
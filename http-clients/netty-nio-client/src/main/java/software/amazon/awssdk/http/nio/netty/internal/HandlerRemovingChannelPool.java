@@ -21,6 +21,7 @@ import com.typesafe.netty.http.HttpStreamsClientHandler;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.concurrent.Future;
@@ -69,8 +70,10 @@ public class HandlerRemovingChannelPool implements ChannelPool {
 
     private void removePerRequestHandlers(Channel channel) {
         removeIfExists(channel.pipeline(),
+                       LastHttpContentHandler.class,
                        HttpStreamsClientHandler.class,
                        ResponseHandler.class,
+                       ChunkedWriteHandler.class,
                        ReadTimeoutHandler.class,
                        WriteTimeoutHandler.class);
     }
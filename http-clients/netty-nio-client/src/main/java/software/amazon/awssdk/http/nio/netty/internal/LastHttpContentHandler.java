@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.LAST_HTTP_CONTENT_RECEIVED_KEY;
+
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.LastHttpContent;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Records on the channel when the last content of a response has been read from it, before the response is handed to the
+ * subscriber. A channel can become inactive between the two, for example when the native epoll transport reads the end of
+ * the stream together with the end of the response, and the response is complete nonetheless.
+ */
+@Sharable
+@SdkInternalApi
+public final class LastHttpContentHandler extends ChannelInboundHandlerAdapter {
+    private static final LastHttpContentHandler INSTANCE = new LastHttpContentHandler();
+
+    private LastHttpContentHandler() {
+    }
+
+    public static LastHttpContentHandler create() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof LastHttpContent) {
+            ctx.channel().attr(LAST_HTTP_CONTENT_RECEIVED_KEY).set(true);
+        }
+        ctx.fireChannelRead(msg);
+    }
+}
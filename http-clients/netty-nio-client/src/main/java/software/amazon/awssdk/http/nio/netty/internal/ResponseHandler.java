@@ -17,6 +17,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.LAST_HTTP_CONTENT_RECEIVED_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_COMPLETE_KEY;
 
@@ -35,7 +36,6 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.AttributeKey;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -49,6 +49,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
 import software.amazon.awssdk.utils.async.DelegatingSubscription;
@@ -81,18 +82,21 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
 
         if (msg instanceof StreamedHttpResponse) {
-            requestContext.handler().onStream(new PublisherAdapter((StreamedHttpResponse) msg, channelContext, requestContext));
+            requestContext.handler().onSharedStream(new PublisherAdapter((StreamedHttpResponse) msg, channelContext,
+                                                                         requestContext));
         } else if (msg instanceof FullHttpResponse) {
             // Be prepared to take care of (ignore) a trailing LastHttpResponse
             // from the HttpClientCodec if there is one.
             channelContext.pipeline().replace(HttpStreamsClientHandler.class,
                     channelContext.name() + "-LastHttpContentSwallower", new LastHttpContentSwallower());
 
-            ByteBuf fullContent = ((FullHttpResponse) msg).content();
-            final ByteBuffer bb = copyToByteBuffer(fullContent);
-            fullContent.release();
-            requestContext.handler().onStream(new FullResponseContentPublisher(channelContext, bb));
-            Subscriber<? super ByteBuffer> subscriber = channelContext.channel().attr(ChannelAttributeKey.SUBSCRIBER_KEY).get();
+            // The message is released once this method returns, so take our own reference to the content for the subscriber.
+            ByteBuf fullContent = ((FullHttpResponse) msg).content().retain();
+            FullResponseContentPublisher publisher =
+                new FullResponseContentPublisher(channelContext, new ByteBufRefCountedByteBuffer(fullContent));
+            requestContext.handler().onSharedStream(publisher);
+            Subscriber<? super RefCountedByteBuffer> subscriber =
+                channelContext.channel().attr(ChannelAttributeKey.SUBSCRIBER_KEY).get();
             try {
                 subscriber.onComplete();
                 requestContext.handler().complete();
@@ -101,6 +105,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                 requestContext.handler().exceptionOccurred(e);
                 throw e;
             } finally {
+                publisher.discard();
                 finalizeRequest(requestContext, channelContext);
             }
         }
@@ -128,7 +133,10 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
     public void channelInactive(ChannelHandlerContext handlerCtx) throws Exception {
         RequestContext requestCtx = handlerCtx.channel().attr(REQUEST_CONTEXT_KEY).get();
         boolean responseCompleted = handlerCtx.channel().attr(RESPONSE_COMPLETE_KEY).get();
-        if (!responseCompleted) {
+        // The whole response may have been read before the channel became inactive, with some of it still on its way to the
+        // subscriber. It is then delivered and the channel released as usual, so it must not be failed here.
+        boolean lastContentReceived = Boolean.TRUE.equals(handlerCtx.channel().attr(LAST_HTTP_CONTENT_RECEIVED_KEY).get());
+        if (!responseCompleted && !lastContentReceived) {
             runAndLogError("SdkHttpResponseHandler threw an exception when calling exceptionOccurred",
                 () -> requestCtx.handler().exceptionOccurred(new IOException("Server failed to send complete response")));
             runAndLogError("Could not release channel",
@@ -167,14 +175,12 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         mapping(Map.Entry::getValue, Collectors.toList())));
     }
 
-    private static ByteBuffer copyToByteBuffer(ByteBuf byteBuf) {
-        ByteBuffer bb = ByteBuffer.allocate(byteBuf.readableBytes());
-        byteBuf.getBytes(byteBuf.readerIndex(), bb);
-        bb.flip();
-        return bb;
-    }
-
-    private static class PublisherAdapter implements Publisher<ByteBuffer> {
+    /**
+     * Publishes the content of a streamed response as {@link RefCountedByteBuffer}s over Netty's own buffers. Ownership
+     * of each buffer passes to the subscriber, which releases it once it is done reading, so the content is never copied
+     * here.
+     */
+    private static class PublisherAdapter implements Publisher<RefCountedByteBuffer> {
         private final StreamedHttpResponse response;
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
@@ -188,7 +194,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
 
         @Override
-        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        public void subscribe(Subscriber<? super RefCountedByteBuffer> subscriber) {
             response.subscribe(new Subscriber<HttpContent>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
@@ -220,10 +226,9 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void onNext(HttpContent httpContent) {
-                    // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
-                    ByteBuffer b = copyToByteBuffer(httpContent.content());
-                    httpContent.release();
-                    subscriber.onNext(b);
+                    // The subscriber now owns the content and releases it once it's done with it, which avoids a
+                    // use-after-free if the subscriber's onNext is asynchronous.
+                    subscriber.onNext(new ByteBufRefCountedByteBuffer(httpContent.content()));
                     channelContext.read();
                 }
 
@@ -280,19 +285,19 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
-    static class FullResponseContentPublisher implements Publisher<ByteBuffer> {
+    static class FullResponseContentPublisher implements Publisher<RefCountedByteBuffer> {
         private final ChannelHandlerContext channelContext;
-        private final ByteBuffer fullContent;
+        private final RefCountedByteBuffer fullContent;
         private boolean running = true;
-        private Subscriber<? super ByteBuffer> subscriber;
+        private Subscriber<? super RefCountedByteBuffer> subscriber;
 
-        FullResponseContentPublisher(ChannelHandlerContext channelContext, ByteBuffer fullContent) {
+        FullResponseContentPublisher(ChannelHandlerContext channelContext, RefCountedByteBuffer fullContent) {
             this.channelContext = channelContext;
             this.fullContent = fullContent;
         }
 
         @Override
-        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        public void subscribe(Subscriber<? super RefCountedByteBuffer> subscriber) {
             if (this.subscriber != null) {
                 subscriber.onComplete();
                 return;
@@ -305,7 +310,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                 @Override
                 public void request(long l) {
                     if (l <= 0 && running) {
-                        running = false;
+                        discard();
                         subscriber.onError(new IllegalArgumentException("Demand must be positive!"));
                     } else if (running) {
                         running = false;
@@ -316,11 +321,21 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void cancel() {
-                    running = false;
+                    discard();
                 }
             });
 
         }
+
+        /**
+         * Releases the content if it was never handed to the subscriber.
+         */
+        void discard() {
+            if (running) {
+                running = false;
+                fullContent.release();
+            }
+        }
     }
 
     private static class LastHttpContentSwallower extends SimpleChannelInboundHandler<HttpObject> {
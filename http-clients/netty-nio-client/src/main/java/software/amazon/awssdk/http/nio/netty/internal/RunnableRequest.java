@@ -15,14 +15,17 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.LAST_HTTP_CONTENT_RECEIVED_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_COMPLETE_KEY;
 
 import com.typesafe.netty.http.HttpStreamsClientHandler;
 import com.typesafe.netty.http.StreamedHttpRequest;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -30,19 +33,23 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutException;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.concurrent.Future;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
-import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
@@ -50,6 +57,7 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.async.AbortableRunnable;
+import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
@@ -59,6 +67,12 @@ import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
 public final class RunnableRequest implements AbortableRunnable {
 
     private static final Logger log = LoggerFactory.getLogger(RunnableRequest.class);
+
+    /**
+     * Size of the chunks a file body is read in when it has to be encrypted, matching the maximum TLS record size.
+     */
+    private static final int FILE_CHUNK_SIZE = 16 * 1024;
+
     private final RequestContext context;
     private volatile Channel channel;
 
@@ -74,6 +88,7 @@ public final class RunnableRequest implements AbortableRunnable {
                     channel = channelFuture.getNow();
                     channel.attr(REQUEST_CONTEXT_KEY).set(context);
                     channel.attr(RESPONSE_COMPLETE_KEY).set(false);
+                    channel.attr(LAST_HTTP_CONTENT_RECEIVED_KEY).set(false);
                     makeRequest(context.nettyRequest());
                 } catch (Exception e) {
                     handleFailure(() -> "Failed to make request to " + endpoint(), e);
@@ -110,6 +125,10 @@ public final class RunnableRequest implements AbortableRunnable {
             throw new RuntimeException("Unknown protocol: " + protocol);
         }
         channel.config().setOption(ChannelOption.AUTO_READ, false);
+        if (fileBody().isPresent() && isEncrypted()) {
+            channel.pipeline().addLast(new ChunkedWriteHandler());
+        }
+        channel.pipeline().addLast(LastHttpContentHandler.create());
         channel.pipeline().addLast(new HttpStreamsClientHandler());
         channel.pipeline().addLast(new ResponseHandler());
     }
@@ -118,7 +137,11 @@ public final class RunnableRequest implements AbortableRunnable {
         channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
                                                             TimeUnit.MILLISECONDS));
 
-        channel.writeAndFlush(new StreamedRequest(request, context.sdkRequestProvider(), channel))
+        HttpRequest streamedRequest = fileBody().<HttpRequest>map(file -> new FileRequest(request, file, isEncrypted(), channel))
+                                                .orElseGet(() -> new StreamedRequest(request, context.sdkRequestProvider(),
+                                                                                     channel));
+
+        channel.writeAndFlush(streamedRequest)
                .addListener(wireCall -> {
                    // Done writing so remove the idle write timeout handler
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
@@ -134,6 +157,21 @@ public final class RunnableRequest implements AbortableRunnable {
                });
     }
 
+    /**
+     * The file to send as the request body, if the body is backed by a file and can be written to the connection directly.
+     * HTTP/2 streams only carry {@link HttpContent}, so file bodies are only written directly over HTTP/1.1.
+     */
+    private Optional<Path> fileBody() {
+        if (!Protocol.HTTP1_1.equals(ChannelAttributeKey.getProtocolNow(channel))) {
+            return Optional.empty();
+        }
+        return context.sdkRequestProvider().file();
+    }
+
+    private boolean isEncrypted() {
+        return channel.pipeline().get(SslHandler.class) != null;
+    }
+
     private URI endpoint() {
         return context.sdkRequest().getUri();
     }
@@ -332,14 +370,14 @@ public final class RunnableRequest implements AbortableRunnable {
      */
     private static class StreamedRequest extends DelegateHttpRequest implements StreamedHttpRequest {
 
-        private final Publisher<ByteBuffer> publisher;
+        private final SdkHttpRequestProvider publisher;
         private final Channel channel;
         private final Optional<Long> requestContentLength;
         private long written = 0L;
         private boolean done;
         private Subscription subscription;
 
-        StreamedRequest(HttpRequest request, Publisher<ByteBuffer> publisher, Channel channel) {
+        StreamedRequest(HttpRequest request, SdkHttpRequestProvider publisher, Channel channel) {
             super(request);
             this.publisher = publisher;
             this.channel = channel;
@@ -363,8 +401,7 @@ public final class RunnableRequest implements AbortableRunnable {
 
                     int newLimit = clampedBufferLimit(byteBuffer.remaining());
                     byteBuffer.limit(newLimit);
-                    ByteBuf buffer = channel.alloc().buffer(byteBuffer.remaining());
-                    buffer.writeBytes(byteBuffer);
+                    ByteBuf buffer = toByteBuf(byteBuffer);
                     HttpContent content = new DefaultHttpContent(buffer);
 
                     subscriber.onNext(content);
@@ -396,6 +433,19 @@ public final class RunnableRequest implements AbortableRunnable {
             });
         }
 
+        /**
+         * Buffers the provider never modifies once published are written to the connection as they are. Any other buffer may
+         * be reused by the provider as soon as this subscriber returns, so it is copied into a buffer of our own.
+         */
+        private ByteBuf toByteBuf(ByteBuffer byteBuffer) {
+            if (publisher.publishesImmutableBuffers()) {
+                return Unpooled.wrappedBuffer(byteBuffer);
+            }
+            ByteBuf buffer = channel.alloc().buffer(byteBuffer.remaining());
+            buffer.writeBytes(byteBuffer);
+            return buffer;
+        }
+
         private int clampedBufferLimit(int bufLen) {
             return requestContentLength.map(cl ->
                 (int) Math.min(cl - written, bufLen)
@@ -419,4 +469,76 @@ public final class RunnableRequest implements AbortableRunnable {
         }
 
     }
+
+    /**
+     * A {@link StreamedHttpRequest} whose content is a file, which is written to the connection without being copied through
+     * a {@link ByteBuffer} publisher. The published stream of {@link HttpContent} is empty: once the request headers have been
+     * written and the body is requested, the file is written directly on the channel and the stream completes when it has
+     * been sent, after which the last content is written to finish the request.
+     * <p />
+     * On plaintext connections the file is written as a {@link DefaultFileRegion}, which the transport sends with
+     * {@code sendfile}. On TLS connections the content has to be encrypted, so the file is written as a {@link ChunkedFile}
+     * that the {@link ChunkedWriteHandler} reads into buffers as the connection becomes writable. Only the first
+     * 'Content-Length' bytes of the file are sent.
+     */
+    private static class FileRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+
+        private final Path file;
+        private final boolean encrypted;
+        private final Channel channel;
+        private final long length;
+
+        FileRequest(HttpRequest request, Path file, boolean encrypted, Channel channel) {
+            super(request);
+            this.file = file;
+            this.encrypted = encrypted;
+            this.channel = channel;
+            this.length = StreamedRequest.contentLength(request).orElseGet(() -> file.toFile().length());
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super HttpContent> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private boolean written;
+
+                @Override
+                public void request(long n) {
+                    if (written) {
+                        return;
+                    }
+                    written = true;
+                    writeFile(subscriber);
+                }
+
+                @Override
+                public void cancel() {
+                    written = true;
+                }
+            });
+        }
+
+        private void writeFile(Subscriber<? super HttpContent> subscriber) {
+            Object fileContent;
+            try {
+                fileContent = fileContent();
+            } catch (IOException e) {
+                subscriber.onError(e);
+                return;
+            }
+            channel.writeAndFlush(fileContent).addListener(write -> {
+                if (write.isSuccess()) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(write.cause());
+                }
+            });
+        }
+
+        private Object fileContent() throws IOException {
+            if (encrypted) {
+                return new ChunkedFile(new RandomAccessFile(file.toFile(), "r"), 0, length, FILE_CHUNK_SIZE);
+            }
+            return new DefaultFileRegion(file.toFile(), 0, length);
+        }
+    }
 }
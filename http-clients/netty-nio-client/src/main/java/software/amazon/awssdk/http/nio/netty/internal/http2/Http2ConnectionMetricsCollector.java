@@ -0,0 +1,58 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.Http2ConnectionMetrics;
+
+/**
+ * Records the {@link Http2ConnectionMetrics} of an HTTP client. It is updated from the event loops of all the client's
+ * connections.
+ */
+@SdkInternalApi
+public final class Http2ConnectionMetricsCollector implements Http2ConnectionMetrics {
+    private final LongAdder pingsSent = new LongAdder();
+    private final LongAdder pingTimeouts = new LongAdder();
+    private final LongAdder goAwaysReceived = new LongAdder();
+
+    void recordPingSent() {
+        pingsSent.increment();
+    }
+
+    void recordPingTimeout() {
+        pingTimeouts.increment();
+    }
+
+    void recordGoAway() {
+        goAwaysReceived.increment();
+    }
+
+    @Override
+    public long pingsSent() {
+        return pingsSent.sum();
+    }
+
+    @Override
+    public long pingTimeouts() {
+        return pingTimeouts.sum();
+    }
+
+    @Override
+    public long goAwaysReceived() {
+        return goAwaysReceived.sum();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Chooses the HTTP/2 connection that each new stream is opened on. Connections are indexed by their number of active
+ * streams, so new streams are spread to the least-loaded healthy connection without scanning every connection in the pool.
+ *
+ * <p>This class is not thread safe. It must only be used from the event loop of the {@link Http2MultiplexedChannelPool} that
+ * owns it.</p>
+ */
+@SdkInternalApi
+final class Http2ConnectionScheduler {
+    private static final Comparator<MultiplexedChannelRecord> BY_ACTIVE_STREAMS =
+        Comparator.comparingLong(MultiplexedChannelRecord::activeStreams)
+                  .thenComparingLong(MultiplexedChannelRecord::id);
+
+    private final NavigableSet<MultiplexedChannelRecord> connections = new TreeSet<>(BY_ACTIVE_STREAMS);
+
+    void addConnection(MultiplexedChannelRecord record) {
+        connections.add(record);
+    }
+
+    boolean removeConnection(MultiplexedChannelRecord record) {
+        return connections.remove(record);
+    }
+
+    int connectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Returns the healthy connection with the fewest active streams that is below its MAX_CONCURRENT_STREAMS limit, or null if
+     * every connection is at its limit. Connections are visited in order of load, so the first one with a free stream is
+     * usually the least-loaded connection itself.
+     */
+    MultiplexedChannelRecord leastLoadedConnection() {
+        for (MultiplexedChannelRecord record : connections) {
+            if (record.isHealthy() && record.availableStreams() > 0) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    void streamAcquired(MultiplexedChannelRecord record) {
+        updateActiveStreams(record, 1);
+    }
+
+    void streamReleased(MultiplexedChannelRecord record) {
+        updateActiveStreams(record, -1);
+    }
+
+    private void updateActiveStreams(MultiplexedChannelRecord record, long delta) {
+        // The number of active streams orders the index, so it can only change while the record is out of it. Records that
+        // were already removed from the pool are not tracked any more.
+        if (connections.remove(record)) {
+            record.addActiveStreams(delta);
+            connections.add(record);
+        }
+    }
+}
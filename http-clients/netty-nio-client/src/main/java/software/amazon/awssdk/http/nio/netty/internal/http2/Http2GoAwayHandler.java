@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Retires an HTTP/2 connection when the server sends a GOAWAY frame. No new streams are opened on the connection, and it is
+ * closed once the streams in flight on it have finished.
+ */
+@SdkInternalApi
+public final class Http2GoAwayHandler extends SimpleChannelInboundHandler<Http2GoAwayFrame> {
+    private final Http2ConnectionMetricsCollector metrics;
+
+    public Http2GoAwayHandler(Http2ConnectionMetricsCollector metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Http2GoAwayFrame frame) {
+        metrics.recordGoAway();
+        MultiplexedChannelRecord record = ctx.channel().attr(CHANNEL_POOL_RECORD).get();
+        if (record != null) {
+            record.drain();
+        } else {
+            // The connection was never handed out by the pool, so no streams are in flight on it
+            ctx.close();
+        }
+    }
+}
@@ -24,17 +24,22 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 
 /**
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
- * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * the actual socket channel. Each new stream is opened on the least-loaded healthy connection that is
+ * below the MAX_CONCURRENT_STREAMS most recently advertised by the server for that connection. When every
+ * connection is at its limit then a new connection will be opened, or, if the max number of connections
+ * has been reached, the acquire waits until a stream is released.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -47,22 +52,31 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     private final EventLoop eventLoop;
     private final ChannelPool connectionPool;
     private final long maxConcurrencyPerConnection;
-    private final ArrayList<MultiplexedChannelRecord> connections;
+    private final int maxConnections;
+    private final Http2ConnectionScheduler scheduler = new Http2ConnectionScheduler();
+    private final Queue<Promise<Channel>> pendingAcquires = new ArrayDeque<>();
+
+    /**
+     * The pool each connection that was added with {@link #addConnection(Channel, ChannelPool)} came from, to release it to
+     * when it's no longer usable. Only accessed from the event loop.
+     */
+    private final Map<Channel, ChannelPool> addedConnections = new HashMap<>();
 
     /**
      * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
      * @param eventLoop Event loop to run all tasks in.
-     * @param maxConcurrencyPerConnection Max concurrent streams per HTTP/2 connection.
+     * @param maxConcurrencyPerConnection Max concurrent streams per HTTP/2 connection, until the server's SETTINGS frame
+     * for a connection is received.
+     * @param maxConnections Max number of HTTP/2 connections.
      */
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoop eventLoop,
-                                long maxConcurrencyPerConnection) {
+                                long maxConcurrencyPerConnection,
+                                int maxConnections) {
         this.connectionPool = connectionPool;
         this.eventLoop = eventLoop;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
-        // Customers that want an unbounded connection pool may set max concurrency to something like
-        // Long.MAX_VALUE so we just stick with the initial ArrayList capacity and grow from there.
-        this.connections = new ArrayList<>();
+        this.maxConnections = maxConnections;
     }
 
     @Override
@@ -76,19 +90,88 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
         return promise;
     }
 
-    private Future<Channel> acquire0(Promise<Channel> promise) {
-        for (MultiplexedChannelRecord connection : connections) {
-            if (connection.availableStreams() > 0) {
-                connection.acquire(promise);
-                return promise;
+    private void acquire0(Promise<Channel> promise) {
+        if (!tryAcquire(promise)) {
+            pendingAcquires.add(promise);
+        }
+    }
+
+    /**
+     * Opens a stream on the least-loaded connection with a free stream, establishing a new connection if there is none.
+     *
+     * @return False if every connection is at its max streams and no more connections may be established.
+     */
+    private boolean tryAcquire(Promise<Channel> promise) {
+        MultiplexedChannelRecord record = scheduler.leastLoadedConnection();
+        if (record == null) {
+            if (scheduler.connectionCount() >= maxConnections) {
+                return false;
             }
+            // No available streams, establish new connection and add it to the scheduler
+            record = new MultiplexedChannelRecord(connectionPool.acquire(),
+                                                  maxConcurrencyPerConnection,
+                                                  this::releaseParentChannel);
+            scheduler.addConnection(record);
+        }
+        acquireStream(record, promise);
+        return true;
+    }
+
+    /**
+     * Adds a connection that was established by another pool, so that streams can be opened on it instead of establishing a
+     * new connection. The connection must be registered with this pool's event loop. Once it's no longer usable, it is
+     * released to the pool it came from.
+     *
+     * @param connection The HTTP/2 socket channel.
+     * @param owner The pool the connection was acquired from.
+     */
+    void addConnection(Channel connection, ChannelPool owner) {
+        doInEventLoop(eventLoop, () -> addConnection0(connection, owner));
+    }
+
+    private void addConnection0(Channel connection, ChannelPool owner) {
+        if (scheduler.connectionCount() >= maxConnections) {
+            connection.close();
+            owner.release(connection);
+            return;
+        }
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(eventLoop.newSucceededFuture(connection),
+                                                                       maxConcurrencyPerConnection,
+                                                                       this::releaseParentChannel);
+        // Set up front, as the connection may be released before a stream is ever opened on it
+        connection.attr(CHANNEL_POOL_RECORD).set(record);
+        addedConnections.put(connection, owner);
+        scheduler.addConnection(record);
+        acquirePending();
+    }
+
+    private void acquireStream(MultiplexedChannelRecord record, Promise<Channel> promise) {
+        scheduler.streamAcquired(record);
+        // A stream that could not be opened is never released by the caller, so give it back here
+        promise.addListener((GenericFutureListener<Future<Channel>>) future -> {
+            if (!future.isSuccess()) {
+                doInEventLoop(eventLoop, () -> streamReleased(record));
+            }
+        });
+        record.acquire(promise);
+    }
+
+    private void streamReleased(MultiplexedChannelRecord record) {
+        scheduler.streamReleased(record);
+        acquirePending();
+    }
+
+    /**
+     * Completes the acquires that were waiting for a free stream, for as long as streams are available.
+     */
+    private void acquirePending() {
+        while (!pendingAcquires.isEmpty()) {
+            Promise<Channel> promise = pendingAcquires.peek();
+            if (!promise.isDone() && !tryAcquire(promise)) {
+                return;
+            }
+            pendingAcquires.poll();
         }
-        // No available streams, establish new connection and add it to list
-        connections.add(new MultiplexedChannelRecord(connectionPool.acquire(),
-                                                     maxConcurrencyPerConnection,
-                                                     this::releaseParentChannel)
-                            .acquire(promise));
-        return promise;
     }
 
     /**
@@ -106,10 +189,11 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
             try {
                 parentChannel.close();
             } finally {
-                connectionPool.release(parentChannel);
+                releaseConnection(parentChannel);
             }
         }
-        connections.remove(record);
+        scheduler.removeConnection(record);
+        acquirePending();
     }
 
     @Override
@@ -138,19 +222,37 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
             channelRecord.release(channel);
             channel.close();
             promise.setSuccess(null);
+            streamReleased(channelRecord);
         }
     }
 
     private void releaseParentChannel(Channel parentChannel) {
         MultiplexedChannelRecord channelRecord = parentChannel.attr(CHANNEL_POOL_RECORD).get();
-        connections.remove(channelRecord);
+        scheduler.removeConnection(channelRecord);
         parentChannel.close();
-        connectionPool.release(parentChannel);
+        releaseConnection(parentChannel);
+        acquirePending();
+    }
+
+    private void releaseConnection(Channel connection) {
+        ChannelPool owner = addedConnections.remove(connection);
+        if (owner != null) {
+            owner.release(connection);
+        } else {
+            connectionPool.release(connection);
+        }
     }
 
     @Override
     public void close() {
-        doInEventLoop(eventLoop, connectionPool::close);
+        doInEventLoop(eventLoop, this::close0);
+    }
+
+    private void close0() {
+        while (!pendingAcquires.isEmpty()) {
+            pendingAcquires.poll().tryFailure(new IllegalStateException("Channel pool is closed"));
+        }
+        connectionPool.close();
     }
 
 }
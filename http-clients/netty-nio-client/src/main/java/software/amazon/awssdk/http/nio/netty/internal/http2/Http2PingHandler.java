@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http2.DefaultHttp2PingFrame;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Checks the health of an HTTP/2 connection by sending a PING frame periodically, whether or not streams are active on it.
+ * If a PING is not acknowledged by the time the next one is due, the connection is considered dead: an exception is fired
+ * down the pipeline, which fails the streams on the connection, closes it and removes it from the pool.
+ */
+@SdkInternalApi
+public final class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame> {
+    private final long pingPeriodMillis;
+    private final Http2ConnectionMetricsCollector metrics;
+
+    private ScheduledFuture<?> periodicPing;
+    private boolean pingOutstanding;
+
+    public Http2PingHandler(long pingPeriodMillis, Http2ConnectionMetricsCollector metrics) {
+        this.pingPeriodMillis = pingPeriodMillis;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive()) {
+            start(ctx);
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        start(ctx);
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        stop();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stop();
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Http2PingFrame frame) {
+        // PINGs sent by the server are acknowledged by the codec
+        if (frame.ack()) {
+            pingOutstanding = false;
+        }
+    }
+
+    private void start(ChannelHandlerContext ctx) {
+        if (periodicPing == null) {
+            periodicPing = ctx.executor().scheduleAtFixedRate(() -> doPeriodicPing(ctx),
+                                                              pingPeriodMillis, pingPeriodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stop() {
+        if (periodicPing != null) {
+            periodicPing.cancel(false);
+            periodicPing = null;
+        }
+    }
+
+    private void doPeriodicPing(ChannelHandlerContext ctx) {
+        if (pingOutstanding) {
+            stop();
+            metrics.recordPingTimeout();
+            ctx.channel().pipeline().fireExceptionCaught(
+                new IOException("An HTTP/2 PING frame was not acknowledged within " + pingPeriodMillis + " ms"));
+            return;
+        }
+        pingOutstanding = true;
+        metrics.recordPingSent();
+        ctx.writeAndFlush(new DefaultHttp2PingFrame(System.nanoTime()));
+    }
+}
@@ -22,13 +22,19 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.do
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
 import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
@@ -37,36 +43,52 @@ import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPo
 /**
  * Channel pool that establishes an initial connection to determine protocol. Delegates
  * to appropriate channel pool implementation depending on the protocol. This assumes that
- * all connections will be negotiated with the same protocol.
+ * all connections will be negotiated with the same protocol. Once the protocol is known, acquires and releases go
+ * straight to the protocol's pool, which hands them to its own event loops.
  */
 @SdkInternalApi
 public class HttpOrHttp2ChannelPool implements ChannelPool {
 
+    private final Bootstrap bootstrap;
+    private final ChannelPoolHandler handler;
     private final ChannelPool simpleChannelPool;
     private final int maxConcurrency;
+    private final int maxHttp2Connections;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
 
     private Promise<ChannelPool> protocolImplPromise;
-    private ChannelPool protocolImpl;
+    private volatile ChannelPool protocolImpl;
 
     public HttpOrHttp2ChannelPool(Bootstrap bootstrap,
                                   ChannelPoolHandler handler,
                                   int maxConcurrency,
+                                  int maxHttp2Connections,
                                   NettyConfiguration configuration) {
+        this.bootstrap = bootstrap;
+        this.handler = handler;
         this.simpleChannelPool = new SimpleChannelPool(bootstrap, handler);
         this.maxConcurrency = maxConcurrency;
+        this.maxHttp2Connections = maxHttp2Connections;
         this.eventLoop = bootstrap.config().group().next();
         this.configuration = configuration;
     }
 
     @Override
     public Future<Channel> acquire() {
+        ChannelPool impl = protocolImpl;
+        if (impl != null) {
+            return impl.acquire();
+        }
         return acquire(new DefaultPromise<>(eventLoop));
     }
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
+        ChannelPool impl = protocolImpl;
+        if (impl != null) {
+            return impl.acquire(promise);
+        }
         doInEventLoop(eventLoop, () -> acquire0(promise), promise);
         return promise;
     }
@@ -134,23 +156,72 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
                                                  .build();
+            // Give the channel back so it can be acquired again by protocolImpl
+            simpleChannelPool.release(newChannel);
         } else {
-            ChannelPool h2Pool = new Http2MultiplexedChannelPool(
-                simpleChannelPool, eventLoop, newChannel.attr(MAX_CONCURRENT_STREAMS).get());
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(h2Pool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            protocolImpl = http2ChannelPool(newChannel);
         }
-        // Give the channel back so it can be acquired again by protocolImpl
-        simpleChannelPool.release(newChannel);
         return protocolImpl;
     }
 
+    /**
+     * Creates an HTTP/2 pool with a shard for each event loop, up to the max number of connections. The max concurrency, max
+     * pending acquires and max connections are split between the shards. The first shard owns the event loop of the connection
+     * that negotiated the protocol, and starts out with that connection.
+     */
+    private ChannelPool http2ChannelPool(Channel negotiatedChannel) {
+        long maxStreams = negotiatedChannel.attr(MAX_CONCURRENT_STREAMS).get();
+        List<EventLoop> eventLoops = eventLoops(bootstrap.config().group(), negotiatedChannel.eventLoop(),
+                                                Math.min(maxConcurrency, maxHttp2Connections));
+        int shardCount = eventLoops.size();
+        Map<EventLoop, ChannelPool> shards = new LinkedHashMap<>();
+        for (int i = 0; i < shardCount; i++) {
+            EventLoop shardEventLoop = eventLoops.get(i);
+            ChannelPool connectionPool = new SimpleChannelPool(bootstrap.clone(shardEventLoop), handler);
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, shardEventLoop, maxStreams,
+                                                                                 shareOf(maxHttp2Connections, i, shardCount));
+            if (i == 0) {
+                // Released to the pool that established it once it's no longer usable
+                h2Pool.addConnection(negotiatedChannel, simpleChannelPool);
+            }
+            int maxPendingAcquires = shareOf(configuration.maxPendingConnectionAcquires(), i, shardCount);
+            shards.put(shardEventLoop,
+                       BetterFixedChannelPool.builder()
+                                             .channelPool(h2Pool)
+                                             .executor(shardEventLoop)
+                                             .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                             .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                             .maxConnections(shareOf(maxConcurrency, i, shardCount))
+                                             .maxPendingAcquires(Math.max(1, maxPendingAcquires))
+                                             .build());
+        }
+        return new ShardedHttp2ChannelPool(shards);
+    }
+
+    /**
+     * Picks up to the max number of event loops from the group, starting with the given one.
+     */
+    private static List<EventLoop> eventLoops(EventLoopGroup group, EventLoop first, int maxEventLoops) {
+        List<EventLoop> eventLoops = new ArrayList<>();
+        eventLoops.add(first);
+        for (EventExecutor executor : group) {
+            if (eventLoops.size() >= maxEventLoops) {
+                break;
+            }
+            if (executor != first) {
+                eventLoops.add((EventLoop) executor);
+            }
+        }
+        return eventLoops;
+    }
+
+    /**
+     * Splits a limit between shards so that the shares add up to the limit.
+     */
+    private static int shareOf(int limit, int shard, int shardCount) {
+        return limit / shardCount + (shard < limit % shardCount ? 1 : 0);
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return release(channel, eventLoop.newPromise());
@@ -158,6 +229,10 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
 
     @Override
     public Future<Void> release(Channel channel, Promise<Void> promise) {
+        ChannelPool impl = protocolImpl;
+        if (impl != null) {
+            return impl.release(channel, promise);
+        }
         doInEventLoop(eventLoop,
             () -> release0(channel, promise),
                       promise);
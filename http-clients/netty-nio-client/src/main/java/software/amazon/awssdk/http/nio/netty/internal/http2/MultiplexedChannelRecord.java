@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_RECORD;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.MAX_CONCURRENT_STREAMS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.asyncPromiseNotifyingBiConsumer;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
@@ -38,34 +39,39 @@ import software.amazon.awssdk.http.Protocol;
 
 /**
  * Contains a {@link Future} for the actual socket channel and tracks available
- * streams based on the MAX_CONCURRENT_STREAMS setting for the connection.
+ * streams based on the MAX_CONCURRENT_STREAMS setting for the connection. The number of active streams is maintained by the
+ * {@link Http2ConnectionScheduler} of the pool that owns the connection.
  */
 @SdkInternalApi
 public final class MultiplexedChannelRecord {
+    private static final AtomicLong NEXT_ID = new AtomicLong();
 
+    private final long id = NEXT_ID.getAndIncrement();
     private final Future<Channel> connectionFuture;
     private final Map<ChannelId, Channel> childChannels;
-    private final AtomicLong availableStreams;
+    private final long maxConcurrencyPerConnection;
     private final BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser;
 
     private volatile Channel connection;
+    private volatile boolean draining;
+    private long activeStreams;
 
     /**
      * @param connectionFuture Future for parent socket channel.
-     * @param maxConcurrencyPerConnection Max streams allowed per connection.
+     * @param maxConcurrencyPerConnection Max streams allowed per connection until the server's SETTINGS frame for this
+     * connection is received.
      * @param channelReleaser Method to release a channel and record on failure.
      */
     MultiplexedChannelRecord(Future<Channel> connectionFuture,
                              long maxConcurrencyPerConnection,
                              BiConsumer<Channel, MultiplexedChannelRecord> channelReleaser) {
         this.connectionFuture = connectionFuture;
-        this.availableStreams = new AtomicLong(maxConcurrencyPerConnection);
+        this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.childChannels = new ConcurrentHashMap<>(saturatedCast(maxConcurrencyPerConnection));
         this.channelReleaser = channelReleaser;
     }
 
     MultiplexedChannelRecord acquire(Promise<Channel> channelPromise) {
-        availableStreams.decrementAndGet();
         if (connection != null) {
             createChildChannel(channelPromise, connection);
         } else {
@@ -129,19 +135,69 @@ public final class MultiplexedChannelRecord {
                     if (!connection.isActive()) {
                         channelReleaser.accept(connection, this);
                     }
-                    availableStreams.incrementAndGet();
                 }
             })
             .addListener(promiseNotifyingListener(p));
     }
 
     void release(Channel channel) {
-        availableStreams.incrementAndGet();
         childChannels.remove(channel.id());
+        closeIfDrained();
+    }
+
+    /**
+     * Stops new streams from being opened on this connection, and closes it once the streams in flight on it have finished.
+     */
+    void drain() {
+        draining = true;
+        closeIfDrained();
+    }
+
+    private void closeIfDrained() {
+        if (draining && childChannels.isEmpty()) {
+            channelReleaser.accept(connection, this);
+        }
+    }
+
+    long id() {
+        return id;
+    }
+
+    long activeStreams() {
+        return activeStreams;
+    }
+
+    void addActiveStreams(long delta) {
+        activeStreams += delta;
+    }
+
+    /**
+     * The max streams for this connection. This is the lower of the client's limit and the MAX_CONCURRENT_STREAMS from the
+     * most recent SETTINGS frame the server sent on this connection.
+     */
+    long maxStreams() {
+        Channel channel = connection;
+        Long negotiatedMaxStreams = channel == null ? null : channel.attr(MAX_CONCURRENT_STREAMS).get();
+        return negotiatedMaxStreams == null ? maxConcurrencyPerConnection : negotiatedMaxStreams;
     }
 
     long availableStreams() {
-        return availableStreams.get();
+        return maxStreams() - activeStreams;
+    }
+
+    /**
+     * Whether new streams may be opened on this connection. A connection that is still being established is healthy unless
+     * establishing it failed, and a connection that is being drained is not.
+     */
+    boolean isHealthy() {
+        if (draining) {
+            return false;
+        }
+        Channel channel = connection;
+        if (channel != null) {
+            return channel.isActive();
+        }
+        return !connectionFuture.isDone() || connectionFuture.isSuccess();
     }
 
 }
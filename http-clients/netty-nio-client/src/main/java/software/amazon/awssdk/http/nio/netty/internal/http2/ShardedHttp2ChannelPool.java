@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * {@link ChannelPool} implementation that spreads HTTP/2 streams across one pool per event loop, so that acquiring and
+ * releasing streams for a single endpoint scales with the size of the event loop group instead of being serialized on one
+ * event loop. Each shard only owns connections registered with its own event loop, which is how a released stream channel
+ * is routed back to the shard it was acquired from.
+ */
+@SdkInternalApi
+public class ShardedHttp2ChannelPool implements ChannelPool {
+
+    private final Map<EventLoop, ChannelPool> shardsByEventLoop;
+    private final List<ChannelPool> shards;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    /**
+     * @param shardsByEventLoop The pool for each event loop. Each pool must only create connections registered with its event
+     * loop.
+     */
+    ShardedHttp2ChannelPool(Map<EventLoop, ChannelPool> shardsByEventLoop) {
+        this.shardsByEventLoop = Collections.unmodifiableMap(new LinkedHashMap<>(shardsByEventLoop));
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shardsByEventLoop.values()));
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return nextShard().acquire();
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return nextShard().acquire(promise);
+    }
+
+    private ChannelPool nextShard() {
+        return shards.get(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, channel.eventLoop().newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        // Stream channels share the event loop of their parent connection
+        ChannelPool shard = shardsByEventLoop.get(channel.eventLoop());
+        if (shard == null) {
+            promise.setFailure(new IllegalArgumentException("Channel does not belong to this pool"));
+            return promise;
+        }
+        return shard.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(ChannelPool::close);
+    }
+}
@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
@@ -52,12 +53,15 @@ import java.net.Socket;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadFactory;
@@ -288,6 +292,50 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(wiremockTrafficListener.requests.toString()).endsWith(content);
     }
 
+    @Test
+    public void providerReusingItsBufferIsSentCorrectly() throws Exception {
+        String body = randomAlphabetic(3500);
+        stubFor(any(urlEqualTo("/upload")).willReturn(aResponse()));
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+
+        SdkHttpFullRequest request = createRequest(uri, "/upload", body, SdkHttpMethod.PUT, emptyMap());
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.prepareRequest(request, requestContext, createReusingProvider(body), recorder).run();
+
+        recorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+        verify(1, putRequestedFor(urlEqualTo("/upload")).withRequestBody(equalTo(body)));
+    }
+
+    @Test
+    public void fileBodyIsSentOverPlaintextConnection() throws Exception {
+        assertCanSendFileBody(URI.create("http://localhost:" + mockServer.port()));
+    }
+
+    @Test
+    public void fileBodyIsSentOverTlsConnection() throws Exception {
+        assertCanSendFileBody(URI.create("https://localhost:" + mockServer.httpsPort()));
+    }
+
+    private void assertCanSendFileBody(URI uri) throws Exception {
+        String body = randomAlphabetic(100_000);
+        Path file = Files.createTempFile("netty-file-body", ".txt");
+        try {
+            Files.write(file, body.getBytes(UTF_8));
+            stubFor(any(urlEqualTo("/upload")).willReturn(aResponse()));
+
+            SdkHttpFullRequest request = createRequest(uri, "/upload", body, SdkHttpMethod.PUT, emptyMap());
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            client.prepareRequest(request, requestContext, createFileProvider(file), recorder).run();
+
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+            verify(1, putRequestedFor(urlEqualTo("/upload")).withRequestBody(equalTo(body)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     private void assertCanReceiveBasicRequest(URI uri, String body) throws Exception {
         stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Some-Header", "With Value").withBody(body)));
 
@@ -336,6 +384,69 @@ public class NettyNioAsyncHttpClientWireMockTest {
         };
     }
 
+    /**
+     * A provider that publishes every chunk of the body through the same buffer, overwriting it once the previous chunk has
+     * been handed to the subscriber.
+     */
+    private SdkHttpRequestProvider createReusingProvider(String body) {
+        Collection<String> chunks = splitStringBySize(body);
+        return new SdkHttpRequestProvider() {
+
+            @Override
+            public long contentLength() {
+                return body.length();
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                s.onSubscribe(new Subscription() {
+                    private boolean done;
+
+                    @Override
+                    public void request(long n) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                        ByteBuffer buffer = ByteBuffer.allocate(1000);
+                        for (String chunk : chunks) {
+                            buffer.clear();
+                            buffer.put(chunk.getBytes(UTF_8));
+                            buffer.flip();
+                            s.onNext(buffer);
+                        }
+                        s.onComplete();
+                    }
+
+                    @Override
+                    public void cancel() {
+
+                    }
+                });
+            }
+        };
+    }
+
+    private SdkHttpRequestProvider createFileProvider(Path file) {
+        return new SdkHttpRequestProvider() {
+
+            @Override
+            public long contentLength() {
+                return file.toFile().length();
+            }
+
+            @Override
+            public Optional<Path> file() {
+                return Optional.of(file);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                throw new AssertionError("File bodies should be written directly instead of being subscribed to");
+            }
+        };
+    }
+
     private SdkHttpFullRequest createRequest(URI uri) {
         return createRequest(uri, "/", null, SdkHttpMethod.GET, emptyMap());
     }
@@ -423,6 +534,13 @@ public class NettyNioAsyncHttpClientWireMockTest {
         customClient.close();
     }
 
+    @Test
+    public void subMillisecondHttp2HealthCheckPingPeriod_isRejected() {
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder().http2HealthCheckPingPeriod(Duration.ofNanos(500_000)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("http2HealthCheckPingPeriod");
+    }
+
     private RecordingResponseHandler makeSimpleRequestAndReturnResponseHandler(SdkAsyncHttpClient client) throws Exception {
         String body = randomAlphabetic(10);
         URI uri = URI.create("http://localhost:" + mockServer.port());
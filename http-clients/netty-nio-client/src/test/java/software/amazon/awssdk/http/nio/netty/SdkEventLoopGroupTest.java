@@ -16,8 +16,13 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
+import io.netty.channel.Channel;
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.junit.Test;
@@ -31,6 +36,50 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.eventLoopGroup()).isNotNull();
     }
 
+    @Test
+    public void noTransport_usesEpollWhenAvailable() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        Class<?> expectedType = Epoll.isAvailable() ? EpollEventLoopGroup.class : NioEventLoopGroup.class;
+
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(expectedType);
+        sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+    }
+
+    @Test
+    public void nioTransport_usesNioChannels() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transport(SdkEventLoopGroup.Transport.NIO)
+                                                               .build();
+
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+        Channel channel = sdkEventLoopGroup.channelFactory().newChannel();
+        assertThat(channel).isInstanceOf(NioSocketChannel.class);
+        channel.close();
+        sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+    }
+
+    @Test
+    public void epollTransport_usesEpollChannels() {
+        assumeTrue(Epoll.isAvailable());
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transport(SdkEventLoopGroup.Transport.EPOLL)
+                                                               .build();
+
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+        Channel channel = sdkEventLoopGroup.channelFactory().newChannel();
+        assertThat(channel).isInstanceOf(EpollSocketChannel.class);
+        channel.close();
+        sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void epollTransport_notAvailable_throwsException() {
+        assumeTrue(!Epoll.isAvailable());
+        SdkEventLoopGroup.builder().transport(SdkEventLoopGroup.Transport.EPOLL).build();
+    }
+
     @Test
     public void creatingUsingStaticMethod() {
         SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.create(new NioEventLoopGroup(), NioSocketChannel::new);
@@ -28,11 +28,12 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.tck.PublisherVerification;
 import org.reactivestreams.tck.TestEnvironment;
 import org.testng.annotations.BeforeMethod;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
 
 /**
  * TCK verification test for {@link software.amazon.awssdk.http.nio.netty.internal.ResponseHandler.FullResponseContentPublisher}.
  */
-public class FullResponseContentPublisherTckTest extends PublisherVerification<ByteBuffer> {
+public class FullResponseContentPublisherTckTest extends PublisherVerification<RefCountedByteBuffer> {
     private static final byte[] CONTENT = new byte[16];
 
     private ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
@@ -56,12 +57,12 @@ public class FullResponseContentPublisherTckTest extends PublisherVerification<B
     }
 
     @Override
-    public Publisher<ByteBuffer> createPublisher(long l) {
-        return new ResponseHandler.FullResponseContentPublisher(mockCtx, ByteBuffer.wrap(CONTENT));
+    public Publisher<RefCountedByteBuffer> createPublisher(long l) {
+        return new ResponseHandler.FullResponseContentPublisher(mockCtx, RefCountedByteBuffer.wrap(ByteBuffer.wrap(CONTENT)));
     }
 
     @Override
-    public Publisher<ByteBuffer> createFailedPublisher() {
+    public Publisher<RefCountedByteBuffer> createFailedPublisher() {
         return null;
     }
 }
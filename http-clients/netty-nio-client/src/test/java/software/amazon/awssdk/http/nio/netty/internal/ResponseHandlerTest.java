@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.LAST_HTTP_CONTENT_RECEIVED_KEY;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_COMPLETE_KEY;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.CharsetUtil;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+
+public class ResponseHandlerTest {
+    private final ChannelPool channelPool = mock(ChannelPool.class);
+    private final SdkHttpResponseHandler<?> responseHandler = mock(SdkHttpResponseHandler.class);
+    private final EmbeddedChannel channel = new EmbeddedChannel(LastHttpContentHandler.create(), new ResponseHandler());
+
+    @Before
+    public void setup() {
+        channel.attr(REQUEST_CONTEXT_KEY).set(new RequestContext(channelPool, null, null, null, responseHandler, null));
+        channel.attr(RESPONSE_COMPLETE_KEY).set(false);
+        channel.attr(LAST_HTTP_CONTENT_RECEIVED_KEY).set(false);
+    }
+
+    @Test
+    public void channelInactiveAfterLastContentWasRead_doesNotFailResponse() {
+        channel.writeInbound(LastHttpContent.EMPTY_LAST_CONTENT);
+
+        channel.close();
+
+        verify(responseHandler, never()).exceptionOccurred(any(Throwable.class));
+        verify(channelPool, never()).release(channel);
+    }
+
+    @Test
+    public void channelInactiveBeforeLastContentWasRead_failsResponse() {
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("partial", CharsetUtil.UTF_8)));
+
+        channel.close();
+
+        verify(responseHandler).exceptionOccurred(any(IOException.class));
+        verify(channelPool).release(channel);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.Future;
+import org.junit.Test;
+
+public class Http2ConnectionSchedulerTest {
+    private final Http2ConnectionScheduler scheduler = new Http2ConnectionScheduler();
+
+    @Test
+    public void newStreamsAreSpreadAcrossConnections() {
+        MultiplexedChannelRecord first = connectingRecord(10);
+        MultiplexedChannelRecord second = connectingRecord(10);
+        scheduler.addConnection(first);
+        scheduler.addConnection(second);
+
+        acquireStream();
+        acquireStream();
+        acquireStream();
+
+        assertThat(first.activeStreams()).isEqualTo(2);
+        assertThat(second.activeStreams()).isEqualTo(1);
+        assertThat(scheduler.leastLoadedConnection()).isSameAs(second);
+    }
+
+    @Test
+    public void releasedStreamMakesConnectionLeastLoaded() {
+        MultiplexedChannelRecord first = connectingRecord(10);
+        MultiplexedChannelRecord second = connectingRecord(10);
+        scheduler.addConnection(first);
+        scheduler.addConnection(second);
+        acquireStream();
+        acquireStream();
+        acquireStream();
+
+        scheduler.streamReleased(first);
+        scheduler.streamReleased(first);
+
+        assertThat(scheduler.leastLoadedConnection()).isSameAs(first);
+    }
+
+    @Test
+    public void connectionsAtMaxStreamsAreSkipped() {
+        MultiplexedChannelRecord small = connectingRecord(1);
+        MultiplexedChannelRecord large = connectingRecord(10);
+        scheduler.addConnection(small);
+        scheduler.addConnection(large);
+
+        acquireStream();
+        acquireStream();
+        acquireStream();
+
+        assertThat(small.activeStreams()).isEqualTo(1);
+        assertThat(large.activeStreams()).isEqualTo(2);
+    }
+
+    @Test
+    public void noConnectionIsReturnedWhenAllAreAtMaxStreams() {
+        scheduler.addConnection(connectingRecord(1));
+        acquireStream();
+
+        assertThat(scheduler.leastLoadedConnection()).isNull();
+    }
+
+    @Test
+    public void failedConnectionsAreSkipped() {
+        MultiplexedChannelRecord failed = record(failedConnection(), 10);
+        MultiplexedChannelRecord connecting = connectingRecord(10);
+        scheduler.addConnection(failed);
+        scheduler.addConnection(connecting);
+
+        assertThat(scheduler.leastLoadedConnection()).isSameAs(connecting);
+    }
+
+    @Test
+    public void drainingConnectionsAreSkipped() {
+        MultiplexedChannelRecord draining = connectingRecord(10);
+        MultiplexedChannelRecord connecting = connectingRecord(10);
+        scheduler.addConnection(draining);
+        scheduler.addConnection(connecting);
+
+        draining.drain();
+
+        assertThat(scheduler.leastLoadedConnection()).isSameAs(connecting);
+    }
+
+    @Test
+    public void removedConnectionsAreNoLongerTracked() {
+        MultiplexedChannelRecord record = connectingRecord(10);
+        scheduler.addConnection(record);
+
+        assertThat(scheduler.removeConnection(record)).isTrue();
+        scheduler.streamReleased(record);
+
+        assertThat(scheduler.connectionCount()).isEqualTo(0);
+        assertThat(record.activeStreams()).isEqualTo(0);
+        assertThat(scheduler.leastLoadedConnection()).isNull();
+    }
+
+    private void acquireStream() {
+        scheduler.streamAcquired(scheduler.leastLoadedConnection());
+    }
+
+    private MultiplexedChannelRecord connectingRecord(long maxStreams) {
+        @SuppressWarnings("unchecked")
+        Future<Channel> connectionFuture = mock(Future.class);
+        when(connectionFuture.isDone()).thenReturn(false);
+        return record(connectionFuture, maxStreams);
+    }
+
+    private Future<Channel> failedConnection() {
+        @SuppressWarnings("unchecked")
+        Future<Channel> connectionFuture = mock(Future.class);
+        when(connectionFuture.isDone()).thenReturn(true);
+        when(connectionFuture.isSuccess()).thenReturn(false);
+        return connectionFuture;
+    }
+
+    private MultiplexedChannelRecord record(Future<Channel> connectionFuture, long maxStreams) {
+        return new MultiplexedChannelRecord(connectionFuture, maxStreams, (channel, record) -> { });
+    }
+}
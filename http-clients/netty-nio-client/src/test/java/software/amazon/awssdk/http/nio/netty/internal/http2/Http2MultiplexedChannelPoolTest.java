@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import org.junit.Test;
+
+public class Http2MultiplexedChannelPoolTest {
+    private final ChannelPool connectionPool = mock(ChannelPool.class);
+    private final ChannelPool owner = mock(ChannelPool.class);
+
+    @Test
+    public void addedConnection_isReleasedToItsOwner() {
+        EmbeddedChannel connection = new EmbeddedChannel();
+        Http2MultiplexedChannelPool pool = new Http2MultiplexedChannelPool(connectionPool, connection.eventLoop(), 10, 1);
+
+        pool.addConnection(connection, owner);
+        pool.release(connection);
+
+        assertThat(connection.isOpen()).isFalse();
+        verify(owner).release(connection);
+        verify(connectionPool, never()).release(any());
+    }
+
+    @Test
+    public void addedConnectionBeyondMaxConnections_isClosedAndReleasedToItsOwner() {
+        EmbeddedChannel first = new EmbeddedChannel();
+        EmbeddedChannel second = new EmbeddedChannel();
+        Http2MultiplexedChannelPool pool = new Http2MultiplexedChannelPool(connectionPool, first.eventLoop(), 10, 1);
+
+        pool.addConnection(first, owner);
+        pool.addConnection(second, owner);
+
+        assertThat(first.isOpen()).isTrue();
+        assertThat(second.isOpen()).isFalse();
+        verify(owner).release(second);
+        verify(owner, never()).release(first);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.Http2PingFrame;
+import java.io.IOException;
+import org.junit.Test;
+
+public class Http2PingHandlerTest {
+    private static final long PING_PERIOD_MILLIS = 200;
+
+    private final Http2ConnectionMetricsCollector metrics = new Http2ConnectionMetricsCollector();
+    private final EmbeddedChannel channel = new EmbeddedChannel(new Http2PingHandler(PING_PERIOD_MILLIS, metrics));
+
+    @Test
+    public void pingIsSentEveryPeriod() throws InterruptedException {
+        runPingsDueAfter(PING_PERIOD_MILLIS * 3 / 2);
+
+        assertThat((Object) channel.readOutbound()).isInstanceOf(Http2PingFrame.class);
+        assertThat(metrics.pingsSent()).isEqualTo(1);
+    }
+
+    @Test
+    public void acknowledgedPingKeepsConnectionOpen() throws InterruptedException {
+        runPingsDueAfter(PING_PERIOD_MILLIS * 3 / 2);
+        Http2PingFrame ping = channel.readOutbound();
+        channel.writeInbound(pingAck(ping.content()));
+
+        runPingsDueAfter(PING_PERIOD_MILLIS);
+
+        channel.checkException();
+        assertThat(metrics.pingsSent()).isEqualTo(2);
+        assertThat(metrics.pingTimeouts()).isEqualTo(0);
+    }
+
+    @Test
+    public void unacknowledgedPingFailsConnection() throws InterruptedException {
+        runPingsDueAfter(PING_PERIOD_MILLIS * 3 / 2);
+
+        runPingsDueAfter(PING_PERIOD_MILLIS);
+
+        assertThatThrownBy(channel::checkException).isInstanceOf(IOException.class);
+        assertThat(metrics.pingTimeouts()).isEqualTo(1);
+    }
+
+    @Test
+    public void noPingIsSentAfterConnectionIsClosed() throws InterruptedException {
+        channel.close();
+
+        runPingsDueAfter(PING_PERIOD_MILLIS * 3 / 2);
+
+        assertThat(metrics.pingsSent()).isEqualTo(0);
+    }
+
+    private static Http2PingFrame pingAck(long content) {
+        Http2PingFrame ack = mock(Http2PingFrame.class);
+        when(ack.ack()).thenReturn(true);
+        when(ack.content()).thenReturn(content);
+        return ack;
+    }
+
+    private void runPingsDueAfter(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        channel.runScheduledPendingTasks();
+    }
+}
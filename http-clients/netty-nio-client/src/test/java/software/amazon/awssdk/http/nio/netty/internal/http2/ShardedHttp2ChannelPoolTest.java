@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Promise;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShardedHttp2ChannelPoolTest {
+    private final EventLoop firstEventLoop = mock(EventLoop.class);
+    private final EventLoop secondEventLoop = mock(EventLoop.class);
+    private final ChannelPool firstShard = mock(ChannelPool.class);
+    private final ChannelPool secondShard = mock(ChannelPool.class);
+
+    private ShardedHttp2ChannelPool pool;
+
+    @Before
+    public void setup() {
+        Map<EventLoop, ChannelPool> shards = new LinkedHashMap<>();
+        shards.put(firstEventLoop, firstShard);
+        shards.put(secondEventLoop, secondShard);
+        pool = new ShardedHttp2ChannelPool(shards);
+    }
+
+    @Test
+    public void acquiresAreSpreadAcrossShards() {
+        pool.acquire();
+        pool.acquire();
+        pool.acquire();
+
+        verify(firstShard, times(2)).acquire();
+        verify(secondShard, times(1)).acquire();
+    }
+
+    @Test
+    public void channelIsReleasedToShardOfItsEventLoop() {
+        Channel channel = mock(Channel.class);
+        when(channel.eventLoop()).thenReturn(secondEventLoop);
+        @SuppressWarnings("unchecked")
+        Promise<Void> promise = mock(Promise.class);
+
+        pool.release(channel, promise);
+
+        verify(secondShard).release(channel, promise);
+        verifyZeroInteractions(firstShard);
+    }
+
+    @Test
+    public void channelFromAnotherEventLoopIsNotReleased() {
+        Channel channel = mock(Channel.class);
+        when(channel.eventLoop()).thenReturn(mock(EventLoop.class));
+        @SuppressWarnings("unchecked")
+        Promise<Void> promise = mock(Promise.class);
+
+        assertThat(pool.release(channel, promise)).isSameAs(promise);
+
+        verify(promise).setFailure(any(IllegalArgumentException.class));
+        verifyZeroInteractions(firstShard, secondShard);
+    }
+
+    @Test
+    public void closeClosesAllShards() {
+        pool.close();
+
+        verify(firstShard).close();
+        verify(secondShard).close();
+    }
+}
@@ -19,6 +19,7 @@ import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.retry.AwsRetryPolicy;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
@@ -49,12 +50,14 @@ public final class DynamoDbRetryPolicy {
                                  .build();
 
     /**
-     * Default retry policy for DynamoDB.
+     * Default retry policy for DynamoDB. Uses the adaptive retry mode so that clients slow down to the provisioned
+     * throughput of a table when they see ProvisionedThroughputExceededException.
      */
     private static final RetryPolicy DEFAULT =
         AwsRetryPolicy.defaultRetryPolicy().toBuilder()
                       .numRetries(DEFAULT_MAX_ERROR_RETRY)
-                      .backoffStrategy(DEFAULT_BACKOFF_STRATEGY).build();
+                      .backoffStrategy(DEFAULT_BACKOFF_STRATEGY)
+                      .retryMode(RetryMode.ADAPTIVE).build();
 
     private DynamoDbRetryPolicy() {
 
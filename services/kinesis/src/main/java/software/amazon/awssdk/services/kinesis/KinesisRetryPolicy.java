@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.kinesis;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.retry.AwsRetryPolicy;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
 import software.amazon.awssdk.services.kinesis.model.SubscribeToShardRequest;
@@ -28,13 +29,15 @@ import software.amazon.awssdk.services.kinesis.model.SubscribeToShardRequest;
 public class KinesisRetryPolicy {
 
     /**
-     * Default retry policy for Kinesis. Turns off retries for SubscribeToShard
+     * Default retry policy for Kinesis. Turns off retries for SubscribeToShard and uses the adaptive retry mode so that
+     * clients slow down to the provisioned throughput of a stream.
      */
     private static final RetryPolicy DEFAULT =
         AwsRetryPolicy.defaultRetryPolicy().toBuilder()
                       .retryCondition(AndRetryCondition.create(
                           c -> !(c.originalRequest() instanceof SubscribeToShardRequest),
                           AwsRetryPolicy.defaultRetryCondition()))
+                      .retryMode(RetryMode.ADAPTIVE)
                       .build();
 
     private KinesisRetryPolicy() {
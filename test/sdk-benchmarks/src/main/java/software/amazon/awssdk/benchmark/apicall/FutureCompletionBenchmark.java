@@ -0,0 +1,129 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.benchmark.utils.CannedAsyncHttpClient;
+import software.amazon.awssdk.benchmark.utils.ProtocolFixture;
+import software.amazon.awssdk.benchmark.utils.ProtocolSuite;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
+import software.amazon.awssdk.core.client.config.FutureCompletionExecutors;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Measures the latency of an asynchronous API call with each way of completing the returned future. The canned HTTP client
+ * delivers the response on the calling thread, which stands in for the I/O thread, so the difference between the modes is the
+ * cost of handing the completion to another thread.
+ *
+ * <ul>
+ *     <li>{@code DIRECT} completes the future on the I/O thread with {@link FutureCompletionExecutors#direct()}.</li>
+ *     <li>{@code SHARED} completes it on the process-wide {@link FutureCompletionExecutors#shared()} pool, the default.</li>
+ *     <li>{@code PER_CLIENT_POOL} completes it on a thread pool owned by the client, like the SDK used to by default.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FutureCompletionBenchmark {
+
+    public enum CompletionMode {
+        DIRECT, SHARED, PER_CLIENT_POOL
+    }
+
+    @Param({"DIRECT", "SHARED", "PER_CLIENT_POOL"})
+    public CompletionMode completionMode;
+
+    @Param({"JSON_RPC"})
+    public ProtocolSuite protocol;
+
+    @Param({"AllTypes"})
+    public String operation;
+
+    private CannedAsyncHttpClient httpClient;
+    private ExecutorService perClientPool;
+    private SdkClient client;
+    private Method operationMethod;
+    private Object emptyRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ProtocolFixture fixture = ProtocolFixture.load(protocol);
+
+        httpClient = new CannedAsyncHttpClient();
+        httpClient.stubResponse(fixture.emptyResponse());
+        ClientAsyncConfiguration asyncConfiguration =
+            ClientAsyncConfiguration.builder()
+                                    .advancedOption(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, completionExecutor())
+                                    .build();
+        client = fixture.createAsyncClient(httpClient, asyncConfiguration);
+        operationMethod = fixture.asyncOperationMethod(operation);
+        emptyRequest = fixture.emptyRequest(operation);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        httpClient.close();
+        if (perClientPool != null) {
+            perClientPool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Object asyncCall() throws Exception {
+        return ((CompletableFuture<?>) operationMethod.invoke(client, emptyRequest)).join();
+    }
+
+    private Executor completionExecutor() {
+        switch (completionMode) {
+            case DIRECT:
+                return FutureCompletionExecutors.direct();
+            case SHARED:
+                return FutureCompletionExecutors.shared();
+            case PER_CLIENT_POOL:
+                perClientPool = new ThreadPoolExecutor(0, 50, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(10_000),
+                                                       new ThreadFactoryBuilder().threadNamePrefix("sdk-async-response")
+                                                                                 .build());
+                return perClientPool;
+            default:
+                throw new IllegalStateException("Unknown completion mode: " + completionMode);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.benchmark.utils.CannedHttpClient;
+import software.amazon.awssdk.benchmark.utils.CannedHttpClient.CannedResponse;
+import software.amazon.awssdk.benchmark.utils.ProtocolFixture;
+import software.amazon.awssdk.benchmark.utils.ProtocolSuite;
+import software.amazon.awssdk.core.SdkClient;
+
+/**
+ * Measures complete synchronous API calls (marshalling, signing, the request pipeline and unmarshalling) of the clients
+ * generated for the protocol tests, against an in-memory HTTP client.
+ *
+ * <p>{@link #marshall()} cycles through the requests of every marshalling test case of {@link #operation} and receives an
+ * empty response, {@link #unmarshall()} sends an empty request and cycles through the responses of every successful
+ * unmarshalling test case. Any operation without streaming members can be selected with {@code -p operation=<name>}.</p>
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProtocolApiCallBenchmark {
+
+    @Param({"JSON_RPC", "REST_JSON", "QUERY", "EC2", "REST_XML"})
+    public ProtocolSuite protocol;
+
+    @Param({"AllTypes"})
+    public String operation;
+
+    private CannedHttpClient httpClient;
+    private SdkClient client;
+    private Method operationMethod;
+
+    private Object[] requests;
+    private CannedResponse emptyResponse;
+    private int requestIndex;
+
+    private Object emptyRequest;
+    private CannedResponse[] responses;
+    private int responseIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ProtocolFixture fixture = ProtocolFixture.load(protocol);
+        httpClient = new CannedHttpClient();
+        client = fixture.createClient(httpClient);
+        operationMethod = fixture.operationMethod(operation);
+
+        requests = nonEmpty(fixture.requests(operation), "marshalling").toArray();
+        emptyResponse = fixture.emptyResponse();
+
+        emptyRequest = fixture.emptyRequest(operation);
+        responses = nonEmpty(fixture.responses(operation), "unmarshalling").toArray(new CannedResponse[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        httpClient.close();
+    }
+
+    @Benchmark
+    public Object marshall() throws Exception {
+        httpClient.stubResponse(emptyResponse);
+        Object request = requests[requestIndex];
+        requestIndex = (requestIndex + 1) % requests.length;
+        return operationMethod.invoke(client, request);
+    }
+
+    @Benchmark
+    public Object unmarshall() throws Exception {
+        httpClient.stubResponse(responses[responseIndex]);
+        responseIndex = (responseIndex + 1) % responses.length;
+        return operationMethod.invoke(client, emptyRequest);
+    }
+
+    private <T> List<T> nonEmpty(List<T> fixtures, String kind) {
+        if (fixtures.isEmpty()) {
+            throw new IllegalStateException("The " + protocol + " suite has no " + kind + " test cases for " + operation);
+        }
+        return fixtures;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.benchmark.utils.CannedAsyncHttpClient;
+import software.amazon.awssdk.benchmark.utils.CannedHttpClient;
+import software.amazon.awssdk.benchmark.utils.ProtocolFixture;
+import software.amazon.awssdk.benchmark.utils.ProtocolSuite;
+import software.amazon.awssdk.core.SdkClient;
+
+/**
+ * Measures the fixed cost of an API call: an operation is invoked with an empty request and receives an empty response, so
+ * the time and allocations are dominated by the request pipeline, interceptors and signing rather than by marshalling.
+ * Compare {@code gc.alloc.rate.norm} across changes to the pipeline to see the per-request allocation.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestPipelineBenchmark {
+
+    @Param({"JSON_RPC"})
+    public ProtocolSuite protocol;
+
+    @Param({"AllTypes"})
+    public String operation;
+
+    private CannedHttpClient httpClient;
+    private SdkClient client;
+    private Method operationMethod;
+
+    private CannedAsyncHttpClient asyncHttpClient;
+    private SdkClient asyncClient;
+    private Method asyncOperationMethod;
+
+    private Object emptyRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ProtocolFixture fixture = ProtocolFixture.load(protocol);
+
+        httpClient = new CannedHttpClient();
+        httpClient.stubResponse(fixture.emptyResponse());
+        client = fixture.createClient(httpClient);
+        operationMethod = fixture.operationMethod(operation);
+
+        asyncHttpClient = new CannedAsyncHttpClient();
+        asyncHttpClient.stubResponse(fixture.emptyResponse());
+        asyncClient = fixture.createAsyncClient(asyncHttpClient);
+        asyncOperationMethod = fixture.asyncOperationMethod(operation);
+
+        emptyRequest = fixture.emptyRequest(operation);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        httpClient.close();
+        asyncClient.close();
+        asyncHttpClient.close();
+    }
+
+    @Benchmark
+    public Object syncCall() throws Exception {
+        return operationMethod.invoke(client, emptyRequest);
+    }
+
+    @Benchmark
+    public Object asyncCall() throws Exception {
+        return ((CompletableFuture<?>) asyncOperationMethod.invoke(asyncClient, emptyRequest)).join();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.netty;
+
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http2.ForkedHttp2MultiplexCodecBuilder;
+import io.netty.handler.codec.http2.Http2Settings;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPipelineInitializer;
+import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ConnectionMetricsCollector;
+import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Measures how many HTTP/2 streams to a single endpoint can be acquired from and released back to the Netty client's channel
+ * pool each second, by many threads at once, for a range of event loop group sizes. The HTTP/2 pool has a shard for each
+ * event loop, so the throughput is expected to grow with the number of event loops, up to the number of cores.
+ *
+ * <p>The server is an HTTP/2 server on the loopback interface that only negotiates the connections. Acquiring a stream
+ * opens a stream channel without sending any frames, so the result is the cost of the pool's own bookkeeping.</p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(32)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Http2StreamAcquireBenchmark {
+    private static final long MAX_STREAMS = 1_000;
+    private static final int MAX_CONCURRENCY = 10_000;
+    private static final long HEALTH_CHECK_PING_PERIOD_MILLIS = 5_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int eventLoops;
+
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private SdkEventLoopGroup clientGroup;
+    private ChannelPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup)
+                                             .channel(NioServerSocketChannel.class)
+                                             .childHandler(new Http2ServerInitializer())
+                                             .bind(InetAddress.getLoopbackAddress(), 0)
+                                             .sync()
+                                             .channel();
+
+        clientGroup = SdkEventLoopGroup.builder().numberOfThreads(eventLoops).build();
+        Bootstrap bootstrap = new Bootstrap().group(clientGroup.eventLoopGroup())
+                                             .channelFactory(clientGroup.channelFactory())
+                                             .remoteAddress(InetAddress.getLoopbackAddress(),
+                                                            ((InetSocketAddress) serverChannel.localAddress()).getPort());
+        AtomicReference<ChannelPool> poolRef = new AtomicReference<>();
+        ChannelPipelineInitializer handler =
+            new ChannelPipelineInitializer(Protocol.HTTP2, null, MAX_STREAMS, HEALTH_CHECK_PING_PERIOD_MILLIS,
+                                           new Http2ConnectionMetricsCollector(), poolRef);
+        NettyConfiguration configuration =
+            new NettyConfiguration(AttributeMap.builder()
+                                               .put(MAX_PENDING_CONNECTION_ACQUIRES, MAX_CONCURRENCY)
+                                               .build()
+                                               .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        pool = new HttpOrHttp2ChannelPool(bootstrap, handler, MAX_CONCURRENCY, Integer.MAX_VALUE, configuration);
+        poolRef.set(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pool.close();
+        clientGroup.eventLoopGroup().shutdownGracefully().sync();
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully().sync();
+    }
+
+    @Benchmark
+    public void acquireAndReleaseStream() throws Exception {
+        Channel stream = pool.acquire().get();
+        pool.release(stream).get();
+    }
+
+    private static final class Http2ServerInitializer extends ChannelInitializer<Channel> {
+        @Override
+        protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(ForkedHttp2MultiplexCodecBuilder
+                                      .forServer(new NoOpChannelInitializer())
+                                      .initialSettings(Http2Settings.defaultSettings().maxConcurrentStreams(MAX_STREAMS))
+                                      .build());
+        }
+    }
+
+    private static final class NoOpChannelInitializer extends ChannelInitializer<Channel> {
+        @Override
+        protected void initChannel(Channel ch) {
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.netty;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.SdkRequestContext;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import software.amazon.awssdk.http.async.SimpleSubscriber;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+
+/**
+ * Measures how many HTTP/1.1 requests the Netty client completes each second over each {@link SdkEventLoopGroup.Transport},
+ * from many threads at once. Each request is a GET that receives an empty response, so the result is dominated by the
+ * per-request cost of the client and of its transport rather than by the payload.
+ *
+ * <p>The server is an HTTP/1.1 server on the loopback interface. It always uses the NIO transport, so only the client's transport
+ * changes between trials. The epoll transport is only available on Linux; elsewhere its trials fail to set up.</p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(16)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NettyTransportBenchmark {
+    private static final int MAX_CONCURRENCY = 64;
+
+    @Param({"NIO", "EPOLL"})
+    public SdkEventLoopGroup.Transport transport;
+
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private SdkAsyncHttpClient client;
+    private SdkHttpFullRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException {
+        serverGroup = new NioEventLoopGroup();
+        serverChannel = new ServerBootstrap().group(serverGroup)
+                                             .channel(NioServerSocketChannel.class)
+                                             .childHandler(new HttpServerInitializer())
+                                             .bind(InetAddress.getLoopbackAddress(), 0)
+                                             .sync()
+                                             .channel();
+
+        client = NettyNioAsyncHttpClient.builder()
+                                        .eventLoopGroupBuilder(SdkEventLoopGroup.builder().transport(transport))
+                                        .maxConcurrency(MAX_CONCURRENCY)
+                                        .build();
+
+        InetSocketAddress address = (InetSocketAddress) serverChannel.localAddress();
+        request = SdkHttpFullRequest.builder()
+                                    .protocol("http")
+                                    .host(address.getHostString())
+                                    .port(address.getPort())
+                                    .method(SdkHttpMethod.GET)
+                                    .encodedPath("/")
+                                    .putHeader("Host", address.getHostString())
+                                    .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        client.close();
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully().sync();
+    }
+
+    @Benchmark
+    public void sendRequest() throws Exception {
+        CompletingResponseHandler handler = new CompletingResponseHandler();
+        client.prepareRequest(request, SdkRequestContext.builder().build(), new EmptyRequestProvider(), handler).run();
+        handler.future.get();
+    }
+
+    private static final class HttpServerInitializer extends ChannelInitializer<Channel> {
+        @Override
+        protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new HttpServerCodec());
+            ch.pipeline().addLast(new HttpObjectAggregator(1024));
+            ch.pipeline().addLast(new EmptyResponseHandler());
+        }
+    }
+
+    private static final class EmptyResponseHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) {
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, 0);
+            ctx.writeAndFlush(response);
+        }
+    }
+
+    private static final class EmptyRequestProvider implements SdkHttpRequestProvider {
+        @Override
+        public long contentLength() {
+            return 0;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    s.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    private static final class CompletingResponseHandler implements SdkHttpResponseHandler<Void> {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        @Override
+        public void headersReceived(SdkHttpResponse response) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> publisher) {
+            publisher.subscribe(new SimpleSubscriber(b -> { }));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+
+        @Override
+        public Void complete() {
+            future.complete(null);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.awscore.internal.protocol.json.AwsJsonProtocol;
+import software.amazon.awssdk.awscore.protocol.json.AwsJsonProtocolFactory;
+import software.amazon.awssdk.awscore.protocol.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.benchmark.utils.ProtocolFixture;
+import software.amazon.awssdk.benchmark.utils.ProtocolSuite;
+import software.amazon.awssdk.core.Request;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.protocol.json.JsonClientMetadata;
+import software.amazon.awssdk.core.protocol.json.JsonOperationMetadata;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.services.protocoljsonrpc.model.AllTypesRequest;
+import software.amazon.awssdk.services.protocoljsonrpc.model.AllTypesResponse;
+import software.amazon.awssdk.services.protocoljsonrpc.model.ProtocolJsonRpcException;
+import software.amazon.awssdk.services.protocoljsonrpc.transform.AllTypesRequestMarshaller;
+import software.amazon.awssdk.services.protocoljsonrpc.transform.AllTypesResponseUnmarshaller;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Measures the generated JSON RPC marshaller and unmarshaller of the {@code AllTypes} operation over each wire format the
+ * JSON protocol factory supports: plain JSON ({@code JsonProtocolMarshaller} and {@code JsonUnmarshallerContextImpl}), CBOR
+ * ({@code SdkCborGenerator}) and binary Ion ({@code IonParser}).
+ *
+ * <p>Requests are built from the marshalling test cases of the JSON RPC suite. Since {@code AllTypes} uses the same shape
+ * for input and output, the unmarshalled payloads are the marshalled requests, which keeps them valid for every format.</p>
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonWireFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "ION"})
+    public WireFormat wireFormat;
+
+    private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+
+    private AllTypesRequestMarshaller marshaller;
+    private HttpResponseHandler<AllTypesResponse> responseHandler;
+
+    private AllTypesRequest[] requests;
+    private int requestIndex;
+
+    private byte[][] payloads;
+    private int payloadIndex;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        AwsJsonProtocolFactory protocolFactory = wireFormat.createProtocolFactory();
+        marshaller = new AllTypesRequestMarshaller(protocolFactory);
+        responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                                                                        .withPayloadJson(true)
+                                                                        .withHasStreamingSuccessResponse(false),
+                                                                new AllTypesResponseUnmarshaller());
+
+        List<Object> fixtures = ProtocolFixture.load(ProtocolSuite.JSON_RPC).requests("AllTypes");
+        requests = fixtures.toArray(new AllTypesRequest[0]);
+        payloads = new byte[requests.length][];
+        for (int i = 0; i < requests.length; i++) {
+            payloads[i] = IoUtils.toByteArray(marshaller.marshall(requests[i]).getContent());
+        }
+    }
+
+    @Benchmark
+    public Request<AllTypesRequest> marshall() {
+        AllTypesRequest request = requests[requestIndex];
+        requestIndex = (requestIndex + 1) % requests.length;
+        return marshaller.marshall(request);
+    }
+
+    @Benchmark
+    public AllTypesResponse unmarshall() throws Exception {
+        byte[] payload = payloads[payloadIndex];
+        payloadIndex = (payloadIndex + 1) % payloads.length;
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(
+                                                                  new ByteArrayInputStream(payload)))
+                                                          .build();
+        return responseHandler.handle(response, executionAttributes);
+    }
+
+    public enum WireFormat {
+        JSON(false, false),
+        CBOR(true, false),
+        ION(false, true);
+
+        private final boolean cbor;
+        private final boolean ion;
+
+        WireFormat(boolean cbor, boolean ion) {
+            this.cbor = cbor;
+            this.ion = ion;
+        }
+
+        AwsJsonProtocolFactory createProtocolFactory() {
+            return new AwsJsonProtocolFactory(new JsonClientMetadata()
+                                                      .withSupportsCbor(cbor)
+                                                      .withSupportsIon(ion)
+                                                      .withBaseServiceExceptionClass(ProtocolJsonRpcException.class),
+                                              AwsJsonProtocolMetadata.builder()
+                                                                     .protocolVersion("1.1")
+                                                                     .protocol(AwsJsonProtocol.AWS_JSON)
+                                                                     .build());
+        }
+    }
+}
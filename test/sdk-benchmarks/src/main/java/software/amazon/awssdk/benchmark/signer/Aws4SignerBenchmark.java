@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures SigV4 signing and pre-signing of a representative JSON request with {@link Aws4Signer}. Run with the GC profiler
+ * (the default in {@code BenchmarkRunner}) to see the bytes allocated per signature.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Aws4SignerBenchmark {
+
+    private static final String PAYLOAD = "{\"TableName\":\"benchmark\",\"Key\":{\"id\":{\"S\":\"1234567890\"}}}";
+    private static final String INVOCATION_ID = "3c9f6a4e-7d5b-4c1e-9a0f-2b8d1e6c5a70";
+
+    /**
+     * The number of extra {@code x-amz-meta-*} headers to sign on top of the usual ones.
+     */
+    @Param({"0", "10"})
+    public int extraHeaders;
+
+    private final Aws4Signer signer = Aws4Signer.create();
+
+    private SdkHttpFullRequest request;
+    private Aws4SignerParams signerParams;
+    private Aws4PresignerParams presignerParams;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] body = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        SdkHttpFullRequest.Builder builder = SdkHttpFullRequest.builder()
+                                                               .method(SdkHttpMethod.POST)
+                                                               .protocol("https")
+                                                               .host("dynamodb.us-east-1.amazonaws.com")
+                                                               .encodedPath("/")
+                                                               .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                                               .putHeader("Content-Length", String.valueOf(body.length))
+                                                               .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                                               .putHeader("User-Agent", "aws-sdk-java/2.0.0")
+                                                               .putHeader("amz-sdk-invocation-id", INVOCATION_ID)
+                                                               .putHeader("Connection", "keep-alive")
+                                                               .content(new ByteArrayInputStream(body));
+        for (int i = 0; i < extraHeaders; i++) {
+            builder.putHeader("X-Amz-Meta-Header" + i, "  value   with  spaces " + i);
+        }
+        request = builder.build();
+
+        AwsBasicCredentials credentials = AwsBasicCredentials.create("akid", "skid");
+        signerParams = Aws4SignerParams.builder()
+                                       .awsCredentials(credentials)
+                                       .signingName("dynamodb")
+                                       .signingRegion(Region.US_EAST_1)
+                                       .build();
+        presignerParams = Aws4PresignerParams.builder()
+                                             .awsCredentials(credentials)
+                                             .signingName("dynamodb")
+                                             .signingRegion(Region.US_EAST_1)
+                                             .build();
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest sign() {
+        return signer.sign(request, signerParams);
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest presign() {
+        return signer.presign(request, presignerParams);
+    }
+}
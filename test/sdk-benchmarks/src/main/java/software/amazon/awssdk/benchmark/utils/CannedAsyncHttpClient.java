@@ -0,0 +1,112 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.util.Optional;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.benchmark.utils.CannedHttpClient.CannedResponse;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkRequestContext;
+import software.amazon.awssdk.http.async.AbortableRunnable;
+import software.amazon.awssdk.http.async.RefCountedByteBuffer;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpRequestProvider;
+import software.amazon.awssdk.http.async.SdkHttpResponseHandler;
+import software.amazon.awssdk.http.async.SimpleSubscriber;
+
+/**
+ * Asynchronous counterpart of {@link CannedHttpClient}. Requests are executed on the calling thread: the request body is
+ * drained and the currently stubbed response is delivered to the response handler before {@link AbortableRunnable#run()}
+ * returns.
+ *
+ * <p>Each benchmark thread owns its own instance, so stubbing is not synchronized.</p>
+ */
+public final class CannedAsyncHttpClient implements SdkAsyncHttpClient {
+
+    private CannedResponse response = CannedResponse.ok(new byte[0]);
+
+    /**
+     * Sets the response that will be returned for every following request.
+     */
+    public void stubResponse(CannedResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public AbortableRunnable prepareRequest(SdkHttpRequest request,
+                                            SdkRequestContext context,
+                                            SdkHttpRequestProvider requestProvider,
+                                            SdkHttpResponseHandler handler) {
+        CannedResponse stubbed = this.response;
+        return new AbortableRunnable() {
+            @Override
+            public void run() {
+                if (requestProvider != null) {
+                    // Discard, only the cost of producing the body is of interest.
+                    requestProvider.subscribe(new SimpleSubscriber(b -> { }));
+                }
+                handler.headersReceived(stubbed.toHttpResponseWithoutContent());
+                handler.onSharedStream(new SingleBufferPublisher(stubbed));
+                handler.complete();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public <T> Optional<T> getConfigurationValue(SdkHttpConfigurationOption<T> key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static final class SingleBufferPublisher implements Publisher<RefCountedByteBuffer> {
+        private final CannedResponse response;
+
+        private SingleBufferPublisher(CannedResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super RefCountedByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (!done) {
+                        done = true;
+                        subscriber.onNext(RefCountedByteBuffer.wrap(response.body()));
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+}
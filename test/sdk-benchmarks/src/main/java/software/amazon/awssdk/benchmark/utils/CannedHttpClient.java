@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.http.AbortableCallable;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkRequestContext;
+
+/**
+ * {@link SdkHttpClient} that never touches the network. Every request body is drained (so the cost of producing it is
+ * measured) and the currently stubbed response is returned.
+ *
+ * <p>Each benchmark thread owns its own instance, so stubbing is not synchronized.</p>
+ */
+public final class CannedHttpClient implements SdkHttpClient {
+
+    private final byte[] drainBuffer = new byte[8192];
+    private CannedResponse response = CannedResponse.ok(new byte[0]);
+
+    /**
+     * Sets the response that will be returned for every following request.
+     */
+    public void stubResponse(CannedResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public AbortableCallable<SdkHttpFullResponse> prepareRequest(SdkHttpFullRequest request,
+                                                                 SdkRequestContext requestContext) {
+        CannedResponse stubbed = this.response;
+        return new AbortableCallable<SdkHttpFullResponse>() {
+            @Override
+            public SdkHttpFullResponse call() {
+                request.content().ifPresent(CannedHttpClient.this::drain);
+                return stubbed.toHttpResponse();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public <T> Optional<T> getConfigurationValue(SdkHttpConfigurationOption<T> key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void drain(InputStream content) {
+        try {
+            while (content.read(drainBuffer) != -1) {
+                // Discard, only the cost of producing the body is of interest.
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * An immutable HTTP response that can be replayed any number of times.
+     */
+    public static final class CannedResponse {
+        private final int statusCode;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        public CannedResponse(int statusCode, Map<String, List<String>> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body.clone();
+        }
+
+        public static CannedResponse ok(byte[] body) {
+            return new CannedResponse(200, Collections.emptyMap(), body);
+        }
+
+        SdkHttpFullResponse toHttpResponse() {
+            return SdkHttpFullResponse.builder()
+                                      .statusCode(statusCode)
+                                      .headers(headers)
+                                      .content(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                                      .build();
+        }
+
+        SdkHttpFullResponse toHttpResponseWithoutContent() {
+            return SdkHttpFullResponse.builder()
+                                      .statusCode(statusCode)
+                                      .headers(headers)
+                                      .build();
+        }
+
+        ByteBuffer body() {
+            return ByteBuffer.wrap(body).asReadOnlyBuffer();
+        }
+    }
+}
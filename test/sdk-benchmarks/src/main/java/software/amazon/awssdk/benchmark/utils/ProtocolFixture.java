@@ -0,0 +1,234 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.benchmark.utils.CannedHttpClient.CannedResponse;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.client.builder.SdkAsyncClientBuilder;
+import software.amazon.awssdk.core.client.builder.SdkSyncClientBuilder;
+import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
+import software.amazon.awssdk.http.HttpStatusFamily;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.protocol.ProtocolTestSuiteLoader;
+import software.amazon.awssdk.protocol.model.GivenResponse;
+import software.amazon.awssdk.protocol.model.TestCase;
+import software.amazon.awssdk.protocol.model.WhenAction;
+import software.amazon.awssdk.protocol.reflect.ShapeModelReflector;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Turns the test cases of a protocol test suite into inputs for benchmarks: request objects built from the marshalling
+ * cases and canned HTTP responses taken from the (successful) unmarshalling cases. New test cases added to the suites are
+ * picked up automatically.
+ */
+public final class ProtocolFixture {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(JsonParser.Feature.ALLOW_COMMENTS);
+
+    private final IntermediateModel model;
+    private final List<TestCase> testCases;
+
+    private ProtocolFixture(IntermediateModel model, List<TestCase> testCases) {
+        this.model = model;
+        this.testCases = testCases;
+    }
+
+    public static ProtocolFixture load(ProtocolSuite suite) {
+        try {
+            IntermediateModel model = MAPPER.readValue(ProtocolFixture.class.getResource(suite.intermediateModelLocation()),
+                                                       IntermediateModel.class);
+            return new ProtocolFixture(model, new ProtocolTestSuiteLoader().load(suite.suitePath()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public IntermediateModel model() {
+        return model;
+    }
+
+    /**
+     * Creates a synchronous client for the suite's service that sends every request to the given HTTP client.
+     */
+    public SdkClient createClient(SdkHttpClient httpClient) {
+        return createClient(model.getMetadata().getSyncInterface(),
+                            builder -> ((SdkSyncClientBuilder<?, ?>) builder).httpClient(httpClient));
+    }
+
+    /**
+     * Creates an asynchronous client for the suite's service that sends every request to the given HTTP client.
+     */
+    public SdkClient createAsyncClient(SdkAsyncHttpClient httpClient) {
+        return createClient(model.getMetadata().getAsyncInterface(),
+                            builder -> ((SdkAsyncClientBuilder<?, ?>) builder).httpClient(httpClient));
+    }
+
+    /**
+     * Creates an asynchronous client for the suite's service that sends every request to the given HTTP client and uses the
+     * given async configuration.
+     */
+    public SdkClient createAsyncClient(SdkAsyncHttpClient httpClient, ClientAsyncConfiguration asyncConfiguration) {
+        return createClient(model.getMetadata().getAsyncInterface(),
+                            builder -> ((SdkAsyncClientBuilder<?, ?>) builder).httpClient(httpClient)
+                                                                             .asyncConfiguration(asyncConfiguration));
+    }
+
+    /**
+     * @return The synchronous client method that invokes the given operation with a single request object.
+     */
+    public Method operationMethod(String operationName) {
+        return operationMethod(model.getMetadata().getSyncInterface(), operationName);
+    }
+
+    /**
+     * @return The asynchronous client method that invokes the given operation with a single request object.
+     */
+    public Method asyncOperationMethod(String operationName) {
+        return operationMethod(model.getMetadata().getAsyncInterface(), operationName);
+    }
+
+    private SdkClient createClient(String interfaceName, Consumer<Object> httpClientConfigurer) {
+        try {
+            Class<?> interfaceClass = Class.forName(clientFqcn(interfaceName));
+            Object builder = interfaceClass.getMethod("builder").invoke(null);
+            httpClientConfigurer.accept(builder);
+            AwsClientBuilder<?, ?> awsBuilder = (AwsClientBuilder<?, ?>) builder;
+            awsBuilder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")));
+            awsBuilder.region(Region.US_EAST_1);
+            awsBuilder.endpointOverride(URI.create("http://localhost"));
+            return (SdkClient) awsBuilder.build();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create client for " + model.getMetadata().getServiceName(), e);
+        }
+    }
+
+    private Method operationMethod(String interfaceName, String operationName) {
+        OperationModel operation = operation(operationName);
+        try {
+            Class<?> interfaceClass = Class.forName(clientFqcn(interfaceName));
+            return interfaceClass.getMethod(operation.getMethodName(), requestClass(operation));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to find client method for " + operationName, e);
+        }
+    }
+
+    /**
+     * @return One request object per marshalling test case of the operation.
+     */
+    public List<Object> requests(String operationName) {
+        operation(operationName);
+        return casesFor(WhenAction.MARSHALL, operationName)
+                .map(c -> new ShapeModelReflector(model, operationName + "Request", c.getGiven().getInput())
+                        .createShapeObject())
+                .collect(toList());
+    }
+
+    /**
+     * @return A request object with no members set, suitable for exercising the response path of the operation.
+     */
+    public Object emptyRequest(String operationName) {
+        operation(operationName);
+        return new ShapeModelReflector(model, operationName + "Request", null).createShapeObject();
+    }
+
+    /**
+     * @return One canned response per successful unmarshalling test case of the operation.
+     */
+    public List<CannedResponse> responses(String operationName) {
+        operation(operationName);
+        return casesFor(WhenAction.UNMARSHALL, operationName)
+                .map(c -> c.getGiven().getResponse())
+                .filter(r -> r.getStatusCode() == null
+                             || HttpStatusFamily.of(r.getStatusCode()) == HttpStatusFamily.SUCCESSFUL)
+                .map(this::toCannedResponse)
+                .collect(toList());
+    }
+
+    /**
+     * @return A successful response with the smallest body the protocol's unmarshallers accept.
+     */
+    public CannedResponse emptyResponse() {
+        return CannedResponse.ok(emptyBody().getBytes(UTF_8));
+    }
+
+    private Stream<TestCase> casesFor(WhenAction action, String operationName) {
+        return testCases.stream()
+                        .filter(c -> c.getWhen().getAction() == action)
+                        .filter(c -> operationName.equals(c.getWhen().getOperationName()));
+    }
+
+    private CannedResponse toCannedResponse(GivenResponse response) {
+        Map<String, List<String>> headers = new HashMap<>();
+        if (response.getHeaders() != null) {
+            response.getHeaders().forEach((k, v) -> headers.put(k, singletonList(v)));
+        }
+        String body = response.getBody() != null ? response.getBody() : emptyBody();
+        int statusCode = response.getStatusCode() != null ? response.getStatusCode() : 200;
+        return new CannedResponse(statusCode, headers, body.getBytes(UTF_8));
+    }
+
+    private String emptyBody() {
+        // XML unmarshallers expect at least one level in the document, see UnmarshallingTestRunner.
+        return model.getMetadata().isXmlProtocol() ? "<foo></foo>" : "{}";
+    }
+
+    private OperationModel operation(String operationName) {
+        OperationModel operation = model.getOperations().get(operationName);
+        if (operation == null) {
+            throw new IllegalArgumentException(operationName + " is not an operation of "
+                                               + model.getMetadata().getServiceName());
+        }
+        if (model.getShapes().get(operationName + "Request").isHasStreamingMember()
+            || model.getShapes().get(operationName + "Response").isHasStreamingMember()) {
+            throw new IllegalArgumentException("Streaming operations are not supported: " + operationName);
+        }
+        return operation;
+    }
+
+    private Class<?> requestClass(OperationModel operation) throws ClassNotFoundException {
+        return Class.forName(String.format("%s.%s", model.getMetadata().getFullModelPackageName(),
+                                           operation.getInput().getVariableType()));
+    }
+
+    private String clientFqcn(String simpleClassName) {
+        return String.format("%s.%s", model.getMetadata().getFullClientPackageName(), simpleClassName);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.utils;
+
+/**
+ * The protocol test suites (and the intermediate models of the clients generated for them) that the benchmarks replay.
+ */
+public enum ProtocolSuite {
+    JSON_RPC("/models/jsonrpc-2016-03-11-intermediate.json", "jsonrpc-suite.json"),
+    REST_JSON("/models/restjson-2016-03-11-intermediate.json", "restjson-suite.json"),
+    QUERY("/models/query-2016-03-11-intermediate.json", "query-suite.json"),
+    EC2("/models/ec2-2016-03-11-intermediate.json", "ec2-suite.json"),
+    REST_XML("/models/restxml-2016-03-11-intermediate.json", "restxml-suite.json");
+
+    private final String intermediateModelLocation;
+    private final String suitePath;
+
+    ProtocolSuite(String intermediateModelLocation, String suitePath) {
+        this.intermediateModelLocation = intermediateModelLocation;
+        this.suitePath = suitePath;
+    }
+
+    public String intermediateModelLocation() {
+        return intermediateModelLocation;
+    }
+
+    public String suitePath() {
+        return suitePath;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link ByteArrayInputStream} whose remaining content can be viewed as a {@link ByteBuffer} without being read or copied.
+ * Used for request bodies that are already marshalled into memory, so that they can be handed to an asynchronous HTTP client
+ * as they are.
+ */
+@SdkProtectedApi
+public class ByteArrayBackedInputStream extends ByteArrayInputStream {
+
+    public ByteArrayBackedInputStream(byte[] buf) {
+        super(buf);
+    }
+
+    public ByteArrayBackedInputStream(byte[] buf, int offset, int length) {
+        super(buf, offset, length);
+    }
+
+    /**
+     * Returns a read-only view of the bytes that have not been read from this stream yet. The view shares the stream's
+     * array, and reading from it does not advance the stream.
+     */
+    public synchronized ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, pos, count - pos).slice().asReadOnlyBuffer();
+    }
+}
@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.utils;
 
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 
@@ -24,7 +23,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
  * string as UTF-8 data, and still allows access to the original string.
  */
 @SdkProtectedApi
-public class StringInputStream extends ByteArrayInputStream {
+public class StringInputStream extends ByteArrayBackedInputStream {
 
     private final String string;
 
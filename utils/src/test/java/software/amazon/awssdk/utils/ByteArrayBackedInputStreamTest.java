@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ByteArrayBackedInputStreamTest {
+
+    @Test
+    public void asByteBufferViewsRemainingContent() throws Exception {
+        byte[] content = "hello world".getBytes(StandardCharsets.UTF_8);
+        ByteArrayBackedInputStream stream = new ByteArrayBackedInputStream(content);
+        assertThat(stream.skip(6)).isEqualTo(6);
+
+        ByteBuffer buffer = stream.asByteBuffer();
+
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(buffer).toString()).isEqualTo("world");
+        assertThat(stream.available()).isEqualTo(5);
+    }
+
+    @Test
+    public void asByteBufferSharesTheArray() {
+        byte[] content = {1, 2, 3};
+        ByteBuffer buffer = new ByteArrayBackedInputStream(content, 1, 2).asByteBuffer();
+        content[2] = 42;
+
+        assertThat(buffer.remaining()).isEqualTo(2);
+        assertThat(buffer.get(1)).isEqualTo((byte) 42);
+    }
+}